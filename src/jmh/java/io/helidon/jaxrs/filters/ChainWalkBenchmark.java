@@ -0,0 +1,99 @@
+package io.helidon.jaxrs.filters;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of walking the request filter chain.
+ *
+ * <p>{@code entries} is the loop {@link JaxRsFilter} used before chains were compiled: every
+ * {@link FilterContext.FilterEntry} is checked against the (always empty) method bindings.
+ * {@code compiled} walks the array of a {@link CompiledFilterChain}. Every fourth filter
+ * is name-bound, so it is checked and skipped by the first and absent from the second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChainWalkBenchmark {
+
+    private static final Set<String> NO_BINDINGS = Set.of();
+
+    @Param({"1", "4", "16"})
+    private int filters;
+
+    private FilterContext filterContext;
+    private CompiledFilterChain chain;
+
+    /**
+     * Register the filters and compile the chain.
+     */
+    @Setup
+    public void setup() {
+        filterContext = new FilterContext();
+        for (int i = 0; i < filters; i++) {
+            if (i % 4 == 3) {
+                filterContext.addRequestFilter(new CountingFilter(), Set.of("binding"));
+            } else {
+                filterContext.addRequestFilter(new CountingFilter());
+            }
+        }
+        chain = filterContext.compile(NO_BINDINGS);
+    }
+
+    /**
+     * Walk the mutable entry list, matching bindings per request.
+     *
+     * @param blackhole result sink
+     * @throws Exception never
+     */
+    @Benchmark
+    public void entries(Blackhole blackhole) throws Exception {
+        for (FilterContext.FilterEntry<ContainerRequestFilter> entry : filterContext.getRequestFiltersWithBindings()) {
+            if (entry.matches(NO_BINDINGS)) {
+                entry.filter().filter(null);
+            }
+        }
+        blackhole.consume(filterContext);
+    }
+
+    /**
+     * Walk the compiled array.
+     *
+     * @param blackhole result sink
+     * @throws Exception never
+     */
+    @Benchmark
+    public void compiled(Blackhole blackhole) throws Exception {
+        for (ContainerRequestFilter filter : chain.requestFilters) {
+            filter.filter(null);
+        }
+        blackhole.consume(chain);
+    }
+
+    private static final class CountingFilter implements ContainerRequestFilter {
+        private int calls;
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            calls++;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.http.WritableHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cost of compressing one response entity.
+ *
+ * <p>{@code pooled} writes through {@link CompressingOutputStream} with a {@link DeflaterPool};
+ * {@code unpooled} uses a {@link GZIPOutputStream}, which allocates and ends a native deflater
+ * per entity. Both write the entity in 8 KiB chunks to a sink that only counts bytes. The score
+ * is the time per entity; divide it by {@code size} for the CPU cost per byte at each
+ * {@code level}, or run with {@code -bm thrpt} for entities per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+
+    private static final int CHUNK = 8192;
+
+    @Param({"1", "6", "9"})
+    private int level;
+
+    @Param({"4096", "65536", "1048576"})
+    private int size;
+
+    private byte[] entity;
+    private DeflaterPool pool;
+
+    /**
+     * Build a JSON-like entity and the pool.
+     */
+    @Setup
+    public void setup() {
+        StringBuilder json = new StringBuilder(size + 64);
+        for (int i = 0; json.length() < size; i++) {
+            json.append("{\"id\":").append(i).append(",\"name\":\"item-").append(i % 97)
+                    .append("\",\"active\":").append(i % 3 == 0).append("},");
+        }
+        entity = json.substring(0, size).getBytes(StandardCharsets.US_ASCII);
+        pool = new DeflaterPool(level, true, 4);
+    }
+
+    /**
+     * Compress with a pooled deflater.
+     *
+     * @return bytes written
+     * @throws IOException never
+     */
+    @Benchmark
+    public long pooled() throws IOException {
+        CountingStream sink = new CountingStream();
+        OutputStream out = new CompressingOutputStream(sink, new ResponseHeadersMap(WritableHeaders.create()),
+                pool, "gzip", 0);
+        write(out);
+        return sink.count;
+    }
+
+    /**
+     * Compress with a deflater created for the entity.
+     *
+     * @return bytes written
+     * @throws IOException never
+     */
+    @Benchmark
+    public long unpooled() throws IOException {
+        CountingStream sink = new CountingStream();
+        OutputStream out = new GZIPOutputStream(sink, CHUNK) {
+            {
+                def.setLevel(level);
+            }
+        };
+        write(out);
+        return sink.count;
+    }
+
+    private void write(OutputStream out) throws IOException {
+        for (int off = 0; off < entity.length; off += CHUNK) {
+            out.write(entity, off, Math.min(CHUNK, entity.length - off));
+        }
+        out.close();
+    }
+
+    private static final class CountingStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.helidon.jaxrs.filters;
+
+import jakarta.ws.rs.core.Cookie;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Headers view returning each header name as its value, without any request behind it.
+ */
+final class FixedHttpHeaders implements HttpHeaders {
+    @Override
+    public List<String> getRequestHeader(String name) {
+        return List.of(name);
+    }
+
+    @Override
+    public String getHeaderString(String name) {
+        return name;
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getRequestHeaders() {
+        return new MultivaluedHashMap<>();
+    }
+
+    @Override
+    public List<MediaType> getAcceptableMediaTypes() {
+        return List.of(MediaType.WILDCARD_TYPE);
+    }
+
+    @Override
+    public List<Locale> getAcceptableLanguages() {
+        return List.of();
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return null;
+    }
+
+    @Override
+    public Locale getLanguage() {
+        return null;
+    }
+
+    @Override
+    public Map<String, Cookie> getCookies() {
+        return Map.of();
+    }
+
+    @Override
+    public Date getDate() {
+        return null;
+    }
+
+    @Override
+    public int getLength() {
+        return -1;
+    }
+}
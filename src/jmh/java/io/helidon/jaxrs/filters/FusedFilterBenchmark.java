@@ -0,0 +1,108 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.webclient.api.WebClient;
+import io.helidon.webserver.WebServer;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.PreMatching;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request throughput of an in-process server with three chained filters versus one fused filter.
+ *
+ * <p>One pre-matching and one request/response filter are registered, so both modes run all
+ * stages. Requests go over loopback with keep-alive, so the difference is dominated by the
+ * filter hops rather than the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class FusedFilterBenchmark {
+
+    @Param({"false", "true"})
+    private boolean fused;
+
+    private WebServer server;
+    private WebClient client;
+
+    /**
+     * Start the server and create the client.
+     */
+    @Setup
+    public void setup() {
+        JaxRsFilterOptions options = JaxRsFilterOptions.builder().fused(fused).build();
+        server = WebServer.builder()
+                .port(0)
+                .routing(routing -> {
+                    JaxRsFilterSupport.register(routing, List.of(new NoOpPreMatchingFilter(), new NoOpFilter()), options);
+                    routing.get("/plain", (req, res) -> res.send("plain"));
+                })
+                .build()
+                .start();
+        client = WebClient.builder()
+                .baseUri("http://localhost:" + server.port())
+                .build();
+    }
+
+    /**
+     * Stop the server.
+     */
+    @TearDown
+    public void tearDown() {
+        server.stop();
+    }
+
+    /**
+     * Send one request through all filter stages.
+     *
+     * @return response entity
+     */
+    @Benchmark
+    public String request() {
+        return client.get("/plain").requestEntity(String.class);
+    }
+
+    /**
+     * Pre-matching filter doing no work.
+     */
+    @PreMatching
+    public static final class NoOpPreMatchingFilter implements ContainerRequestFilter {
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+        }
+    }
+
+    /**
+     * Post-matching request and response filter doing no work.
+     */
+    public static final class NoOpFilter implements ContainerRequestFilter, ContainerResponseFilter {
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.common.context.Context;
+import io.helidon.common.context.Contexts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of propagating the request scope with Helidon {@code Contexts} versus a
+ * {@code ScopedValue}, with five proxy calls per request.
+ *
+ * <p>{@code sameThread} measures the binding itself. {@code virtualThread} runs each request on a
+ * new virtual thread, as the server does; run it with {@code -prof gc} to compare the memory
+ * allocated per virtual thread (thread-local maps and context stack versus a scoped value carrier).
+ * {@code SCOPED_VALUE} needs a JDK where {@code ScopedValue} is usable; on JDK 21 to 24 add
+ * {@code -jvmArgsAppend --enable-preview} to the JMH arguments.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropagationBenchmark {
+
+    private static final String[] NAMES = {"Accept", "Host", "User-Agent", "X-Request-Id", "Authorization"};
+
+    @Param({"CONTEXTS", "SCOPED_VALUE"})
+    private JaxRsFilterOptions.ContextPropagation propagation;
+
+    private Context context;
+    private RequestScope scope;
+
+    /**
+     * Create the context and the scope.
+     */
+    @Setup
+    public void setup() {
+        if (propagation == JaxRsFilterOptions.ContextPropagation.SCOPED_VALUE) {
+            if (!ScopedValueBinding.AVAILABLE) {
+                throw new IllegalStateException("ScopedValue is not available on this JVM");
+            }
+            ScopedValueBinding.enable();
+        }
+        scope = new RequestScope(null);
+        scope.httpHeaders(new FixedHttpHeaders());
+        context = Context.create();
+        context.register(RequestScope.class, scope);
+    }
+
+    /**
+     * Bind the scope and read headers on the benchmark thread.
+     *
+     * @param blackhole result sink
+     */
+    @Benchmark
+    public void sameThread(Blackhole blackhole) {
+        request(blackhole);
+    }
+
+    /**
+     * Bind the scope and read headers on a new virtual thread.
+     *
+     * @param blackhole result sink
+     * @throws InterruptedException if interrupted while waiting for the thread
+     */
+    @Benchmark
+    public void virtualThread(Blackhole blackhole) throws InterruptedException {
+        Thread.ofVirtual().start(() -> request(blackhole)).join();
+    }
+
+    private void request(Blackhole blackhole) {
+        Runnable work = () -> {
+            for (String name : NAMES) {
+                blackhole.consume(HttpHeadersProxy.INSTANCE.getHeaderString(name));
+            }
+        };
+        // Both modes run in the Helidon context, as JaxRsContextFilter does
+        if (propagation == JaxRsFilterOptions.ContextPropagation.SCOPED_VALUE) {
+            Contexts.runInContext(context, () -> ScopedValueBinding.run(scope, work));
+        } else {
+            Contexts.runInContext(context, () -> RequestScope.runBound(scope, work));
+        }
+    }
+}
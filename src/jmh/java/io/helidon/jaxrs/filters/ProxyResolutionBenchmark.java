@@ -0,0 +1,90 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.common.context.Context;
+import io.helidon.common.context.Contexts;
+import jakarta.ws.rs.core.HttpHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of reading five headers through {@link HttpHeadersProxy} compared to calling the view directly.
+ *
+ * <p>{@code direct} calls the {@link HttpHeaders} instance. {@code proxyContext} resolves the
+ * {@link RequestScope} from the Helidon context on every call, as proxies do when no scope is
+ * bound to the thread. {@code proxyBound} uses the thread-bound scope set up by the context filter.
+ * All three run inside the request context so the wrapping cost is the same.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProxyResolutionBenchmark {
+
+    private static final String[] NAMES = {"Accept", "Host", "User-Agent", "X-Request-Id", "Authorization"};
+
+    private Context context;
+    private RequestScope scope;
+    private HttpHeaders headers;
+
+    /**
+     * Create the context and the scope.
+     */
+    @Setup
+    public void setup() {
+        headers = new FixedHttpHeaders();
+        scope = new RequestScope(null);
+        scope.httpHeaders(headers);
+        context = Context.create();
+        context.register(RequestScope.class, scope);
+    }
+
+    /**
+     * Read the headers from the view.
+     *
+     * @param blackhole result sink
+     */
+    @Benchmark
+    public void direct(Blackhole blackhole) {
+        Contexts.runInContext(context, () -> read(headers, blackhole));
+    }
+
+    /**
+     * Read the headers through the proxy, resolving the scope from the context.
+     *
+     * @param blackhole result sink
+     */
+    @Benchmark
+    public void proxyContext(Blackhole blackhole) {
+        Contexts.runInContext(context, () -> read(HttpHeadersProxy.INSTANCE, blackhole));
+    }
+
+    /**
+     * Read the headers through the proxy, using the thread-bound scope.
+     *
+     * @param blackhole result sink
+     */
+    @Benchmark
+    public void proxyBound(Blackhole blackhole) {
+        Contexts.runInContext(context,
+                () -> RequestScope.runBound(scope, () -> read(HttpHeadersProxy.INSTANCE, blackhole)));
+    }
+
+    private static void read(HttpHeaders headers, Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(headers.getHeaderString(name));
+        }
+    }
+}
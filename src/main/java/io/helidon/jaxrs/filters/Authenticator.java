@@ -0,0 +1,236 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.webserver.http.ServerRequest;
+import jakarta.ws.rs.core.SecurityContext;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Authentication settings of one filter registration, shared by all of its requests.
+ *
+ * <p>Without a {@link CredentialVerifier}, {@code Basic} credentials are only decoded and the
+ * user name is trusted as is, which is the behavior of {@link HelidonSecurityContext} on its own.
+ * With a verifier, verified identities are cached by a digest of the header value. Likewise,
+ * {@code Bearer} tokens are validated as JWTs only when a {@link JwkSet} is configured. A
+ * {@link SecurityContextProvider}, if any, is asked for the security context before headers are
+ * parsed, and TLS client certificates take precedence over headers when enabled. Once a provider
+ * is configured, nothing unverified is trusted when it returns empty: role headers are ignored and
+ * unverified user names leave the request anonymous.
+ */
+final class Authenticator {
+
+    /**
+     * Authentication without credential or token verification.
+     */
+    static final Authenticator DEFAULT = new Authenticator(null, 0, 0, null, null, null);
+
+    private final CredentialVerifier credentialVerifier;
+    private final ExpiringCache<Authenticated> credentials;
+    private final long credentialTtlMillis;
+    private final JwtValidator jwtValidator;
+    private final SecurityContextProvider securityContextProvider;
+    private final ClientCertificates clientCertificates;
+
+    private Authenticator(CredentialVerifier credentialVerifier,
+                          int cacheSize,
+                          long credentialTtlMillis,
+                          JwtValidator jwtValidator,
+                          SecurityContextProvider securityContextProvider,
+                          ClientCertificates clientCertificates) {
+        this.credentialVerifier = credentialVerifier;
+        this.credentials = new ExpiringCache<>(cacheSize);
+        this.credentialTtlMillis = credentialTtlMillis;
+        this.jwtValidator = jwtValidator;
+        this.securityContextProvider = securityContextProvider;
+        this.clientCertificates = clientCertificates;
+    }
+
+    /**
+     * Authentication configured by filter options.
+     *
+     * @param options filter options
+     * @return authenticator
+     */
+    static Authenticator create(JaxRsFilterOptions options) {
+        if (options.credentialVerifier() == null
+                && options.jwkSet() == null
+                && options.securityContextProvider() == null
+                && !options.clientCertificateAuth()) {
+            return DEFAULT;
+        }
+        JwtValidator jwtValidator = options.jwkSet() == null
+                ? null
+                : new JwtValidator(options.jwkSet(), options.jwtIssuer(), options.jwtAudience(),
+                                   options.jwtCacheSize());
+        return new Authenticator(options.credentialVerifier(),
+                                 options.credentialCacheSize(),
+                                 options.credentialCacheTtl().toMillis(),
+                                 jwtValidator,
+                                 options.securityContextProvider(),
+                                 options.clientCertificateAuth() ? new ClientCertificates() : null);
+    }
+
+    /**
+     * Security context of a request from the configured provider.
+     *
+     * @param request the server request
+     * @return security context, or {@code null} if there is no provider or it returned empty
+     */
+    SecurityContext providedSecurityContext(ServerRequest request) {
+        if (securityContextProvider == null) {
+            return null;
+        }
+        Optional<SecurityContext> provided = securityContextProvider.securityContext(request);
+        return provided.orElse(null);
+    }
+
+    /**
+     * Security context of a request from its authentication headers and client certificate.
+     *
+     * @param request the server request
+     * @return security context
+     */
+    SecurityContext headerSecurityContext(ServerRequest request) {
+        return new HelidonSecurityContext(request, this);
+    }
+
+    /**
+     * Whether a {@link SecurityContextProvider} is configured. Its context may be registered later
+     * in the request, so a header-based context must not be kept in its place.
+     *
+     * @return {@code true} if a provider is configured
+     */
+    boolean hasProvider() {
+        return securityContextProvider != null;
+    }
+
+    /**
+     * Identity of the TLS client certificate of a request.
+     *
+     * @param request the server request
+     * @return identity, or {@code null} if client certificates are not used or there is none
+     */
+    Authenticated clientCertificate(ServerRequest request) {
+        return clientCertificates == null ? null : clientCertificates.authenticate(request);
+    }
+
+    /**
+     * Whether role headers such as {@code X-User-Roles} may be trusted. That is only the case when
+     * no credentials, tokens or certificates are verified and no provider is configured; otherwise
+     * a caller could skip authentication and claim any role through the header.
+     *
+     * @return {@code true} if nothing is verified
+     */
+    boolean trustsHeaders() {
+        return credentialVerifier == null
+                && jwtValidator == null
+                && clientCertificates == null
+                && securityContextProvider == null;
+    }
+
+    /**
+     * Whether user names that are not verified, such as the user of {@code Basic} credentials
+     * without a verifier, may be trusted. That is not the case once a provider is configured.
+     *
+     * @return {@code true} if no provider is configured
+     */
+    boolean trustsUnverifiedNames() {
+        return securityContextProvider == null;
+    }
+
+    /**
+     * Whether {@code Basic} credentials are verified. Identities of verified credentials carry
+     * their own roles.
+     *
+     * @return {@code true} if a credential verifier is configured
+     */
+    boolean verifiesCredentials() {
+        return credentialVerifier != null;
+    }
+
+    /**
+     * Identity of a {@code Basic} {@code Authorization} header.
+     *
+     * @param authorization full header value, starting with the scheme
+     * @return identity, or {@code null} if the credentials are malformed or not valid
+     */
+    Authenticated basic(String authorization) {
+        if (credentialVerifier == null) {
+            String credentials = decode(authorization);
+            int colon = credentials == null ? -1 : credentials.indexOf(':');
+            return colon > 0
+                    ? new Authenticated(Identity.of(credentials.substring(0, colon)), RoleSet.EMPTY)
+                    : null;
+        }
+        ByteBuffer key = ExpiringCache.key(authorization);
+        Authenticated authenticated = credentials.get(key);
+        if (authenticated != null) {
+            return authenticated;
+        }
+        String decoded = decode(authorization);
+        int colon = decoded == null ? -1 : decoded.indexOf(':');
+        if (colon <= 0) {
+            return null;
+        }
+        char[] password = decoded.substring(colon + 1).toCharArray();
+        Identity identity;
+        try {
+            identity = credentialVerifier.verify(decoded.substring(0, colon), password).orElse(null);
+        } finally {
+            Arrays.fill(password, '\0');
+        }
+        if (identity == null) {
+            return null;
+        }
+        authenticated = Authenticated.of(identity);
+        credentials.put(key, authenticated, System.currentTimeMillis() + credentialTtlMillis);
+        return authenticated;
+    }
+
+    /**
+     * Whether {@code Bearer} tokens are validated as JWTs. Identities of valid tokens carry
+     * their own roles.
+     *
+     * @return {@code true} if a JWK set is configured
+     */
+    boolean validatesTokens() {
+        return jwtValidator != null;
+    }
+
+    /**
+     * Identity of a {@code Bearer} {@code Authorization} header.
+     *
+     * @param authorization full header value, starting with the scheme
+     * @return identity, or {@code null} if tokens are not validated or the token is not valid
+     */
+    Authenticated bearer(String authorization) {
+        return jwtValidator == null ? null : jwtValidator.validate(authorization.substring(7).trim());
+    }
+
+    private static String decode(String authorization) {
+        try {
+            byte[] decoded = Base64.getDecoder().decode(authorization.substring(6).trim());
+            return new String(decoded, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            // Invalid base64
+            return null;
+        }
+    }
+
+    /**
+     * An identity with its roles interned as a {@link RoleSet}, computed once and cached with it.
+     *
+     * @param identity authenticated identity
+     * @param roles roles of the identity
+     */
+    record Authenticated(Identity identity, RoleSet roles) {
+
+        static Authenticated of(Identity identity) {
+            return new Authenticated(identity, RoleSet.of(identity.roles()));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.webserver.http.ServerRequest;
+
+import java.security.cert.Certificate;
+import java.security.cert.CertificateParsingException;
+import java.security.cert.X509Certificate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Identities of TLS client certificates, cached per connection.
+ *
+ * <p>The principal of a client certificate is its subject distinguished name in RFC 2253 form,
+ * and its roles are the DNS, URI and e-mail entries of its subject alternative names, such as a
+ * SPIFFE ID. The certificate chain has already been verified by the TLS handshake, which holds
+ * only when the server's TLS requires client authentication against a trust store of the
+ * accepted issuers.
+ *
+ * <p>All requests of a keep-alive connection present the same certificate, so the identity is
+ * cached by connection and parsed once. An entry is only used while the connection still
+ * presents the very same certificate object, so a reused connection ID or a renegotiated session
+ * is parsed again. Like the other caches of the module, the cache is bounded and cleared when
+ * full, which also drops entries of closed connections.
+ */
+final class ClientCertificates {
+
+    private static final int MAX_CONNECTIONS = 1024;
+
+    // SubjectAlternativeName GeneralName types, RFC 5280
+    private static final int RFC822_NAME = 1;
+    private static final int DNS_NAME = 2;
+    private static final int URI = 6;
+
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+
+    /**
+     * Identity of the client certificate of a request.
+     *
+     * @param request the server request
+     * @return identity, or {@code null} if the client did not present a certificate
+     */
+    Authenticator.Authenticated authenticate(ServerRequest request) {
+        if (!request.isSecure()) {
+            return null;
+        }
+        Certificate[] chain = request.remotePeer().tlsCertificates().orElse(null);
+        if (chain == null || chain.length == 0 || !(chain[0] instanceof X509Certificate certificate)) {
+            return null;
+        }
+        return authenticate(request.socketId(), certificate);
+    }
+
+    /**
+     * Identity of a client certificate presented on a connection.
+     *
+     * @param connectionId ID of the connection
+     * @param certificate the client's certificate, first of the verified chain
+     * @return identity
+     */
+    Authenticator.Authenticated authenticate(String connectionId, X509Certificate certificate) {
+        Connection connection = connections.get(connectionId);
+        if (connection != null && connection.certificate() == certificate) {
+            return connection.authenticated();
+        }
+        Authenticator.Authenticated authenticated = Authenticator.Authenticated.of(identity(certificate));
+        if (connections.size() >= MAX_CONNECTIONS) {
+            connections.clear();
+        }
+        connections.put(connectionId, new Connection(certificate, authenticated));
+        return authenticated;
+    }
+
+    private static Identity identity(X509Certificate certificate) {
+        Set<String> roles = new HashSet<>();
+        try {
+            Collection<List<?>> names = certificate.getSubjectAlternativeNames();
+            if (names != null) {
+                for (List<?> name : names) {
+                    if (name.get(0) instanceof Integer type
+                            && (type == RFC822_NAME || type == DNS_NAME || type == URI)
+                            && name.get(1) instanceof String value) {
+                        roles.add(value);
+                    }
+                }
+            }
+        } catch (CertificateParsingException e) {
+            // Malformed extension, the subject alone identifies the client
+        }
+        return new Identity(certificate.getSubjectX500Principal().getName(), roles);
+    }
+
+    private record Connection(X509Certificate certificate, Authenticator.Authenticated authenticated) {
+    }
+}
@@ -0,0 +1,118 @@
+package io.helidon.jaxrs.filters;
+
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the post-matching filters and interceptors that apply to a set of
+ * method bindings.
+ *
+ * <p>Name binding matching is done once, when the chain is compiled. Filters that can
+ * never match are dropped, and the remaining ones are kept in arrays in execution order,
+ * so running the chain is a plain array walk.
+ */
+public final class CompiledFilterChain {
+
+    private static final CompiledFilterChain EMPTY =
+            new CompiledFilterChain(new ContainerRequestFilter[0], new ContainerResponseFilter[0],
+                    new ReaderInterceptor[0], new WriterInterceptor[0]);
+
+    // Never modified after construction
+    final ContainerRequestFilter[] requestFilters;
+    final ContainerResponseFilter[] responseFilters;
+    final ReaderInterceptor[] readerInterceptors;
+    final WriterInterceptor[] writerInterceptors;
+
+    private CompiledFilterChain(ContainerRequestFilter[] requestFilters,
+                                ContainerResponseFilter[] responseFilters,
+                                ReaderInterceptor[] readerInterceptors,
+                                WriterInterceptor[] writerInterceptors) {
+        this.requestFilters = requestFilters;
+        this.responseFilters = responseFilters;
+        this.readerInterceptors = readerInterceptors;
+        this.writerInterceptors = writerInterceptors;
+    }
+
+    /**
+     * Compile the filters of a context for the given method bindings.
+     *
+     * @param filterContext registered filters, in execution order
+     * @param methodBindings name bindings of the target method, empty when there is none
+     * @return compiled chain
+     */
+    static CompiledFilterChain compile(FilterContext filterContext, Set<String> methodBindings) {
+        List<ContainerRequestFilter> request = matching(filterContext.getRequestFiltersWithBindings(), methodBindings);
+        List<ContainerResponseFilter> response = matching(filterContext.getResponseFiltersWithBindings(), methodBindings);
+        List<ReaderInterceptor> reader = matching(filterContext.getReaderInterceptorsWithBindings(), methodBindings);
+        List<WriterInterceptor> writer = matching(filterContext.getWriterInterceptorsWithBindings(), methodBindings);
+        if (request.isEmpty() && response.isEmpty() && reader.isEmpty() && writer.isEmpty()) {
+            return EMPTY;
+        }
+        return new CompiledFilterChain(request.toArray(new ContainerRequestFilter[0]),
+                response.toArray(new ContainerResponseFilter[0]),
+                reader.toArray(new ReaderInterceptor[0]),
+                writer.toArray(new WriterInterceptor[0]));
+    }
+
+    private static <T> List<T> matching(List<FilterContext.FilterEntry<T>> entries, Set<String> methodBindings) {
+        List<T> result = new ArrayList<>();
+        for (FilterContext.FilterEntry<T> entry : entries) {
+            if (entry.matches(methodBindings)) {
+                result.add(entry.filter());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Whether no filter or interceptor applies.
+     *
+     * @return {@code true} if all chains are empty
+     */
+    public boolean isEmpty() {
+        return requestFilters.length == 0 && responseFilters.length == 0
+                && readerInterceptors.length == 0 && writerInterceptors.length == 0;
+    }
+
+    /**
+     * Request filters in execution order.
+     *
+     * @return copy of the request filters
+     */
+    public List<ContainerRequestFilter> requestFilters() {
+        return List.of(requestFilters);
+    }
+
+    /**
+     * Response filters in execution order.
+     *
+     * @return copy of the response filters
+     */
+    public List<ContainerResponseFilter> responseFilters() {
+        return List.of(responseFilters);
+    }
+
+    /**
+     * Reader interceptors in execution order.
+     *
+     * @return copy of the reader interceptors
+     */
+    public List<ReaderInterceptor> readerInterceptors() {
+        return List.of(readerInterceptors);
+    }
+
+    /**
+     * Writer interceptors in execution order.
+     *
+     * @return copy of the writer interceptors
+     */
+    public List<WriterInterceptor> writerInterceptors() {
+        return List.of(writerInterceptors);
+    }
+}
@@ -0,0 +1,188 @@
+package io.helidon.jaxrs.filters;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Output stream that compresses the response entity once it grows past a threshold.
+ *
+ * <p>The first {@code threshold} bytes are held back. If the entity is closed before reaching
+ * the threshold, they are written as they are and the response is not compressed. Otherwise the
+ * {@code Content-Encoding} header is set, {@code Content-Length} is dropped, and everything from
+ * then on is deflated as it is written. Headers are changed before the first byte reaches the
+ * underlying stream, so they are never committed too early.
+ *
+ * <p>Gzip output is raw deflate data framed with the gzip header and a CRC32/size trailer, so
+ * gzip and deflate share the same pooled deflaters.
+ */
+final class CompressingOutputStream extends OutputStream {
+
+    private static final byte[] GZIP_HEADER = {
+            0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+    };
+
+    private final OutputStream out;
+    private final MultivaluedMap<String, Object> headers;
+    private final DeflaterPool pool;
+    private final String encoding;
+    private final boolean gzip;
+    private final byte[] pending;
+
+    private int pendingLength;
+    private DeflaterPool.Entry entry;
+    private CRC32 crc;
+    private boolean decided;
+    private boolean closed;
+
+    /**
+     * Create a compressing stream.
+     *
+     * @param out stream receiving the encoded entity
+     * @param headers response headers, changed when compression starts
+     * @param pool deflaters for the encoding, raw for gzip and zlib for deflate
+     * @param encoding {@code gzip} or {@code deflate}
+     * @param threshold entities shorter than this are sent uncompressed
+     */
+    CompressingOutputStream(OutputStream out,
+                            MultivaluedMap<String, Object> headers,
+                            DeflaterPool pool,
+                            String encoding,
+                            int threshold) {
+        this.out = out;
+        this.headers = headers;
+        this.pool = pool;
+        this.encoding = encoding;
+        this.gzip = "gzip".equals(encoding);
+        this.pending = new byte[threshold];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if (!decided) {
+            if (pendingLength + len <= pending.length) {
+                System.arraycopy(b, off, pending, pendingLength, len);
+                pendingLength += len;
+                return;
+            }
+            startCompression();
+        }
+        if (entry == null) {
+            out.write(b, off, len);
+        } else {
+            deflate(b, off, len);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        if (!decided) {
+            if (pendingLength == 0) {
+                return;
+            }
+            // The caller wants the bytes out now, before the final size is known
+            startCompression();
+        }
+        if (entry != null) {
+            drain(Deflater.SYNC_FLUSH);
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (!decided) {
+                decided = true;
+                if (pendingLength > 0) {
+                    out.write(pending, 0, pendingLength);
+                }
+            } else if (entry != null) {
+                Deflater deflater = entry.deflater();
+                deflater.finish();
+                while (!deflater.finished()) {
+                    int n = deflater.deflate(entry.buffer());
+                    if (n > 0) {
+                        out.write(entry.buffer(), 0, n);
+                    }
+                }
+                if (gzip) {
+                    writeTrailer(deflater.getTotalIn());
+                }
+            }
+        } finally {
+            if (entry != null) {
+                pool.release(entry);
+                entry = null;
+            }
+            out.close();
+        }
+    }
+
+    private void startCompression() throws IOException {
+        decided = true;
+        headers.putSingle("Content-Encoding", encoding);
+        headers.remove("Content-Length");
+        entry = pool.acquire();
+        if (gzip) {
+            crc = new CRC32();
+            out.write(GZIP_HEADER);
+        }
+        if (pendingLength > 0) {
+            deflate(pending, 0, pendingLength);
+            pendingLength = 0;
+        }
+    }
+
+    private void deflate(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return;
+        }
+        if (gzip) {
+            crc.update(b, off, len);
+        }
+        entry.deflater().setInput(b, off, len);
+        drain(Deflater.NO_FLUSH);
+    }
+
+    private void drain(int flush) throws IOException {
+        Deflater deflater = entry.deflater();
+        byte[] buffer = entry.buffer();
+        int n;
+        do {
+            n = deflater.deflate(buffer, 0, buffer.length, flush);
+            if (n > 0) {
+                out.write(buffer, 0, n);
+            }
+        } while (n == buffer.length || (flush == Deflater.NO_FLUSH && !deflater.needsInput()));
+    }
+
+    private void writeTrailer(int totalIn) throws IOException {
+        long checksum = crc.getValue();
+        byte[] trailer = {
+                (byte) checksum, (byte) (checksum >> 8), (byte) (checksum >> 16), (byte) (checksum >> 24),
+                (byte) totalIn, (byte) (totalIn >> 8), (byte) (totalIn >> 16), (byte) (totalIn >> 24)
+        };
+        out.write(trailer);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package io.helidon.jaxrs.filters;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.Deflater;
+
+/**
+ * Writer interceptor compressing response entities with {@code gzip} or {@code deflate}.
+ *
+ * <p>The encoding is negotiated from the request's {@code Accept-Encoding} header, preferring
+ * gzip when both are equally acceptable. The entity is compressed while it is written; only
+ * the first {@link Builder#threshold(int) threshold} bytes are held back, so small entities can
+ * still be sent as they are. Responses that already have a {@code Content-Encoding}, and media
+ * types that are compressed by nature (images, audio, video, archives), are left alone.
+ * {@code Vary: Accept-Encoding} is added to every response that could have been compressed.
+ *
+ * <p>Deflaters are pooled per interceptor instance. Register the interceptor like any other
+ * writer interceptor, either through {@code META-INF/services/jakarta.ws.rs.ext.WriterInterceptor}
+ * or by passing an instance to {@link JaxRsFilterSupport#register(io.helidon.webserver.http.HttpRouting.Builder,
+ * Iterable)}. It runs at {@link Priorities#ENTITY_CODER}, so the handler's bytes are compressed
+ * before they reach interceptors with a lower priority.
+ */
+@Priority(Priorities.ENTITY_CODER)
+public final class CompressionInterceptor implements WriterInterceptor {
+
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+
+    private final int threshold;
+    private final Set<String> excludedTypes;
+    private final DeflaterPool gzipPool;
+    private final DeflaterPool deflatePool;
+
+    /**
+     * Create an interceptor with the default settings, as for {@code builder().build()}.
+     * Used when the interceptor is discovered through {@link java.util.ServiceLoader}.
+     */
+    public CompressionInterceptor() {
+        this(builder());
+    }
+
+    private CompressionInterceptor(Builder builder) {
+        this.threshold = builder.threshold;
+        this.excludedTypes = Set.copyOf(builder.excludedTypes);
+        this.gzipPool = new DeflaterPool(builder.level, true, builder.poolSize);
+        this.deflatePool = new DeflaterPool(builder.level, false, builder.poolSize);
+    }
+
+    /**
+     * A new builder initialized with the defaults.
+     *
+     * @return builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        MultivaluedMap<String, Object> headers = context.getHeaders();
+        if (headers.getFirst("Content-Encoding") == null && compressible(context.getMediaType())) {
+            addVary(headers);
+            String encoding = negotiate(HttpHeadersProxy.INSTANCE.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+            if (encoding != null) {
+                DeflaterPool pool = GZIP.equals(encoding) ? gzipPool : deflatePool;
+                context.setOutputStream(new CompressingOutputStream(context.getOutputStream(), headers, pool,
+                        encoding, threshold));
+            }
+        }
+        context.proceed();
+    }
+
+    private boolean compressible(MediaType mediaType) {
+        if (mediaType == null) {
+            return true;
+        }
+        String type = mediaType.getType().toLowerCase(Locale.ROOT);
+        return !excludedTypes.contains(type + "/*")
+                && !excludedTypes.contains(type + "/" + mediaType.getSubtype().toLowerCase(Locale.ROOT));
+    }
+
+    private static void addVary(MultivaluedMap<String, Object> headers) {
+        List<Object> vary = headers.get("Vary");
+        if (vary != null) {
+            for (Object value : vary) {
+                for (String token : value.toString().split(",")) {
+                    String name = token.trim();
+                    if (name.equals("*") || name.equalsIgnoreCase(HttpHeaders.ACCEPT_ENCODING)) {
+                        return;
+                    }
+                }
+            }
+        }
+        headers.add("Vary", HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    /**
+     * Pick the encoding to use for an {@code Accept-Encoding} header value.
+     *
+     * @param acceptEncoding header value, may be {@code null}
+     * @return {@code gzip}, {@code deflate}, or {@code null} to send the entity as it is
+     */
+    static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        float gzip = -1;
+        float deflate = -1;
+        float wildcard = -1;
+        for (String element : acceptEncoding.split(",")) {
+            int semicolon = element.indexOf(';');
+            String coding = (semicolon < 0 ? element : element.substring(0, semicolon)).trim();
+            float q = semicolon < 0 ? 1 : qValue(element.substring(semicolon + 1));
+            if (coding.equalsIgnoreCase(GZIP) || coding.equalsIgnoreCase("x-gzip")) {
+                gzip = Math.max(gzip, q);
+            } else if (coding.equalsIgnoreCase(DEFLATE)) {
+                deflate = Math.max(deflate, q);
+            } else if (coding.equals("*")) {
+                wildcard = Math.max(wildcard, q);
+            }
+        }
+        // Codings not listed take the wildcard's weight
+        if (gzip < 0) {
+            gzip = wildcard;
+        }
+        if (deflate < 0) {
+            deflate = wildcard;
+        }
+        if (gzip <= 0 && deflate <= 0) {
+            return null;
+        }
+        return gzip >= deflate ? GZIP : DEFLATE;
+    }
+
+    private static float qValue(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            int equals = parameter.indexOf('=');
+            if (equals > 0 && parameter.substring(0, equals).trim().equalsIgnoreCase("q")) {
+                try {
+                    return Float.parseFloat(parameter.substring(equals + 1).trim());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Builder for {@link CompressionInterceptor}.
+     */
+    public static final class Builder {
+
+        private int threshold = 1024;
+        private int level = Deflater.DEFAULT_COMPRESSION;
+        private int poolSize = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+        private final Set<String> excludedTypes = new LinkedHashSet<>(List.of(
+                "image/*",
+                "audio/*",
+                "video/*",
+                "font/woff",
+                "font/woff2",
+                "application/zip",
+                "application/gzip",
+                "application/x-gzip",
+                "application/x-bzip2",
+                "application/x-7z-compressed",
+                "application/x-rar-compressed",
+                "application/zstd",
+                "application/pdf",
+                "application/octet-stream"));
+
+        private Builder() {
+        }
+
+        /**
+         * Entities shorter than this many bytes are sent uncompressed. Defaults to {@code 1024}.
+         *
+         * @param threshold minimum entity size to compress
+         * @return updated builder
+         */
+        public Builder threshold(int threshold) {
+            if (threshold < 0) {
+                throw new IllegalArgumentException("threshold must not be negative: " + threshold);
+            }
+            this.threshold = threshold;
+            return this;
+        }
+
+        /**
+         * Compression level, {@code 1} (fastest) to {@code 9} (smallest), or
+         * {@link Deflater#DEFAULT_COMPRESSION}, which is the default.
+         *
+         * @param level compression level
+         * @return updated builder
+         */
+        public Builder level(int level) {
+            if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION) {
+                throw new IllegalArgumentException("Invalid compression level: " + level);
+            }
+            this.level = level;
+            return this;
+        }
+
+        /**
+         * Maximum number of idle deflaters kept per encoding. Defaults to twice the number of
+         * processors, at least {@code 8}. Zero disables pooling.
+         *
+         * @param poolSize idle deflaters kept
+         * @return updated builder
+         */
+        public Builder poolSize(int poolSize) {
+            if (poolSize < 0) {
+                throw new IllegalArgumentException("poolSize must not be negative: " + poolSize);
+            }
+            this.poolSize = poolSize;
+            return this;
+        }
+
+        /**
+         * Add a media type that is never compressed, such as {@code application/x-protobuf}.
+         * A {@code type/*} entry excludes every subtype.
+         *
+         * @param mediaType media type without parameters
+         * @return updated builder
+         */
+        public Builder addExcludedType(String mediaType) {
+            excludedTypes.add(Objects.requireNonNull(mediaType, "mediaType").toLowerCase(Locale.ROOT));
+            return this;
+        }
+
+        /**
+         * Replace the media types that are never compressed. The default list covers images,
+         * audio, video, web fonts, archives, PDF and {@code application/octet-stream}.
+         *
+         * @param mediaTypes media types without parameters, {@code type/*} for all subtypes
+         * @return updated builder
+         */
+        public Builder excludedTypes(Set<String> mediaTypes) {
+            excludedTypes.clear();
+            for (String mediaType : mediaTypes) {
+                addExcludedType(mediaType);
+            }
+            return this;
+        }
+
+        /**
+         * Build the interceptor.
+         *
+         * @return interceptor
+         */
+        public CompressionInterceptor build() {
+            return new CompressionInterceptor(this);
+        }
+    }
+}
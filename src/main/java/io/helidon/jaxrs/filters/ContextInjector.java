@@ -0,0 +1,29 @@
+package io.helidon.jaxrs.filters;
+
+/**
+ * Assigns {@code @Context} proxies to the fields of a filter instance without reflection.
+ *
+ * <p>Implementations are generated by
+ * {@link io.helidon.jaxrs.filters.processor.ContextInjectorProcessor} in the package of the
+ * filter, named after the filter's binary name with {@code $} replaced by {@code _} and
+ * {@link #CLASS_SUFFIX} appended, and listed in that package's {@link ContextInjectorRegistry}.
+ * {@link FilterContext#injectContextProxies(Object)} uses a registered injector when one exists
+ * and falls back to reflective field injection otherwise.
+ *
+ * @param <T> filter type
+ */
+@FunctionalInterface
+public interface ContextInjector<T> {
+
+    /**
+     * Suffix of generated injector class names.
+     */
+    String CLASS_SUFFIX = "__ContextInjector";
+
+    /**
+     * Assign the request-scoped context proxies to the instance.
+     *
+     * @param instance filter instance
+     */
+    void inject(T instance);
+}
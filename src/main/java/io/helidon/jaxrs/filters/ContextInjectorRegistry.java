@@ -0,0 +1,23 @@
+package io.helidon.jaxrs.filters;
+
+import java.util.Map;
+
+/**
+ * Build-time registry of {@link ContextInjector}s.
+ *
+ * <p>{@link io.helidon.jaxrs.filters.processor.ContextInjectorProcessor} generates one
+ * implementation per package of filter classes, named {@code JaxRsContextInjectors}, and registers
+ * it as a service of this interface. {@link FilterContext} loads the registries of a filter's
+ * class loader with {@link java.util.ServiceLoader}, so generated injectors are created without
+ * reflection. With JPMS, the module declares the registries with {@code provides}.
+ */
+public interface ContextInjectorRegistry {
+
+    /**
+     * Injectors by filter class. Filters without {@code @Context} fields map to an injector that
+     * does nothing; filters whose fields cannot be assigned from generated code are absent.
+     *
+     * @return injectors by filter class
+     */
+    Map<Class<?>, ContextInjector<?>> injectors();
+}
@@ -0,0 +1,207 @@
+package io.helidon.jaxrs.filters;
+
+import jakarta.ws.rs.core.Cookie;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Read-only map view of the cookies of a request, indexed on first use.
+ *
+ * <p>The {@code Cookie} header values are scanned once, recording each cookie's name and value;
+ * {@link Cookie} objects are created only for the cookies that are looked up. {@link #get(Object)}
+ * is a scan over the recorded names, which for the usual handful of cookies is cheaper than
+ * hashing into a map built from all of them. When a name appears more than once, the first
+ * occurrence wins, as clients send the most specific cookie first.
+ */
+final class CookieIndex extends AbstractMap<String, Cookie> {
+
+    private final List<String> headerValues;
+
+    private String[] names;
+    private String[] values;
+    private Cookie[] cookies;
+    private int size;
+    private Set<Entry<String, Cookie>> entrySet;
+
+    /**
+     * Create an index over the {@code Cookie} header values of a request.
+     *
+     * @param headerValues raw header values, {@code null} if there is no {@code Cookie} header
+     */
+    CookieIndex(List<String> headerValues) {
+        this.headerValues = headerValues;
+    }
+
+    /**
+     * Whether this index was built from the given header values.
+     *
+     * @param headerValues current raw header values
+     * @return {@code true} if the index is still valid for them
+     */
+    boolean isFor(List<String> headerValues) {
+        return Objects.equals(this.headerValues, headerValues);
+    }
+
+    @Override
+    public Cookie get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : cookie(index);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        index();
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Set<Entry<String, Cookie>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof String name)) {
+            return -1;
+        }
+        index();
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Cookie cookie(int index) {
+        Cookie cookie = cookies[index];
+        if (cookie == null) {
+            cookie = new Cookie(names[index], values[index]);
+            cookies[index] = cookie;
+        }
+        return cookie;
+    }
+
+    private void index() {
+        if (names != null) {
+            return;
+        }
+        names = new String[4];
+        values = new String[4];
+        if (headerValues != null) {
+            for (String header : headerValues) {
+                parse(header);
+            }
+        }
+        cookies = new Cookie[size];
+    }
+
+    private void parse(String header) {
+        int length = header.length();
+        int start = 0;
+        while (start < length) {
+            int end = header.indexOf(';', start);
+            if (end < 0) {
+                end = length;
+            }
+            int equals = header.indexOf('=', start);
+            if (equals > start && equals < end) {
+                String name = header.substring(skipSpaces(header, start, equals), trimEnd(header, start, equals));
+                // Attributes of the obsolete RFC 2109 syntax ($Version, $Path) are not cookies
+                if (!name.isEmpty() && name.charAt(0) != '$' && !contains(name)) {
+                    int valueStart = skipSpaces(header, equals + 1, end);
+                    int valueEnd = trimEnd(header, valueStart, end);
+                    if (valueEnd - valueStart >= 2 && header.charAt(valueStart) == '"'
+                            && header.charAt(valueEnd - 1) == '"') {
+                        valueStart++;
+                        valueEnd--;
+                    }
+                    add(name, header.substring(valueStart, valueEnd));
+                }
+            }
+            start = end + 1;
+        }
+    }
+
+    private boolean contains(String name) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(String name, String value) {
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        names[size] = name;
+        values[size] = value;
+        size++;
+    }
+
+    private static int skipSpaces(String value, int start, int end) {
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(String value, int start, int end) {
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Cookie>> {
+
+        @Override
+        public Iterator<Entry<String, Cookie>> iterator() {
+            index();
+            return new Iterator<>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public Entry<String, Cookie> next() {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    int index = next++;
+                    return new SimpleImmutableEntry<>(names[index], cookie(index));
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return CookieIndex.this.size();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.helidon.jaxrs.filters;
+
+import java.util.Optional;
+
+/**
+ * Verifies the user name and password of {@code Basic} authentication.
+ *
+ * <p>Implementations check the password against a user store, typically with a deliberately
+ * slow hash such as bcrypt or PBKDF2. Successful results are cached by a digest of the
+ * {@code Authorization} header, so a client repeating the same credentials is verified once per
+ * cache period; see {@link JaxRsFilterOptions.Builder#credentialVerifier(CredentialVerifier)}.
+ * Implementations must be thread-safe.
+ */
+@FunctionalInterface
+public interface CredentialVerifier {
+
+    /**
+     * Verify credentials.
+     *
+     * @param username user name from the header
+     * @param password password from the header; the array is cleared after the call
+     * @return identity of the user, or empty if the credentials are not valid
+     */
+    Optional<Identity> verify(String username, char[] password);
+}
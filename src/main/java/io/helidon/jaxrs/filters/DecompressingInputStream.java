@@ -0,0 +1,95 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.http.HttpException;
+import io.helidon.http.Status;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Input stream inflating a gzip or deflate request entity, with a cap on the inflated size.
+ *
+ * <p>Nothing is read until the first read call, so wrapping the entity does not touch the
+ * connection. The inflated bytes are counted as they are returned; once the count passes the
+ * limit, reading fails with {@code 413 Content Too Large} and nothing more is inflated, so a
+ * small compressed body cannot expand into unbounded memory or CPU time. Corrupt compressed
+ * data fails with {@code 400 Bad Request}.
+ */
+final class DecompressingInputStream extends InputStream {
+
+    private final InputStream compressed;
+    private final boolean gzip;
+    private final long maxSize;
+
+    private InputStream inflating;
+    private long inflated;
+
+    /**
+     * Create a decompressing stream.
+     *
+     * @param compressed compressed entity stream
+     * @param gzip {@code true} for gzip, {@code false} for zlib-wrapped deflate
+     * @param maxSize maximum number of inflated bytes
+     */
+    DecompressingInputStream(InputStream compressed, boolean gzip, long maxSize) {
+        this.compressed = compressed;
+        this.gzip = gzip;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int n = read(b, 0, 1);
+        return n < 0 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        // Ask for one byte past the limit so an entity of exactly maxSize bytes still passes
+        long remaining = maxSize - inflated;
+        int max = remaining >= len ? len : (int) remaining + 1;
+        int n;
+        try {
+            n = inflating().read(b, off, max);
+        } catch (ZipException | EOFException ex) {
+            throw new HttpException("Invalid compressed request entity", Status.BAD_REQUEST_400);
+        }
+        if (n > 0) {
+            inflated += n;
+            if (inflated > maxSize) {
+                throw new HttpException("Decompressed request entity exceeds " + maxSize + " bytes",
+                        Status.REQUEST_ENTITY_TOO_LARGE_413);
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return inflating == null ? 0 : inflating.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (inflating != null) {
+            inflating.close();
+        } else {
+            compressed.close();
+        }
+    }
+
+    private InputStream inflating() throws IOException {
+        if (inflating == null) {
+            inflating = gzip ? new GZIPInputStream(compressed) : new InflaterInputStream(compressed);
+        }
+        return inflating;
+    }
+}
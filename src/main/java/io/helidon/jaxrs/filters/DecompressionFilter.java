@@ -0,0 +1,185 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.http.encoding.ContentDecoder;
+import io.helidon.http.encoding.ContentEncoder;
+import io.helidon.http.encoding.ContentEncoding;
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Pre-matching filter inflating request entities sent with {@code Content-Encoding: gzip}
+ * or {@code deflate}.
+ *
+ * <p>The entity is inflated as the route reads it; nothing is buffered. {@code Content-Encoding}
+ * is set to {@code identity}, since Helidon request headers cannot be removed, and
+ * {@code Content-Length} is removed from the headers later filters see. Reading more than
+ * {@link Builder#maxDecompressedSize(long) maxDecompressedSize} inflated bytes fails the request
+ * with {@code 413}, and corrupt data with {@code 400}. Other codings, and bodies encoded more
+ * than once, are passed through untouched.
+ *
+ * <p>Helidon rejects request entities with a {@code Content-Encoding} it cannot decode, and
+ * decodes those it can before any filter runs, without a size limit. Configure the server with
+ * {@link #contentEncoding()} instead of Helidon's gzip and deflate support, so the encoded entity
+ * reaches this filter as it was sent.
+ *
+ * <p>The filter is not registered by default. List it in
+ * {@code META-INF/services/jakarta.ws.rs.container.ContainerRequestFilter} for the defaults, or
+ * pass a configured instance to {@link JaxRsFilterSupport#register(io.helidon.webserver.http.HttpRouting.Builder,
+ * Iterable)}.
+ */
+@PreMatching
+@Priority(Priorities.ENTITY_CODER)
+public final class DecompressionFilter implements ContainerRequestFilter {
+
+    private final long maxDecompressedSize;
+
+    /**
+     * Create a filter with the default settings, as for {@code builder().build()}.
+     * Used when the filter is discovered through {@link java.util.ServiceLoader}.
+     */
+    public DecompressionFilter() {
+        this(builder());
+    }
+
+    private DecompressionFilter(Builder builder) {
+        this.maxDecompressedSize = builder.maxDecompressedSize;
+    }
+
+    /**
+     * Server content encoding that accepts {@code gzip}, {@code x-gzip} and {@code deflate}
+     * request entities and passes them on unchanged, for this filter to inflate. It does not
+     * encode responses. Discovery of other encodings must be disabled, so Helidon's own gzip and
+     * deflate decoders are not used:
+     *
+     * <pre>{@code
+     * WebServer.builder()
+     *         .contentEncoding(encoding -> encoding
+     *                 .contentEncodingsDiscoverServices(false)
+     *                 .addContentEncoding(DecompressionFilter.contentEncoding()))
+     * }</pre>
+     *
+     * @return content encoding for the server configuration
+     */
+    public static ContentEncoding contentEncoding() {
+        return PassThroughEncoding.INSTANCE;
+    }
+
+    /**
+     * A new builder initialized with the defaults.
+     *
+     * @return builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        String encoding = requestContext.getHeaderString(HttpHeaders.CONTENT_ENCODING);
+        if (encoding == null) {
+            return;
+        }
+        encoding = encoding.trim().toLowerCase(Locale.ROOT);
+        boolean gzip = encoding.equals("gzip") || encoding.equals("x-gzip");
+        if (!gzip && !encoding.equals("deflate")) {
+            return;
+        }
+
+        MultivaluedMap<String, String> headers = requestContext.getHeaders();
+        headers.putSingle(HttpHeaders.CONTENT_ENCODING, "identity");
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+
+        long maxSize = maxDecompressedSize;
+        if (requestContext instanceof PreMatchingRequestContext preMatching) {
+            // Wrap what the route reads, not a stream opened by this filter
+            preMatching.addEntityFilter(in -> new DecompressingInputStream(in, gzip, maxSize));
+        } else {
+            requestContext.setEntityStream(new DecompressingInputStream(requestContext.getEntityStream(), gzip,
+                    maxSize));
+        }
+    }
+
+    // Leaves decoding to the filter, which knows the size limit
+    private static final class PassThroughEncoding implements ContentEncoding {
+
+        private static final PassThroughEncoding INSTANCE = new PassThroughEncoding();
+
+        @Override
+        public String name() {
+            return "jaxrs-decompression";
+        }
+
+        @Override
+        public String type() {
+            return "jaxrs-decompression";
+        }
+
+        @Override
+        public Set<String> ids() {
+            return Set.of("gzip", "x-gzip", "deflate");
+        }
+
+        @Override
+        public boolean supportsEncoding() {
+            return false;
+        }
+
+        @Override
+        public boolean supportsDecoding() {
+            return true;
+        }
+
+        @Override
+        public ContentDecoder decoder() {
+            return ContentDecoder.NO_OP;
+        }
+
+        @Override
+        public ContentEncoder encoder() {
+            return ContentEncoder.NO_OP;
+        }
+    }
+
+    /**
+     * Builder for {@link DecompressionFilter}.
+     */
+    public static final class Builder {
+
+        private long maxDecompressedSize = 10L * 1024 * 1024;
+
+        private Builder() {
+        }
+
+        /**
+         * Maximum size of an inflated entity in bytes. Defaults to 10 MiB.
+         *
+         * @param maxDecompressedSize maximum inflated size
+         * @return updated builder
+         */
+        public Builder maxDecompressedSize(long maxDecompressedSize) {
+            if (maxDecompressedSize < 0) {
+                throw new IllegalArgumentException("maxDecompressedSize must not be negative: "
+                        + maxDecompressedSize);
+            }
+            this.maxDecompressedSize = maxDecompressedSize;
+            return this;
+        }
+
+        /**
+         * Build the filter.
+         *
+         * @return filter
+         */
+        public DecompressionFilter build() {
+            return new DecompressionFilter(this);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.helidon.jaxrs.filters;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.Deflater;
+
+/**
+ * Lock-free bounded pool of {@link Deflater} instances with their output buffers.
+ *
+ * <p>A deflater holds native zlib state that is only freed by {@link Deflater#end()}, so creating
+ * one per response costs an allocation outside the heap and relies on the cleaner to release
+ * it. Requests run on virtual threads, which makes a thread-local pool useless; instead, idle
+ * deflaters sit in a fixed array of slots that are claimed and returned with atomic swaps.
+ * When every slot is empty a new deflater is created, and one returned to a full pool is ended.
+ */
+final class DeflaterPool {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final int level;
+    private final boolean nowrap;
+    private final AtomicReferenceArray<Entry> slots;
+
+    /**
+     * Create a pool.
+     *
+     * @param level compression level
+     * @param nowrap {@code true} for raw deflate (used inside gzip), {@code false} for zlib format
+     * @param size maximum number of idle deflaters kept
+     */
+    DeflaterPool(int level, boolean nowrap, int size) {
+        this.level = level;
+        this.nowrap = nowrap;
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * Take an idle deflater, or create one.
+     *
+     * @return deflater ready for new input
+     */
+    Entry acquire() {
+        // Start at a thread dependent slot so concurrent callers rarely contend
+        int length = slots.length();
+        int start = length == 0 ? 0 : (int) (Thread.currentThread().threadId() % length);
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            if (slots.get(index) != null) {
+                Entry entry = slots.getAndSet(index, null);
+                if (entry != null) {
+                    return entry;
+                }
+            }
+        }
+        return new Entry(new Deflater(level, nowrap), new byte[BUFFER_SIZE]);
+    }
+
+    /**
+     * Return a deflater. It is reset here; callers must not use it afterwards.
+     *
+     * @param entry deflater obtained from {@link #acquire()}
+     */
+    void release(Entry entry) {
+        entry.deflater().reset();
+        int length = slots.length();
+        int start = length == 0 ? 0 : (int) (Thread.currentThread().threadId() % length);
+        for (int i = 0; i < length; i++) {
+            if (slots.compareAndSet((start + i) % length, null, entry)) {
+                return;
+            }
+        }
+        entry.deflater().end();
+    }
+
+    /**
+     * A pooled deflater and the buffer its output is drained into.
+     *
+     * @param deflater deflater
+     * @param buffer output buffer
+     */
+    record Entry(Deflater deflater, byte[] buffer) {
+    }
+}
@@ -0,0 +1,249 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.http.HttpException;
+import io.helidon.http.Status;
+import io.helidon.webserver.http.ServerRequest;
+import io.helidon.webserver.http.ServerResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Request entity read once and replayable any number of times.
+ *
+ * <p>The entity is read into fixed-size chunks taken from a shared pool, up to a memory limit.
+ * A larger entity is written to a temporary file instead: the chunks read so far are flushed to
+ * it, returned to the pool, and the rest of the entity is copied straight to the file. Each
+ * {@link #open()} returns a new stream over the same bytes, so nothing is copied per reader.
+ * {@link #release()} returns the chunks and deletes the file once the response is sent, or as
+ * soon as reading the entity fails. Entities larger than the size limit are rejected with
+ * {@code 413 Content Too Large}.
+ */
+final class EntityBuffer {
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+    // Idle chunks shared by all requests, at most 4 MiB
+    private static final AtomicReferenceArray<byte[]> POOL = new AtomicReferenceArray<>(256);
+
+    private final List<byte[]> chunks = new ArrayList<>();
+    private long length;
+    private Path file;
+    private boolean released;
+    private boolean releaseScheduled;
+
+    private EntityBuffer() {
+    }
+
+    /**
+     * Read an entity to its end.
+     *
+     * @param entity entity stream, closed when read
+     * @param limits memory and size limits
+     * @return buffered entity
+     * @throws UncheckedIOException if reading the entity or writing the file fails
+     * @throws HttpException with {@code 413} if the entity is larger than the size limit
+     */
+    static EntityBuffer read(InputStream entity, Limits limits) {
+        EntityBuffer buffer = new EntityBuffer();
+        try (entity) {
+            buffer.fill(entity, limits);
+        } catch (IOException ex) {
+            buffer.release();
+            throw new UncheckedIOException("Failed to buffer request entity", ex);
+        } catch (RuntimeException ex) {
+            buffer.release();
+            throw ex;
+        }
+        return buffer;
+    }
+
+    /**
+     * Release the request's entity buffer, if filters created one, once the response is sent.
+     *
+     * @param req request whose scope may hold a buffer
+     * @param res response of the request
+     */
+    static void releaseWhenSent(ServerRequest req, ServerResponse res) {
+        EntityBuffer buffer = RequestScope.of(req).entityBuffer();
+        if (buffer != null && !buffer.releaseScheduled) {
+            buffer.releaseScheduled = true;
+            res.whenSent(buffer::release);
+        }
+    }
+
+    /**
+     * A new stream over the buffered entity, starting at the first byte.
+     *
+     * @return entity stream
+     * @throws IllegalStateException if the buffer was released
+     */
+    InputStream open() {
+        if (released) {
+            throw new IllegalStateException("Request entity buffer was already released");
+        }
+        if (file != null) {
+            try {
+                return Files.newInputStream(file);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to open buffered request entity", ex);
+            }
+        }
+        return new ChunkStream();
+    }
+
+    /**
+     * Return the chunks to the pool and delete the file. Streams opened earlier must not be
+     * read afterwards.
+     */
+    void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        for (byte[] chunk : chunks) {
+            give(chunk);
+        }
+        chunks.clear();
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // Temporary directory cleanup removes it eventually
+            }
+        }
+    }
+
+    private void fill(InputStream entity, Limits limits) throws IOException {
+        while (true) {
+            byte[] chunk = take();
+            int filled = entity.readNBytes(chunk, 0, chunk.length);
+            if (filled > 0) {
+                chunks.add(chunk);
+                length += filled;
+            } else {
+                give(chunk);
+            }
+            checkSize(limits.maxSize());
+            if (filled < chunk.length) {
+                return;
+            }
+            if (length >= limits.memoryLimit()) {
+                spill(entity, limits.maxSize());
+                return;
+            }
+        }
+    }
+
+    private void spill(InputStream entity, long maxSize) throws IOException {
+        file = Files.createTempFile("jaxrs-entity-", ".tmp");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            for (byte[] chunk : chunks) {
+                out.write(chunk);
+            }
+            for (byte[] chunk : chunks) {
+                give(chunk);
+            }
+            chunks.clear();
+            // Copy through one pooled chunk, stopping as soon as the entity is too large
+            byte[] chunk = take();
+            try {
+                int n;
+                while ((n = entity.read(chunk)) != -1) {
+                    length += n;
+                    checkSize(maxSize);
+                    out.write(chunk, 0, n);
+                }
+            } finally {
+                give(chunk);
+            }
+        }
+    }
+
+    private void checkSize(long maxSize) {
+        if (length > maxSize) {
+            throw new HttpException("Request entity exceeds " + maxSize + " bytes",
+                    Status.REQUEST_ENTITY_TOO_LARGE_413);
+        }
+    }
+
+    private static byte[] take() {
+        int start = (int) (Thread.currentThread().threadId() % POOL.length());
+        for (int i = 0; i < POOL.length(); i++) {
+            byte[] chunk = POOL.getAndSet((start + i) % POOL.length(), null);
+            if (chunk != null) {
+                return chunk;
+            }
+        }
+        return new byte[CHUNK_SIZE];
+    }
+
+    private static void give(byte[] chunk) {
+        int start = (int) (Thread.currentThread().threadId() % POOL.length());
+        for (int i = 0; i < POOL.length(); i++) {
+            if (POOL.compareAndSet((start + i) % POOL.length(), null, chunk)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Limits of a buffered entity.
+     *
+     * @param memoryLimit largest entity kept in memory, larger ones go to a temporary file
+     * @param maxSize largest entity accepted, in bytes
+     */
+    record Limits(int memoryLimit, long maxSize) {
+    }
+
+    /**
+     * Stream over the in-memory chunks; only the last chunk is partly filled.
+     */
+    private final class ChunkStream extends InputStream {
+
+        private long position;
+
+        @Override
+        public int read() {
+            if (position >= length) {
+                return -1;
+            }
+            byte b = chunks.get((int) (position / CHUNK_SIZE))[(int) (position % CHUNK_SIZE)];
+            position++;
+            return b & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (position >= length) {
+                return -1;
+            }
+            int offset = (int) (position % CHUNK_SIZE);
+            int n = (int) Math.min(Math.min(len, CHUNK_SIZE - offset), length - position);
+            System.arraycopy(chunks.get((int) (position / CHUNK_SIZE)), offset, b, off, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, length - position);
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = Math.max(0, Math.min(n, length - position));
+            position += skipped;
+            return skipped;
+        }
+    }
+}
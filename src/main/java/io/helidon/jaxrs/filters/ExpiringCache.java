@@ -0,0 +1,87 @@
+package io.helidon.jaxrs.filters;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of authentication results, keyed by a digest of the credentials.
+ *
+ * <p>Keys are SHA-256 digests, so secrets are not kept in memory as cache keys. Each entry has
+ * its own expiry time and an expired entry is dropped when it is next looked up. Like the
+ * header caches in {@link MediaTypes}, the cache is cleared when it is full rather than tracking
+ * recency, which keeps lookups lock-free.
+ *
+ * @param <V> cached value type
+ */
+final class ExpiringCache<V> {
+
+    private final Map<ByteBuffer, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    /**
+     * Create a cache.
+     *
+     * @param maxEntries largest number of entries, {@code 0} disables caching
+     */
+    ExpiringCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * SHA-256 digest of a credential, to be used as a key.
+     *
+     * @param credential raw credential, such as a header value
+     * @return key
+     */
+    static ByteBuffer key(String credential) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                                           .digest(credential.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The value cached for a key.
+     *
+     * @param key key from {@link #key(String)}
+     * @return cached value, or {@code null} if there is none or it expired
+     */
+    V get(ByteBuffer key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= entry.expiresAt()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * Cache a value until the given time.
+     *
+     * @param key key from {@link #key(String)}
+     * @param value value to cache
+     * @param expiresAt expiry time, in milliseconds since the epoch
+     */
+    void put(ByteBuffer key, V value, long expiresAt) {
+        if (maxEntries == 0 || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            entries.clear();
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
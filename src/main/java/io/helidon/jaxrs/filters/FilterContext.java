@@ -7,13 +7,18 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.SecurityContext;
 import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptor;
 import java.lang.System.Logger;
 import java.lang.System.Logger.Level;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -22,10 +27,15 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <p>This class is responsible for:
  * <ul>
- *   <li>Storing and retrieving request/response filters</li>
+ *   <li>Storing and retrieving request/response filters and reader/writer interceptors</li>
  *   <li>Name binding matching for selective filter application</li>
+ *   <li>Compiling the filters into an immutable {@link CompiledFilterChain}</li>
  *   <li>Injecting @Context proxies into filter instances</li>
  * </ul>
+ *
+ * <p>Context injection prefers a {@link ContextInjector} generated at build time, found through
+ * the {@link ContextInjectorRegistry} services of the filter's class loader, and falls back to
+ * reflective field injection for filters that have none.
  */
 public class FilterContext {
 
@@ -35,6 +45,12 @@ public class FilterContext {
     private static final Map<FieldCacheKey, Object> contextFieldCache = new ConcurrentHashMap<>();
     private static final Object NO_FIELD = new Object(); // Sentinel for "no field found"
 
+    // Generated injectors per filter class
+    private static final Map<Class<?>, Object> injectorCache = new ConcurrentHashMap<>();
+    private static final Object NO_INJECTOR = new Object(); // Sentinel for "no injector generated"
+    // Class loaders whose generated registries are already in the injector cache
+    private static final Map<ClassLoader, Boolean> scannedLoaders = new ConcurrentHashMap<>();
+
     // Map of context types to their proxy instances
     private static final Map<Class<?>, Object> CONTEXT_PROXIES = new HashMap<>();
 
@@ -50,6 +66,8 @@ public class FilterContext {
 
     private final List<FilterEntry<ContainerRequestFilter>> requestFilters = new ArrayList<>();
     private final List<FilterEntry<ContainerResponseFilter>> responseFilters = new ArrayList<>();
+    private final List<FilterEntry<ReaderInterceptor>> readerInterceptors = new ArrayList<>();
+    private final List<FilterEntry<WriterInterceptor>> writerInterceptors = new ArrayList<>();
 
     // Request filters
     public void addRequestFilter(ContainerRequestFilter filter) {
@@ -77,6 +95,43 @@ public class FilterContext {
         return responseFilters;
     }
 
+    // Reader interceptors
+    public void addReaderInterceptor(ReaderInterceptor interceptor) {
+        readerInterceptors.add(new FilterEntry<>(interceptor, Set.of()));
+    }
+
+    public void addReaderInterceptor(ReaderInterceptor interceptor, Set<String> nameBindings) {
+        readerInterceptors.add(new FilterEntry<>(interceptor, nameBindings));
+    }
+
+    public List<FilterEntry<ReaderInterceptor>> getReaderInterceptorsWithBindings() {
+        return readerInterceptors;
+    }
+
+    // Writer interceptors
+    public void addWriterInterceptor(WriterInterceptor interceptor) {
+        writerInterceptors.add(new FilterEntry<>(interceptor, Set.of()));
+    }
+
+    public void addWriterInterceptor(WriterInterceptor interceptor, Set<String> nameBindings) {
+        writerInterceptors.add(new FilterEntry<>(interceptor, nameBindings));
+    }
+
+    public List<FilterEntry<WriterInterceptor>> getWriterInterceptorsWithBindings() {
+        return writerInterceptors;
+    }
+
+    /**
+     * Freeze the registered filters into an immutable chain for the given method bindings.
+     * Filters added afterwards are not part of the returned chain.
+     *
+     * @param methodBindings name bindings of the target method, empty when there is none
+     * @return compiled chain with only the filters that match
+     */
+    public CompiledFilterChain compile(Set<String> methodBindings) {
+        return CompiledFilterChain.compile(this, methodBindings);
+    }
+
 
     /**
      * Entry for a filter with its name bindings.
@@ -120,11 +175,64 @@ public class FilterContext {
             return;
         }
 
+        ContextInjector<Object> injector = generatedInjector(filter.getClass());
+        if (injector != null) {
+            injector.inject(filter);
+            return;
+        }
+
         for (Map.Entry<Class<?>, Object> entry : CONTEXT_PROXIES.entrySet()) {
             injectContextProxy(filter, entry.getKey(), entry.getValue());
         }
     }
 
+    /**
+     * Register the injector to use for a filter class, ahead of the generated registries.
+     *
+     * @param filterClass the filter class
+     * @param injector injector assigning all @Context proxies of the class
+     * @param <T> filter type
+     */
+    static <T> void registerInjector(Class<T> filterClass, ContextInjector<? super T> injector) {
+        injectorCache.put(filterClass, injector);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ContextInjector<Object> generatedInjector(Class<?> filterClass) {
+        Object cached = injectorCache.get(filterClass);
+        if (cached == null) {
+            ClassLoader classLoader = filterClass.getClassLoader();
+            // ServiceLoader uses the system class loader for null; concurrent misses wait for one scan
+            scannedLoaders.computeIfAbsent(classLoader == null ? ClassLoader.getSystemClassLoader() : classLoader,
+                    loader -> {
+                        loadInjectors(loader);
+                        return Boolean.TRUE;
+                    });
+            cached = injectorCache.computeIfAbsent(filterClass, it -> NO_INJECTOR);
+        }
+        return cached == NO_INJECTOR ? null : (ContextInjector<Object>) cached;
+    }
+
+    // Caches the injectors of all generated registries visible to the loader, once per class loader
+    private static void loadInjectors(ClassLoader classLoader) {
+        Iterator<ContextInjectorRegistry> iterator =
+                ServiceLoader.load(ContextInjectorRegistry.class, classLoader).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    return;
+                }
+                for (Map.Entry<Class<?>, ContextInjector<?>> entry : iterator.next().injectors().entrySet()) {
+                    injectorCache.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+            } catch (ServiceConfigurationError e) {
+                // The filters it covers use reflective injection instead
+                LOGGER.log(Level.WARNING, "Cannot use generated context injectors, falling back to reflection: {0}",
+                        e.getMessage());
+            }
+        }
+    }
+
     /**
      * Inject a specific @Context proxy into a filter instance.
      *
@@ -182,10 +290,11 @@ public class FilterContext {
     }
 
     /**
-     * Clear the field cache. Useful for testing.
+     * Clear the field and injector caches. Useful for testing.
      */
     public static void clearFieldCache() {
         contextFieldCache.clear();
+        injectorCache.clear();
     }
 }
 
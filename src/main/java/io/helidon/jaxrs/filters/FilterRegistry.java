@@ -0,0 +1,72 @@
+package io.helidon.jaxrs.filters;
+
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptor;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Build-time registry of JAX-RS providers.
+ *
+ * <p>{@link io.helidon.jaxrs.filters.processor.FilterRegistryProcessor} generates one
+ * implementation per compiled module from its {@code META-INF/services} entries, named
+ * {@code JaxRsFilterRegistry} in the package of the module's first provider, and registers it
+ * as a service of this interface. {@code @Priority}, {@code @PreMatching} and
+ * {@code @NameBinding} are resolved at compile time and each chain is already sorted, so
+ * {@link JaxRsFilterSupport} can skip annotation reflection at startup for the providers a
+ * registry covers. With JPMS, the module declares the registry with {@code provides}.
+ */
+public interface FilterRegistry {
+
+    /**
+     * Instantiate the registered providers and return their chains.
+     * A provider class that implements several filter types is instantiated once and
+     * the same instance appears in each chain.
+     *
+     * @return sorted filter chains
+     */
+    Chains chains();
+
+    /**
+     * A provider instance with its resolved priority and name bindings.
+     *
+     * @param provider the provider instance
+     * @param priority value of {@code @Priority}, or the default priority
+     * @param bindings class names of the {@code @NameBinding} annotations on the provider
+     * @param <T> provider type
+     */
+    record Entry<T>(T provider, int priority, Set<String> bindings) {
+    }
+
+    /**
+     * Filter and interceptor chains in execution order.
+     *
+     * @param preMatching pre-matching request filters, ascending priority
+     * @param request post-matching request filters, ascending priority
+     * @param response response filters, descending priority
+     * @param reader reader interceptors, ascending priority
+     * @param writer writer interceptors, ascending priority
+     */
+    record Chains(List<Entry<ContainerRequestFilter>> preMatching,
+                  List<Entry<ContainerRequestFilter>> request,
+                  List<Entry<ContainerResponseFilter>> response,
+                  List<Entry<ReaderInterceptor>> reader,
+                  List<Entry<WriterInterceptor>> writer) {
+
+        /**
+         * Filter chains without interceptors.
+         *
+         * @param preMatching pre-matching request filters, ascending priority
+         * @param request post-matching request filters, ascending priority
+         * @param response response filters, descending priority
+         */
+        public Chains(List<Entry<ContainerRequestFilter>> preMatching,
+                      List<Entry<ContainerRequestFilter>> request,
+                      List<Entry<ContainerResponseFilter>> response) {
+            this(preMatching, request, response, List.of(), List.of());
+        }
+    }
+}
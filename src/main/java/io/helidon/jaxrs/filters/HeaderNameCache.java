@@ -0,0 +1,47 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Helidon {@link HeaderName} instances of the header name strings filters use, cached by string.
+ *
+ * <p>{@link HeaderNames#create(String)} allocates a name and its lowercase form for every header
+ * that is not one of Helidon's constants, such as {@code X-Request-Id} or {@code traceparent}.
+ * Filters look up the same few names on every request, so each spelling is resolved once and
+ * the name shared. The cache is bounded like those of {@link MediaTypes}: when full it is cleared
+ * and refills with the names in use. Names too long to be worth keeping are created every time.
+ */
+final class HeaderNameCache {
+
+    private static final int MAX_ENTRIES = 256;
+    private static final int MAX_NAME_LENGTH = 128;
+
+    private static final Map<String, HeaderName> NAMES = new ConcurrentHashMap<>();
+
+    private HeaderNameCache() {
+    }
+
+    /**
+     * The Helidon header name of a string.
+     *
+     * @param name header name, in any case
+     * @return header name
+     */
+    static HeaderName of(String name) {
+        HeaderName headerName = NAMES.get(name);
+        if (headerName == null) {
+            headerName = HeaderNames.create(name);
+            if (name.length() <= MAX_NAME_LENGTH) {
+                if (NAMES.size() >= MAX_ENTRIES) {
+                    NAMES.clear();
+                }
+                NAMES.put(name, headerName);
+            }
+        }
+        return headerName;
+    }
+}
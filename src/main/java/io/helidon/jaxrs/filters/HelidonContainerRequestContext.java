@@ -21,8 +21,8 @@ public class HelidonContainerRequestContext implements ContainerRequestContext {
     public static final String RESOURCE_INFO_PROPERTY = "jakarta.ws.rs.container.ResourceInfo";
 
     private final ServerRequest request;
-    private final HelidonUriInfo uriInfo;
-    private final HelidonHttpHeaders httpHeaders;
+    private HelidonUriInfo uriInfo;
+    private HelidonHttpHeaders httpHeaders;
     private final Map<String, Object> properties = new HashMap<>();
     private SecurityContext securityContext;
     private ResourceInfo resourceInfo;
@@ -30,11 +30,11 @@ public class HelidonContainerRequestContext implements ContainerRequestContext {
     private int abortStatus = 0;
     private String abortMessage;
     private InputStream entityStream;
+    // Limits of the replayable entity buffer, null when buffering is off
+    private EntityBuffer.Limits entityLimits;
 
     public HelidonContainerRequestContext(ServerRequest request) {
         this.request = request;
-        this.uriInfo = new HelidonUriInfo(request);
-        this.httpHeaders = new HelidonHttpHeaders(request);
     }
 
     /**
@@ -92,6 +92,9 @@ public class HelidonContainerRequestContext implements ContainerRequestContext {
 
     @Override
     public UriInfo getUriInfo() {
+        if (uriInfo == null) {
+            uriInfo = new HelidonUriInfo(request);
+        }
         return uriInfo;
     }
 
@@ -122,47 +125,47 @@ public class HelidonContainerRequestContext implements ContainerRequestContext {
 
     @Override
     public MultivaluedMap<String, String> getHeaders() {
-        return httpHeaders.getRequestHeaders();
+        return httpHeaders().getRequestHeaders();
     }
 
     @Override
     public String getHeaderString(String name) {
-        return httpHeaders.getHeaderString(name);
+        return httpHeaders().getHeaderString(name);
     }
 
     @Override
     public Date getDate() {
-        return httpHeaders.getDate();
+        return httpHeaders().getDate();
     }
 
     @Override
     public Locale getLanguage() {
-        return httpHeaders.getLanguage();
+        return httpHeaders().getLanguage();
     }
 
     @Override
     public int getLength() {
-        return httpHeaders.getLength();
+        return httpHeaders().getLength();
     }
 
     @Override
     public MediaType getMediaType() {
-        return httpHeaders.getMediaType();
+        return httpHeaders().getMediaType();
     }
 
     @Override
     public List<MediaType> getAcceptableMediaTypes() {
-        return httpHeaders.getAcceptableMediaTypes();
+        return httpHeaders().getAcceptableMediaTypes();
     }
 
     @Override
     public List<Locale> getAcceptableLanguages() {
-        return httpHeaders.getAcceptableLanguages();
+        return httpHeaders().getAcceptableLanguages();
     }
 
     @Override
     public Map<String, Cookie> getCookies() {
-        return httpHeaders.getCookies();
+        return httpHeaders().getCookies();
     }
 
     @Override
@@ -172,7 +175,27 @@ public class HelidonContainerRequestContext implements ContainerRequestContext {
 
     @Override
     public InputStream getEntityStream() {
-        return entityStream != null ? entityStream : request.content().inputStream();
+        if (entityStream != null) {
+            return entityStream;
+        }
+        if (entityLimits != null) {
+            // Replayed through wrappers of pre-matching filters, such as request decompression
+            RequestScope scope = RequestScope.of(request);
+            scope.entityBuffer(entityLimits);
+            return scope.entityStream();
+        }
+        return request.content().inputStream();
+    }
+
+    /**
+     * Read the entity once into a buffer shared by the request, so every {@link #getEntityStream()}
+     * call returns the whole entity and the route can still read it from
+     * {@link RequestScope#entityStream()}.
+     *
+     * @param limits memory and size limits of the buffer
+     */
+    void bufferEntity(EntityBuffer.Limits limits) {
+        this.entityLimits = limits;
     }
 
     @Override
@@ -180,9 +203,17 @@ public class HelidonContainerRequestContext implements ContainerRequestContext {
         this.entityStream = input;
     }
 
+    private HelidonHttpHeaders httpHeaders() {
+        if (httpHeaders == null) {
+            httpHeaders = new HelidonHttpHeaders(request);
+        }
+        return httpHeaders;
+    }
+
     @Override
     public SecurityContext getSecurityContext() {
-        return securityContext;
+        // Shared with @Context SecurityContext, which decides whether it is kept for the request
+        return securityContext == null ? RequestScope.of(request).securityContext() : securityContext;
     }
 
     @Override
@@ -1,5 +1,7 @@
 package io.helidon.jaxrs.filters;
 
+import io.helidon.http.HeaderNames;
+import io.helidon.http.WritableHeaders;
 import jakarta.ws.rs.container.ContainerResponseContext;
 import jakarta.ws.rs.core.*;
 
@@ -11,18 +13,47 @@ import java.util.*;
 
 /**
  * Simple implementation of ContainerResponseContext for filter processing.
+ *
+ * <p>Headers are a write-through view of Helidon headers: changes made by filters are applied
+ * to them directly. The entity stream is available when the context is created by the response
+ * stage of {@link JaxRsFilter}; standalone contexts have none.
  */
 public class HelidonContainerResponseContext implements ContainerResponseContext {
 
     private int status;
     private Object entity;
-    private final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
-    private final MultivaluedMap<String, String> stringHeaders = new MultivaluedHashMap<>();
+    private final WritableHeaders<?> helidonHeaders;
+    private final ResponseHeadersMap headers;
+    private final ResponseStage stage;
     private MediaType mediaType;
 
+    /**
+     * Create a response context with its own, initially empty headers.
+     *
+     * @param status response status
+     * @param entity response entity, may be {@code null}
+     */
     public HelidonContainerResponseContext(int status, Object entity) {
+        this(status, entity, WritableHeaders.create());
+    }
+
+    /**
+     * Create a response context whose headers write through to the given Helidon headers.
+     *
+     * @param status response status
+     * @param entity response entity, may be {@code null}
+     * @param headers response headers, for example {@code ServerResponse.headers()}
+     */
+    public HelidonContainerResponseContext(int status, Object entity, WritableHeaders<?> headers) {
+        this(status, entity, headers, null);
+    }
+
+    HelidonContainerResponseContext(int status, Object entity, WritableHeaders<?> headers, ResponseStage stage) {
         this.status = status;
         this.entity = entity;
+        this.helidonHeaders = Objects.requireNonNull(headers, "headers");
+        this.headers = new ResponseHeadersMap(headers);
+        this.stage = stage;
     }
 
     @Override
@@ -74,26 +105,16 @@ public class HelidonContainerResponseContext implements ContainerResponseContext
 
     @Override
     public MultivaluedMap<String, String> getStringHeaders() {
-        return stringHeaders;
+        return headers.strings();
     }
 
     @Override
     public String getHeaderString(String name) {
-        List<String> values = stringHeaders.get(name);
-        if (values == null || values.isEmpty()) {
-            List<Object> rawValues = headers.get(name);
-            if (rawValues == null || rawValues.isEmpty()) {
-                return null;
-            }
-            List<String> mapped = new ArrayList<>();
-            for (Object value : rawValues) {
-                if (value != null) {
-                    mapped.add(value.toString());
-                }
-            }
-            return mapped.isEmpty() ? null : String.join(",", mapped);
+        List<String> values = helidonHeaders.all(HeaderNames.create(name), List::of);
+        if (values.isEmpty()) {
+            return null;
         }
-        return String.join(",", values);
+        return values.size() == 1 ? values.get(0) : String.join(",", values);
     }
 
     @Override
@@ -103,7 +124,7 @@ public class HelidonContainerResponseContext implements ContainerResponseContext
 
     @Override
     public Date getDate() {
-        return null;
+        return HttpDates.parse(getHeaderString("Date"));
     }
 
     @Override
@@ -133,7 +154,7 @@ public class HelidonContainerResponseContext implements ContainerResponseContext
 
     @Override
     public Date getLastModified() {
-        return null;
+        return HttpDates.parse(getHeaderString("Last-Modified"));
     }
 
     @Override
@@ -199,12 +220,18 @@ public class HelidonContainerResponseContext implements ContainerResponseContext
 
     @Override
     public OutputStream getEntityStream() {
-        throw new UnsupportedOperationException("getEntityStream not supported");
+        if (stage == null) {
+            throw new UnsupportedOperationException("getEntityStream not supported");
+        }
+        return stage.entityStream();
     }
 
     @Override
     public void setEntityStream(OutputStream outputStream) {
-        throw new UnsupportedOperationException("setEntityStream not supported");
+        if (stage == null) {
+            throw new UnsupportedOperationException("setEntityStream not supported");
+        }
+        stage.entityStream(Objects.requireNonNull(outputStream, "outputStream"));
     }
 }
 
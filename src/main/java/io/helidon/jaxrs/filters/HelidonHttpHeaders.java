@@ -1,7 +1,5 @@
 package io.helidon.jaxrs.filters;
 
-import io.helidon.http.HeaderName;
-import io.helidon.http.HeaderNames;
 import io.helidon.webserver.http.ServerRequest;
 import jakarta.ws.rs.core.*;
 
@@ -13,6 +11,8 @@ import java.util.*;
 public class HelidonHttpHeaders implements HttpHeaders {
 
     private final ServerRequest request;
+    private RequestHeadersMap requestHeaders;
+    private CookieIndex cookies;
 
     public HelidonHttpHeaders(ServerRequest request) {
         this.request = request;
@@ -20,62 +20,43 @@ public class HelidonHttpHeaders implements HttpHeaders {
 
     @Override
     public List<String> getRequestHeader(String name) {
-        HeaderName headerName = HeaderNames.create(name);
-        return request.headers().all(headerName, List::of);
+        List<String> values = getRequestHeaders().get(name);
+        return values == null ? List.of() : values;
     }
 
     @Override
     public String getHeaderString(String name) {
-        HeaderName headerName = HeaderNames.create(name);
-        return request.headers().first(headerName).map(Object::toString).orElse(null);
+        return getRequestHeaders().getFirst(name);
     }
 
+    /**
+     * Live, case-insensitive view of the request headers. The view is created once and reads
+     * the Helidon headers directly; changes made through it are visible to later calls on this
+     * instance only.
+     *
+     * @return request headers view
+     */
     @Override
     public MultivaluedMap<String, String> getRequestHeaders() {
-        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
-        for (var header : request.headers()) {
-            headers.add(header.name(), header.values());
+        if (requestHeaders == null) {
+            requestHeaders = new RequestHeadersMap(request.headers());
         }
-        return headers;
+        return requestHeaders;
     }
 
     @Override
     public List<MediaType> getAcceptableMediaTypes() {
-        String accept = getHeaderString("Accept");
-        if (accept == null || accept.isEmpty()) {
-            return List.of(MediaType.WILDCARD_TYPE);
-        }
-        List<MediaType> types = new ArrayList<>();
-        for (String part : accept.split(",")) {
-            try {
-                types.add(MediaType.valueOf(part.trim()));
-            } catch (IllegalArgumentException e) {
-                // Skip invalid media types
-            }
-        }
-        return types.isEmpty() ? List.of(MediaType.WILDCARD_TYPE) : types;
+        return MediaTypes.acceptable(getHeaderString("Accept"));
     }
 
     @Override
     public List<Locale> getAcceptableLanguages() {
-        String acceptLang = getHeaderString("Accept-Language");
-        if (acceptLang == null || acceptLang.isEmpty()) {
-            return List.of(Locale.getDefault());
-        }
-        List<Locale> locales = new ArrayList<>();
-        for (String part : acceptLang.split(",")) {
-            String lang = part.split(";")[0].trim();
-            if (!lang.isEmpty()) {
-                locales.add(Locale.forLanguageTag(lang));
-            }
-        }
-        return locales.isEmpty() ? List.of(Locale.getDefault()) : locales;
+        return Languages.acceptable(getHeaderString("Accept-Language"));
     }
 
     @Override
     public MediaType getMediaType() {
-        String contentType = getHeaderString("Content-Type");
-        return contentType != null ? MediaType.valueOf(contentType) : null;
+        return MediaTypes.contentType(getHeaderString("Content-Type"));
     }
 
     @Override
@@ -84,24 +65,24 @@ public class HelidonHttpHeaders implements HttpHeaders {
         return lang != null ? Locale.forLanguageTag(lang) : null;
     }
 
+    /**
+     * Cookies of the request, indexed from the {@code Cookie} header on first use. Looking up a
+     * cookie by name creates only that {@link Cookie}.
+     *
+     * @return read-only cookie map
+     */
     @Override
     public Map<String, Cookie> getCookies() {
-        Map<String, Cookie> cookies = new HashMap<>();
-        for (var entry : request.headers().cookies().toMap().entrySet()) {
-            String name = entry.getKey();
-            List<String> values = entry.getValue();
-            if (!values.isEmpty()) {
-                cookies.put(name, new Cookie(name, values.get(0)));
-            }
+        List<String> values = getRequestHeaders().get("Cookie");
+        if (cookies == null || !cookies.isFor(values)) {
+            cookies = new CookieIndex(values);
         }
         return cookies;
     }
 
     @Override
     public Date getDate() {
-        String date = getHeaderString("Date");
-        // Simplified: return null for now
-        return null;
+        return HttpDates.parse(getHeaderString("Date"));
     }
 
     @Override
@@ -0,0 +1,49 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.security.Subject;
+import io.helidon.webserver.http.ServerRequest;
+import jakarta.ws.rs.core.SecurityContext;
+
+import java.security.Principal;
+
+/**
+ * JAX-RS {@link SecurityContext} view of a Helidon Security {@code SecurityContext}.
+ *
+ * <p>Kept out of {@link SecurityContextProvider} so Helidon Security classes are only loaded
+ * when {@link SecurityContextProvider#helidonSecurity()} is used.
+ */
+final class HelidonSecurityAdapter implements SecurityContext {
+
+    static final SecurityContextProvider PROVIDER = request -> request.context()
+            .get(io.helidon.security.SecurityContext.class)
+            .map(security -> new HelidonSecurityAdapter(request, security));
+
+    private final ServerRequest request;
+    private final io.helidon.security.SecurityContext security;
+
+    private HelidonSecurityAdapter(ServerRequest request, io.helidon.security.SecurityContext security) {
+        this.request = request;
+        this.security = security;
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        return security.isAuthenticated() ? security.user().map(Subject::principal).orElse(null) : null;
+    }
+
+    @Override
+    public boolean isUserInRole(String role) {
+        return security.isUserInRole(role);
+    }
+
+    @Override
+    public boolean isSecure() {
+        return request.isSecure() || "https".equalsIgnoreCase(request.requestedUri().scheme());
+    }
+
+    @Override
+    public String getAuthenticationScheme() {
+        // Helidon Security does not expose the scheme of the provider that authenticated
+        return null;
+    }
+}
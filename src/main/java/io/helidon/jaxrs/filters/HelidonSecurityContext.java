@@ -4,8 +4,6 @@ import io.helidon.webserver.http.ServerRequest;
 import jakarta.ws.rs.core.SecurityContext;
 
 import java.security.Principal;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -16,10 +14,26 @@ import java.util.Set;
  * <ul>
  *   <li>User principal from Basic/Bearer authentication headers</li>
  *   <li>Role checking via custom X-User-Roles header</li>
- *   <li>Secure transport detection (HTTPS)</li>
+ *   <li>User principal and roles from a TLS client certificate, when enabled</li>
+ *   <li>Secure transport detection (TLS connection or HTTPS request URI)</li>
  *   <li>Authentication scheme information</li>
  * </ul>
  *
+ * <p>{@code Basic} credentials are only decoded unless a {@link CredentialVerifier} is configured
+ * in {@link JaxRsFilterOptions}. With a verifier, invalid credentials leave the request
+ * unauthenticated, and roles come from the verified {@link Identity} instead of the
+ * {@code X-User-Roles} header. {@code Bearer} tokens are validated as signed JWTs in the same way
+ * when a {@link JwkSet} is configured. With client certificate authentication enabled, a
+ * certificate presented over mutual TLS takes precedence over all headers. Once any of these is
+ * configured, the {@code X-User-Roles} header is ignored for every request, including requests
+ * without credentials. When a {@link SecurityContextProvider} is configured and returns empty,
+ * role headers and unverified user names are ignored too, so the request is anonymous unless a
+ * credential, token or certificate is verified.
+ *
+ * <p>Roles are held as a bit mask over process-wide role IDs, shared with the cached identity or
+ * the cached parse of the {@code X-User-Roles} value, so {@link #isUserInRole(String)} does not
+ * allocate. A {@link Role} resolved once by a filter skips the name lookup as well.
+ *
  * <p>For production use, integrate with Helidon Security module for
  * full authentication/authorization support.
  */
@@ -28,61 +42,76 @@ public class HelidonSecurityContext implements SecurityContext {
     private final ServerRequest request;
     private final Principal userPrincipal;
     private final String authenticationScheme;
-    private final Set<String> roles;
+    private final RoleSet roles;
 
     public HelidonSecurityContext(ServerRequest request) {
+        this(request, Authenticator.DEFAULT);
+    }
+
+    HelidonSecurityContext(ServerRequest request, Authenticator authenticator) {
         this.request = request;
 
         Principal principal = null;
         String scheme = null;
-        Set<String> userRoles = new HashSet<>();
+        RoleSet userRoles = RoleSet.EMPTY;
+        // Roles from headers are only trusted when nothing is verified, see Authenticator.trustsHeaders()
+        boolean rolesHeaderTrusted = authenticator.trustsHeaders();
+
+        // A verified client certificate (mutual TLS) takes precedence over headers
+        Authenticator.Authenticated certificate = authenticator.clientCertificate(request);
 
         // Check for authentication header
         var authHeader = request.headers().first(io.helidon.http.HeaderNames.AUTHORIZATION);
-        if (authHeader.isPresent()) {
+        if (certificate != null) {
+            scheme = CLIENT_CERT_AUTH;
+            principal = certificate.identity();
+            userRoles = certificate.roles();
+        } else if (authHeader.isPresent()) {
             String auth = authHeader.get();
-            if (auth.toLowerCase().startsWith("basic ")) {
-                scheme = BASIC_AUTH;
-                // Extract username from Basic auth (username:password base64 encoded)
-                try {
-                    String credentials = new String(java.util.Base64.getDecoder().decode(auth.substring(6)));
-                    int colonIndex = credentials.indexOf(':');
-                    if (colonIndex > 0) {
-                        String username = credentials.substring(0, colonIndex);
-                        principal = () -> username;
+            if (auth.regionMatches(true, 0, "basic ", 0, 6)) {
+                // Username from Basic auth (username:password base64 encoded), verified if configured
+                Authenticator.Authenticated authenticated = authenticator.basic(auth);
+                if (authenticator.verifiesCredentials()) {
+                    if (authenticated != null) {
+                        scheme = BASIC_AUTH;
+                        principal = authenticated.identity();
+                        userRoles = authenticated.roles();
                     }
-                } catch (Exception e) {
-                    // Invalid base64 or format, leave principal as null
+                } else if (authenticator.trustsUnverifiedNames()) {
+                    scheme = BASIC_AUTH;
+                    principal = authenticated == null ? null : authenticated.identity();
                 }
-            } else if (auth.toLowerCase().startsWith("bearer ")) {
-                scheme = "BEARER";
-                // For bearer tokens, we'd need JWT decoding which is application-specific
-                // Check for X-User-Name header as fallback for testing
-                var userName = request.headers().first(io.helidon.http.HeaderNames.create("X-User-Name"));
-                if (userName.isPresent()) {
-                    String name = userName.get();
-                    principal = () -> name;
+            } else if (auth.regionMatches(true, 0, "bearer ", 0, 7)) {
+                if (authenticator.validatesTokens()) {
+                    // Signed JWT, principal and roles from its claims
+                    Authenticator.Authenticated authenticated = authenticator.bearer(auth);
+                    if (authenticated != null) {
+                        scheme = "BEARER";
+                        principal = authenticated.identity();
+                        userRoles = authenticated.roles();
+                    }
+                } else if (authenticator.trustsUnverifiedNames()) {
+                    scheme = "BEARER";
+                    // Without a JWK set, check for X-User-Name header as fallback for testing
+                    var userName = request.headers().first(io.helidon.http.HeaderNames.create("X-User-Name"));
+                    if (userName.isPresent()) {
+                        principal = Identity.of(userName.get());
+                    }
                 }
-            } else if (auth.toLowerCase().startsWith("digest ")) {
+            } else if (auth.regionMatches(true, 0, "digest ", 0, 7)) {
                 scheme = DIGEST_AUTH;
             }
         }
 
-        // Check for custom roles header (useful for testing)
+        // Check for custom roles header (useful for testing), not trusted once anything is verified
         var rolesHeader = request.headers().first(io.helidon.http.HeaderNames.create("X-User-Roles"));
-        if (rolesHeader.isPresent()) {
-            String rolesStr = rolesHeader.get();
-            for (String role : rolesStr.split(",")) {
-                String trimmed = role.trim();
-                if (!trimmed.isEmpty()) {
-                    userRoles.add(trimmed);
-                }
-            }
+        if (rolesHeader.isPresent() && rolesHeaderTrusted) {
+            userRoles = RoleSet.parse(rolesHeader.get());
         }
 
         this.userPrincipal = principal;
         this.authenticationScheme = scheme;
-        this.roles = Collections.unmodifiableSet(userRoles);
+        this.roles = userRoles;
     }
 
     @Override
@@ -92,13 +121,34 @@ public class HelidonSecurityContext implements SecurityContext {
 
     @Override
     public boolean isUserInRole(String role) {
-        return roles.contains(role);
+        return role != null && roles.contains(role);
+    }
+
+    /**
+     * Whether the user is in a pre-resolved role, a bit test for roles with an ID.
+     *
+     * @param role resolved role
+     * @return {@code true} if the user is in the role
+     * @see Role#grantedIn(SecurityContext)
+     */
+    public boolean isUserInRole(Role role) {
+        return role != null && roles.contains(role);
+    }
+
+    /**
+     * The roles of the user. The set is created from the role bit mask on first call, so role
+     * checks should use {@link #isUserInRole(String)}.
+     *
+     * @return immutable set of role names
+     */
+    public Set<String> roles() {
+        return roles.names();
     }
 
     @Override
     public boolean isSecure() {
-        // Check if the request was made over HTTPS
-        return "https".equalsIgnoreCase(request.requestedUri().scheme());
+        // TLS on this connection, or HTTPS to a proxy in front of it when forwarded headers are trusted
+        return request.isSecure() || "https".equalsIgnoreCase(request.requestedUri().scheme());
     }
 
     @Override
@@ -106,5 +156,3 @@ public class HelidonSecurityContext implements SecurityContext {
         return authenticationScheme;
     }
 }
-
-
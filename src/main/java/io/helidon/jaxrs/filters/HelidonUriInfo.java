@@ -4,28 +4,51 @@ import io.helidon.webserver.http.ServerRequest;
 import jakarta.ws.rs.core.*;
 
 import java.net.URI;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Wrapper that adapts Helidon's ServerRequest to JAX-RS UriInfo.
+ *
+ * <p>One instance serves a whole request, so every value is computed on first use and kept:
+ * URIs, path segments, query and path parameters, each in a decoded and a raw variant. Lists and
+ * maps returned are immutable and shared by all callers. A pre-matching filter may rewrite the
+ * request URI after values were computed, so URIs, segments and query parameters are recomputed
+ * when the request prologue changed since they were read, and path parameters when Helidon
+ * routed the request to another path. Paths are read from the prologue, because filters run
+ * before routing and {@code request.path()} only follows a rewrite once the request is routed.
  */
 public class HelidonUriInfo implements UriInfo {
 
     private final ServerRequest request;
 
+    // Request prologue the URIs, segments and query parameters were computed from
+    private Object uriSource;
+    private URI requestUri;
+    private URI absolutePath;
+    private URI baseUri;
+    private List<PathSegment> pathSegments;
+    private List<PathSegment> rawPathSegments;
+    private MultivaluedMap<String, String> queryParameters;
+    private MultivaluedMap<String, String> rawQueryParameters;
+    // Routed path the path parameters were read from
+    private Object pathParametersSource;
+    private MultivaluedMap<String, String> pathParameters;
+    private MultivaluedMap<String, String> rawPathParameters;
+
     public HelidonUriInfo(ServerRequest request) {
         this.request = request;
     }
 
     @Override
     public String getPath() {
-        return request.path().path();
+        return request.prologue().uriPath().path();
     }
 
     @Override
     public String getPath(boolean decode) {
-        return getPath();
+        return decode ? getPath() : request.prologue().uriPath().rawPath();
     }
 
     @Override
@@ -35,19 +58,30 @@ public class HelidonUriInfo implements UriInfo {
 
     @Override
     public List<PathSegment> getPathSegments(boolean decode) {
-        List<PathSegment> segments = new ArrayList<>();
-        String path = getPath();
-        for (String segment : path.split("/")) {
-            if (!segment.isEmpty()) {
-                segments.add(new SimplePathSegment(segment));
+        checkPrologue();
+        if (decode) {
+            if (pathSegments == null) {
+                pathSegments = SimplePathSegment.parse(request.prologue().uriPath().rawPath(), true);
             }
+            return pathSegments;
+        }
+        if (rawPathSegments == null) {
+            rawPathSegments = SimplePathSegment.parse(request.prologue().uriPath().rawPath(), false);
         }
-        return segments;
+        return rawPathSegments;
     }
 
     @Override
     public URI getRequestUri() {
-        return request.requestedUri().toUri();
+        checkPrologue();
+        if (requestUri == null) {
+            // From the current path and query, which follow a rewritten prologue
+            String query = request.query().rawValue();
+            requestUri = query.isEmpty()
+                    ? getAbsolutePath()
+                    : URI.create(getAbsolutePath() + "?" + query);
+        }
+        return requestUri;
     }
 
     @Override
@@ -55,9 +89,20 @@ public class HelidonUriInfo implements UriInfo {
         return UriBuilder.fromUri(getRequestUri());
     }
 
+    /**
+     * The request URI without its query and fragment.
+     *
+     * @return absolute path
+     */
     @Override
     public URI getAbsolutePath() {
-        return request.requestedUri().toUri();
+        checkPrologue();
+        if (absolutePath == null) {
+            String rawPath = request.prologue().uriPath().rawPath();
+            String base = getBaseUri().toString();
+            absolutePath = URI.create(rawPath.startsWith("/") ? base + rawPath.substring(1) : base + rawPath);
+        }
+        return absolutePath;
     }
 
     @Override
@@ -67,8 +112,12 @@ public class HelidonUriInfo implements UriInfo {
 
     @Override
     public URI getBaseUri() {
-        var uri = request.requestedUri();
-        return URI.create(uri.scheme() + "://" + uri.host() + ":" + uri.port() + "/");
+        checkPrologue();
+        if (baseUri == null) {
+            var uri = request.requestedUri();
+            baseUri = URI.create(uri.scheme() + "://" + uri.host() + ":" + uri.port() + "/");
+        }
+        return baseUri;
     }
 
     @Override
@@ -81,15 +130,34 @@ public class HelidonUriInfo implements UriInfo {
         return getPathParameters(true);
     }
 
+    /**
+     * Path parameters of the matched route. Helidon supplies decoded values; the raw variant
+     * percent-encodes them again as path segments.
+     *
+     * @param decode whether to return decoded values
+     * @return immutable path parameters
+     */
     @Override
     public MultivaluedMap<String, String> getPathParameters(boolean decode) {
-        MultivaluedMap<String, String> params = new MultivaluedHashMap<>();
-        request.path().pathParameters().toMap().forEach((key, values) -> {
-            for (String value : values) {
-                params.add(key, value);
+        var path = request.path();
+        if (pathParametersSource != path) {
+            pathParametersSource = path;
+            pathParameters = null;
+            rawPathParameters = null;
+        }
+        if (decode) {
+            if (pathParameters == null) {
+                pathParameters = UnmodifiableMultivaluedMap.copyOf(path.pathParameters().toMap());
             }
-        });
-        return params;
+            return pathParameters;
+        }
+        if (rawPathParameters == null) {
+            Map<String, List<String>> raw = new LinkedHashMap<>();
+            getPathParameters(true).forEach((name, values) -> raw.put(
+                    name, values.stream().map(UriComponents::encodePathSegment).toList()));
+            rawPathParameters = UnmodifiableMultivaluedMap.copyOf(raw);
+        }
+        return rawPathParameters;
     }
 
     @Override
@@ -99,23 +167,27 @@ public class HelidonUriInfo implements UriInfo {
 
     @Override
     public MultivaluedMap<String, String> getQueryParameters(boolean decode) {
-        MultivaluedMap<String, String> params = new MultivaluedHashMap<>();
-        request.query().toMap().forEach((key, values) -> {
-            for (String value : values) {
-                params.add(key, value);
+        checkPrologue();
+        if (decode) {
+            if (queryParameters == null) {
+                queryParameters = UriComponents.parseQuery(request.query().rawValue(), true);
             }
-        });
-        return params;
+            return queryParameters;
+        }
+        if (rawQueryParameters == null) {
+            rawQueryParameters = UriComponents.parseQuery(request.query().rawValue(), false);
+        }
+        return rawQueryParameters;
     }
 
     @Override
     public List<String> getMatchedURIs() {
-        return List.of(getPath());
+        return getMatchedURIs(true);
     }
 
     @Override
     public List<String> getMatchedURIs(boolean decode) {
-        return getMatchedURIs();
+        return List.of(getPath(decode));
     }
 
     @Override
@@ -133,23 +205,18 @@ public class HelidonUriInfo implements UriInfo {
         return getBaseUri().relativize(uri);
     }
 
-    private static class SimplePathSegment implements PathSegment {
-        private final String path;
-
-        SimplePathSegment(String path) {
-            this.path = path;
-        }
-
-        @Override
-        public String getPath() {
-            return path;
-        }
-
-        @Override
-        public MultivaluedMap<String, String> getMatrixParameters() {
-            return new MultivaluedHashMap<>();
+    // Drop the values computed from an earlier prologue
+    private void checkPrologue() {
+        var prologue = request.prologue();
+        if (uriSource != prologue) {
+            uriSource = prologue;
+            requestUri = null;
+            absolutePath = null;
+            baseUri = null;
+            pathSegments = null;
+            rawPathSegments = null;
+            queryParameters = null;
+            rawQueryParameters = null;
         }
     }
 }
-
-
@@ -0,0 +1,89 @@
+package io.helidon.jaxrs.filters;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * HTTP-date parsing and formatting (RFC 9110, section 5.6.7).
+ *
+ * <p>Dates are formatted as IMF-fixdate ({@code Sun, 06 Nov 1994 08:49:37 GMT}). HTTP dates have
+ * a resolution of one second, and filters that stamp {@code Date}, {@code Last-Modified} or
+ * {@code Expires} mostly format the current second, so the last formatted second is cached and
+ * reused until the clock moves on. Parsing accepts IMF-fixdate and the two obsolete formats,
+ * RFC 850 and ANSI C {@code asctime()}.
+ */
+final class HttpDates {
+
+    private static final DateTimeFormatter IMF_FIXDATE = DateTimeFormatter
+            .ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US)
+            .withZone(ZoneOffset.UTC);
+
+    // Two digit years are read as 1970 to 2069
+    private static final DateTimeFormatter RFC_850 = new DateTimeFormatterBuilder()
+            .appendPattern("EEEE, dd-MMM-")
+            .appendValueReduced(ChronoField.YEAR, 2, 2, LocalDate.of(1970, 1, 1))
+            .appendPattern(" HH:mm:ss 'GMT'")
+            .toFormatter(Locale.US)
+            .withZone(ZoneOffset.UTC);
+
+    private static final DateTimeFormatter ASCTIME = DateTimeFormatter
+            .ofPattern("EEE MMM ppd HH:mm:ss yyyy", Locale.US)
+            .withZone(ZoneOffset.UTC);
+
+    private static final List<DateTimeFormatter> PARSERS = List.of(
+            DateTimeFormatter.RFC_1123_DATE_TIME, RFC_850, ASCTIME);
+
+    private static volatile Formatted last = new Formatted(Long.MIN_VALUE, null);
+
+    private HttpDates() {
+    }
+
+    /**
+     * Format a date as IMF-fixdate, dropping milliseconds.
+     *
+     * @param date date to format
+     * @return HTTP date
+     */
+    static String format(Date date) {
+        long second = Math.floorDiv(date.getTime(), 1000);
+        Formatted formatted = last;
+        if (formatted.second() != second) {
+            formatted = new Formatted(second, IMF_FIXDATE.format(Instant.ofEpochSecond(second)));
+            last = formatted;
+        }
+        return formatted.text();
+    }
+
+    /**
+     * Parse an HTTP date in any of the three formats.
+     *
+     * @param value header value, may be {@code null}
+     * @return parsed date, or {@code null} if the value is missing or not an HTTP date
+     */
+    static Date parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        for (DateTimeFormatter parser : PARSERS) {
+            try {
+                return Date.from(ZonedDateTime.parse(trimmed, parser).toInstant());
+            } catch (DateTimeParseException e) {
+                // Try the next format
+            }
+        }
+        return null;
+    }
+
+    private record Formatted(long second, String text) {
+    }
+}
@@ -1,6 +1,5 @@
 package io.helidon.jaxrs.filters;
 
-import io.helidon.common.context.Contexts;
 import jakarta.ws.rs.core.Cookie;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
@@ -30,10 +29,8 @@ public class HttpHeadersProxy implements HttpHeaders {
     }
 
     private HttpHeaders delegate() {
-        return Contexts.context()
-                .flatMap(ctx -> ctx.get(HttpHeaders.class, HttpHeaders.class))
-                .orElseThrow(() -> new IllegalStateException(
-                        "HttpHeaders not available - ensure JaxRsContextFilter is registered"));
+        return RequestScope.resolve(HttpHeaders.class, RequestScope::httpHeaders,
+                "HttpHeaders not available - ensure JaxRsContextFilter is registered");
     }
 
     @Override
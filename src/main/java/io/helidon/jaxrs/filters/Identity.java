@@ -0,0 +1,40 @@
+package io.helidon.jaxrs.filters;
+
+import java.security.Principal;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An authenticated user: the principal of a request and the roles granted to it.
+ *
+ * @param name user name
+ * @param roles roles of the user, copied to an immutable set
+ */
+public record Identity(String name, Set<String> roles) implements Principal {
+
+    /**
+     * Create an identity.
+     *
+     * @param name user name
+     * @param roles roles of the user
+     */
+    public Identity {
+        Objects.requireNonNull(name, "name");
+        roles = Set.copyOf(roles);
+    }
+
+    /**
+     * An identity without roles.
+     *
+     * @param name user name
+     * @return identity
+     */
+    public static Identity of(String name) {
+        return new Identity(name, Set.of());
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
@@ -20,9 +20,10 @@ import jakarta.ws.rs.core.UriInfo;
  *   <li>Access to UriInfo, HttpHeaders, SecurityContext from anywhere in the call chain</li>
  * </ul>
  *
- * <p>This filter registers {@link UriInfo}, {@link HttpHeaders}, and {@link SecurityContext}
- * in the request context before proceeding. This makes these objects available to both
- * pre-matching and post-matching filters via their respective proxy classes.
+ * <p>This filter registers a {@link RequestScope} in the request context before proceeding.
+ * It provides {@link UriInfo}, {@link HttpHeaders}, and {@link SecurityContext} to both
+ * pre-matching and post-matching filters via their respective proxy classes, creating
+ * each one only when a filter first uses it.
  *
  * <p>Note: {@link jakarta.ws.rs.container.ResourceInfo} is NOT registered here because
  * it depends on route matching, which happens later in the chain.
@@ -35,24 +36,58 @@ public class JaxRsContextFilter implements Filter {
     /**
      * Singleton instance.
      */
-    public static final JaxRsContextFilter INSTANCE = new JaxRsContextFilter();
+    public static final JaxRsContextFilter INSTANCE = new JaxRsContextFilter(false, Authenticator.DEFAULT);
 
-    private JaxRsContextFilter() {
+    // Binds the scope with a ScopedValue, see JaxRsFilterOptions.ContextPropagation
+    static final JaxRsContextFilter SCOPED_VALUE_INSTANCE = new JaxRsContextFilter(true, Authenticator.DEFAULT);
+
+    private final boolean scopedValue;
+    private final Authenticator authenticator;
+
+    JaxRsContextFilter(boolean scopedValue, Authenticator authenticator) {
+        this.scopedValue = scopedValue;
+        this.authenticator = authenticator;
     }
 
     @Override
     public void filter(FilterChain chain, RoutingRequest req, RoutingResponse res) {
-        Context ctx = req.context();
-
-        // Register request-scoped JAX-RS context objects BEFORE proceeding
-        // This makes them available to pre-matching filters
-        ctx.register(UriInfo.class, new HelidonUriInfo(req));
-        ctx.register(HttpHeaders.class, new HelidonHttpHeaders(req));
-        ctx.register(SecurityContext.class, new HelidonSecurityContext(req));
+        RequestScope scope = setUp(req, authenticator);
+        proceed(req, scope, scopedValue, chain::proceed);
+    }
 
+    /**
+     * Run the rest of request processing with the scope propagated.
+     *
+     * @param req routing request
+     * @param scope registered request scope
+     * @param scopedValue whether to bind with a {@code ScopedValue} instead of the thread-local
+     * @param action rest of request processing
+     */
+    static void proceed(RoutingRequest req, RequestScope scope, boolean scopedValue, Runnable action) {
         // Wrap request processing in the request's context
         // This makes Contexts.context() return req.context() for all downstream processing
-        Contexts.runInContext(ctx, chain::proceed);
+        if (scopedValue) {
+            Contexts.runInContext(req.context(), () -> ScopedValueBinding.run(scope, action));
+            return;
+        }
+        Contexts.runInContext(req.context(), () -> RequestScope.runBound(scope, action));
+    }
+
+    /**
+     * Register the request scope in the request context.
+     *
+     * @param req routing request
+     * @param authenticator authentication settings of the registration
+     * @return the registered scope
+     */
+    static RequestScope setUp(RoutingRequest req, Authenticator authenticator) {
+        Context ctx = req.context();
+
+        // Register the request scope BEFORE proceeding so pre-matching filters can use it
+        // Views are created lazily on first access
+        RequestScope scope = new RequestScope(req, authenticator);
+        ctx.register(RequestScope.class, scope);
+        return scope;
     }
 }
 
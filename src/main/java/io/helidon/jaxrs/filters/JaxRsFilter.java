@@ -11,23 +11,31 @@ import io.helidon.webserver.http.ServerResponse;
 import jakarta.ws.rs.container.ContainerRequestFilter;
 import jakarta.ws.rs.container.ContainerResponseFilter;
 import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptor;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
-import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
 /**
- * Filter that runs post-matching JAX-RS filters without JAX-RS resources.
+ * Filter that runs post-matching JAX-RS filters and reader/writer interceptors without JAX-RS resources.
+ *
+ * <p>There is no resource method, so only filters without name bindings apply. The chain is
+ * compiled once at construction and filters added to the {@link FilterContext} later are ignored.
  */
 public class JaxRsFilter implements Filter, HttpEntryPoint.Interceptor {
 
     private static final Set<String> NO_BINDINGS = Set.of();
     private static final ResourceInfo NO_RESOURCE_INFO = new NoResourceInfo();
 
-    private final FilterContext filterContext;
+    private final ContainerRequestFilter[] requestFilters;
+    private final ContainerResponseFilter[] responseFilters;
+    private final ReaderInterceptor[] readerInterceptors;
+    private final WriterInterceptor[] writerInterceptors;
+    private final boolean empty;
+    private final EntityBuffer.Limits entityLimits;
 
     /**
      * Create a new filter-only wrapper.
@@ -35,7 +43,33 @@ public class JaxRsFilter implements Filter, HttpEntryPoint.Interceptor {
      * @param filterContext filter registry for request/response filters
      */
     public JaxRsFilter(FilterContext filterContext) {
-        this.filterContext = Objects.requireNonNull(filterContext, "filterContext");
+        this(Objects.requireNonNull(filterContext, "filterContext").compile(NO_BINDINGS));
+    }
+
+    /**
+     * Create a new filter-only wrapper from a compiled chain.
+     *
+     * @param chain compiled request/response filters
+     */
+    public JaxRsFilter(CompiledFilterChain chain) {
+        this(chain, null);
+    }
+
+    /**
+     * Create a new filter-only wrapper from a compiled chain.
+     *
+     * @param chain compiled request/response filters
+     * @param entityLimits limits of the replayable entity buffer, {@code null} to read the entity
+     *                     from Helidon directly
+     */
+    JaxRsFilter(CompiledFilterChain chain, EntityBuffer.Limits entityLimits) {
+        Objects.requireNonNull(chain, "chain");
+        this.entityLimits = entityLimits;
+        this.requestFilters = chain.requestFilters;
+        this.responseFilters = chain.responseFilters;
+        this.readerInterceptors = chain.readerInterceptors;
+        this.writerInterceptors = chain.writerInterceptors;
+        this.empty = chain.isEmpty();
     }
 
     @Override
@@ -54,21 +88,22 @@ public class JaxRsFilter implements Filter, HttpEntryPoint.Interceptor {
     }
 
     private void filterCommon(ServerRequest req, ServerResponse res, ThrowingRunnable proceed) throws Exception {
-        if (filterContext.getRequestFiltersWithBindings().isEmpty()
-                && filterContext.getResponseFiltersWithBindings().isEmpty()) {
+        if (empty) {
             proceed.run();
             return;
         }
 
-        req.context().register(ResourceInfo.class, NO_RESOURCE_INFO);
+        RequestScope.of(req).resourceInfo(NO_RESOURCE_INFO);
         HelidonContainerRequestContext requestContext =
                 new HelidonContainerRequestContext(req, NO_RESOURCE_INFO);
+        if (entityLimits != null) {
+            requestContext.bufferEntity(entityLimits);
+        }
 
-        for (FilterContext.FilterEntry<ContainerRequestFilter> entry
-                : filterContext.getRequestFiltersWithBindings()) {
-            if (entry.matches(NO_BINDINGS)) {
+        try {
+            for (ContainerRequestFilter filter : requestFilters) {
                 try {
-                    entry.filter().filter(requestContext);
+                    filter.filter(requestContext);
                 } catch (IOException ex) {
                     throw new RuntimeException("Request filter failed", ex);
                 }
@@ -77,21 +112,23 @@ public class JaxRsFilter implements Filter, HttpEntryPoint.Interceptor {
                     return;
                 }
             }
+        } finally {
+            EntityBuffer.releaseWhenSent(req, res);
         }
 
-        res.beforeSend(() -> {
-            HelidonContainerResponseContext responseContext =
-                    new HelidonContainerResponseContext(res.status().code(), null);
-            copyExistingHeaders(res, responseContext);
-            try {
-                runResponseFilters(requestContext, responseContext);
-            } catch (IOException ex) {
-                throw new RuntimeException("Response filter failed", ex);
-            }
-            res.status(responseContext.getStatus());
-            res.headers().clear();
-            copyResponseHeaders(res, responseContext);
-        });
+        if (readerInterceptors.length > 0) {
+            // Applied when the entity is first read; the function cannot throw IOException
+            RequestScope.of(req).addEntityFilter(in -> {
+                try {
+                    return new StreamReaderInterceptorContext(readerInterceptors, requestContext, in).run();
+                } catch (IOException ex) {
+                    throw new RuntimeException("Reader interceptor failed", ex);
+                }
+            });
+        }
+        if (responseFilters.length > 0 || writerInterceptors.length > 0) {
+            new ResponseStage(requestContext, responseFilters, writerInterceptors, res).register();
+        }
 
         proceed.run();
     }
@@ -101,57 +138,6 @@ public class JaxRsFilter implements Filter, HttpEntryPoint.Interceptor {
         void run() throws Exception;
     }
 
-    private void runResponseFilters(HelidonContainerRequestContext requestContext,
-                                    HelidonContainerResponseContext responseContext) throws IOException {
-        for (FilterContext.FilterEntry<ContainerResponseFilter> entry
-                : filterContext.getResponseFiltersWithBindings()) {
-            if (entry.matches(NO_BINDINGS)) {
-                entry.filter().filter(requestContext, responseContext);
-            }
-        }
-    }
-
-    private void copyExistingHeaders(ServerResponse res, HelidonContainerResponseContext responseContext) {
-        for (Map.Entry<String, List<String>> entry : res.headers().toMap().entrySet()) {
-            for (String value : entry.getValue()) {
-                if (value != null) {
-                    responseContext.getHeaders().add(entry.getKey(), value);
-                    responseContext.getStringHeaders().add(entry.getKey(), value);
-                }
-            }
-        }
-    }
-
-    private void copyResponseHeaders(ServerResponse res, HelidonContainerResponseContext responseContext) {
-        for (var entry : responseContext.getHeaders().entrySet()) {
-            for (var value : entry.getValue()) {
-                if (value != null) {
-                    res.header(io.helidon.http.HeaderNames.create(entry.getKey()), value.toString());
-                }
-            }
-        }
-        for (var entry : responseContext.getStringHeaders().entrySet()) {
-            for (var value : entry.getValue()) {
-                if (value != null && !headerValuePresent(responseContext.getHeaders(), entry.getKey(), value)) {
-                    res.header(io.helidon.http.HeaderNames.create(entry.getKey()), value);
-                }
-            }
-        }
-    }
-
-    private boolean headerValuePresent(Map<String, List<Object>> headers, String name, String value) {
-        List<Object> existing = headers.get(name);
-        if (existing == null) {
-            return false;
-        }
-        for (Object item : existing) {
-            if (item != null && value.equals(item.toString())) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private void sendAbortResponse(ServerResponse res, HelidonContainerRequestContext requestContext) {
         String msg = requestContext.getAbortMessage();
         res.status(requestContext.getAbortStatus()).send(msg != null ? msg : "");
@@ -3,14 +3,42 @@ package io.helidon.jaxrs.filters;
 import io.helidon.webserver.http.HttpFeature;
 import io.helidon.webserver.http.HttpRouting;
 
+import java.util.Objects;
+
 /**
  * Auto-register JAX-RS filters without requiring JAX-RS resources.
  */
 public class JaxRsFilterFeature implements HttpFeature {
 
+    private final JaxRsFilterOptions options;
+
+    /**
+     * Create the feature with default options.
+     */
+    public JaxRsFilterFeature() {
+        this(JaxRsFilterOptions.create());
+    }
+
+    private JaxRsFilterFeature(JaxRsFilterOptions options) {
+        this.options = Objects.requireNonNull(options, "options");
+    }
+
+    /**
+     * Create the feature with custom options.
+     *
+     * <p>A factory rather than a constructor, so {@code routing.addFeature(JaxRsFilterFeature::new)}
+     * keeps resolving to the no-argument constructor.
+     *
+     * @param options registration options
+     * @return feature
+     */
+    public static JaxRsFilterFeature create(JaxRsFilterOptions options) {
+        return new JaxRsFilterFeature(options);
+    }
+
     @Override
     public void setup(HttpRouting.Builder routing) {
-        JaxRsFilterSupport.register(routing);
+        JaxRsFilterSupport.register(routing, options);
     }
 }
 
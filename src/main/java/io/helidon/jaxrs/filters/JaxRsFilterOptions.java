@@ -0,0 +1,496 @@
+package io.helidon.jaxrs.filters;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Options controlling how JAX-RS filters are registered with Helidon routing.
+ *
+ * <p>Use {@link #create()} for the defaults or {@link #builder()} to customize.
+ */
+public final class JaxRsFilterOptions {
+
+    private static final JaxRsFilterOptions DEFAULT = builder().build();
+
+    private final boolean fused;
+    private final ContextPropagation contextPropagation;
+    private final boolean replayableEntity;
+    private final int entityMemoryLimit;
+    private final long maxEntitySize;
+    private final CredentialVerifier credentialVerifier;
+    private final int credentialCacheSize;
+    private final Duration credentialCacheTtl;
+    private final JwkSet jwkSet;
+    private final String jwtIssuer;
+    private final String jwtAudience;
+    private final int jwtCacheSize;
+    private final SecurityContextProvider securityContextProvider;
+    private final boolean clientCertificateAuth;
+    private final boolean generatedRegistriesOnly;
+
+    private JaxRsFilterOptions(Builder builder) {
+        this.fused = builder.fused;
+        this.contextPropagation = builder.contextPropagation;
+        this.replayableEntity = builder.replayableEntity;
+        this.entityMemoryLimit = builder.entityMemoryLimit;
+        this.maxEntitySize = builder.maxEntitySize;
+        this.credentialVerifier = builder.credentialVerifier;
+        this.credentialCacheSize = builder.credentialCacheSize;
+        this.credentialCacheTtl = builder.credentialCacheTtl;
+        this.jwkSet = builder.jwkSet;
+        this.jwtIssuer = builder.jwtIssuer;
+        this.jwtAudience = builder.jwtAudience;
+        this.jwtCacheSize = builder.jwtCacheSize;
+        this.securityContextProvider = builder.securityContextProvider;
+        this.clientCertificateAuth = builder.clientCertificateAuth;
+        this.generatedRegistriesOnly = builder.generatedRegistriesOnly;
+    }
+
+    /**
+     * Options with all defaults.
+     *
+     * @return default options
+     */
+    public static JaxRsFilterOptions create() {
+        return DEFAULT;
+    }
+
+    /**
+     * A new builder initialized with the defaults.
+     *
+     * @return builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Whether all filter stages run in a single Helidon filter.
+     *
+     * @return {@code true} for fused mode
+     * @see Builder#fused(boolean)
+     */
+    public boolean fused() {
+        return fused;
+    }
+
+    /**
+     * How the request scope is made available to filters and proxies.
+     *
+     * @return propagation mode
+     * @see Builder#contextPropagation(ContextPropagation)
+     */
+    public ContextPropagation contextPropagation() {
+        return contextPropagation;
+    }
+
+    /**
+     * Whether filters read the request entity from a replayable buffer.
+     *
+     * @return {@code true} if the entity is buffered
+     * @see Builder#replayableEntity(boolean)
+     */
+    public boolean replayableEntity() {
+        return replayableEntity;
+    }
+
+    /**
+     * Largest buffered request entity kept in memory, in bytes.
+     *
+     * @return memory limit
+     * @see Builder#entityMemoryLimit(int)
+     */
+    public int entityMemoryLimit() {
+        return entityMemoryLimit;
+    }
+
+    /**
+     * Largest request entity accepted into the replayable buffer, in bytes.
+     *
+     * @return size limit
+     * @see Builder#maxEntitySize(long)
+     */
+    public long maxEntitySize() {
+        return maxEntitySize;
+    }
+
+    /**
+     * Verifier of {@code Basic} credentials.
+     *
+     * @return credential verifier, or {@code null} if credentials are not verified
+     * @see Builder#credentialVerifier(CredentialVerifier)
+     */
+    public CredentialVerifier credentialVerifier() {
+        return credentialVerifier;
+    }
+
+    /**
+     * Largest number of verified credentials kept in the cache.
+     *
+     * @return cache size
+     * @see Builder#credentialCacheSize(int)
+     */
+    public int credentialCacheSize() {
+        return credentialCacheSize;
+    }
+
+    /**
+     * How long verified credentials are cached.
+     *
+     * @return time to live
+     * @see Builder#credentialCacheTtl(Duration)
+     */
+    public Duration credentialCacheTtl() {
+        return credentialCacheTtl;
+    }
+
+    /**
+     * Keys that verify JWT bearer tokens.
+     *
+     * @return key set, or {@code null} if bearer tokens are not validated
+     * @see Builder#jwkSet(JwkSet)
+     */
+    public JwkSet jwkSet() {
+        return jwkSet;
+    }
+
+    /**
+     * Issuer that JWT bearer tokens must have.
+     *
+     * @return issuer, or {@code null} to accept any
+     * @see Builder#jwtIssuer(String)
+     */
+    public String jwtIssuer() {
+        return jwtIssuer;
+    }
+
+    /**
+     * Audience that JWT bearer tokens must include.
+     *
+     * @return audience, or {@code null} to accept any
+     * @see Builder#jwtAudience(String)
+     */
+    public String jwtAudience() {
+        return jwtAudience;
+    }
+
+    /**
+     * Largest number of validated JWT bearer tokens kept in the cache.
+     *
+     * @return cache size
+     * @see Builder#jwtCacheSize(int)
+     */
+    public int jwtCacheSize() {
+        return jwtCacheSize;
+    }
+
+    /**
+     * Provider of request security contexts.
+     *
+     * @return provider, or {@code null} to parse authentication headers
+     * @see Builder#securityContextProvider(SecurityContextProvider)
+     */
+    public SecurityContextProvider securityContextProvider() {
+        return securityContextProvider;
+    }
+
+    /**
+     * Whether TLS client certificates authenticate requests.
+     *
+     * @return {@code true} if client certificates are used
+     * @see Builder#clientCertificateAuth(boolean)
+     */
+    public boolean clientCertificateAuth() {
+        return clientCertificateAuth;
+    }
+
+    /**
+     * Whether service discovery is skipped when generated filter registries are found.
+     *
+     * @return {@code true} if only generated registries are used
+     * @see Builder#generatedRegistriesOnly(boolean)
+     */
+    public boolean generatedRegistriesOnly() {
+        return generatedRegistriesOnly;
+    }
+
+    /**
+     * How the request scope is propagated while the filter chain runs.
+     */
+    public enum ContextPropagation {
+        /**
+         * Run the chain in the request's Helidon {@code Context} and bind the scope to a thread-local.
+         */
+        CONTEXTS,
+        /**
+         * Run the chain in the request's Helidon {@code Context} and bind the scope with a
+         * {@code java.lang.ScopedValue} instead of a thread-local. Subtasks forked in a
+         * {@code StructuredTaskScope} inherit the binding. Requires a JDK where {@code ScopedValue}
+         * can be used: JDK 25 or later, or JDK 21 to 24 run with {@code --enable-preview};
+         * otherwise {@link #CONTEXTS} is used.
+         */
+        SCOPED_VALUE
+    }
+
+    /**
+     * Builder for {@link JaxRsFilterOptions}.
+     */
+    public static final class Builder {
+
+        private boolean fused;
+        private ContextPropagation contextPropagation = ContextPropagation.CONTEXTS;
+        private boolean replayableEntity;
+        private int entityMemoryLimit = 64 * 1024;
+        private long maxEntitySize = 10L * 1024 * 1024;
+        private CredentialVerifier credentialVerifier;
+        private int credentialCacheSize = 1024;
+        private Duration credentialCacheTtl = Duration.ofMinutes(5);
+        private JwkSet jwkSet;
+        private String jwtIssuer;
+        private String jwtAudience;
+        private int jwtCacheSize = 1024;
+        private SecurityContextProvider securityContextProvider;
+        private boolean clientCertificateAuth;
+        private boolean generatedRegistriesOnly;
+
+        private Builder() {
+        }
+
+        /**
+         * Run context setup, pre-matching filters and post-matching filters from one
+         * Helidon filter instead of three chained ones. Filter results are the same in
+         * both modes; fused mode saves the {@code FilterChain.proceed} hops.
+         * Defaults to {@code false}.
+         *
+         * @param fused whether to register a single fused filter
+         * @return updated builder
+         */
+        public Builder fused(boolean fused) {
+            this.fused = fused;
+            return this;
+        }
+
+        /**
+         * How the request scope is propagated. Defaults to {@link ContextPropagation#CONTEXTS}.
+         *
+         * @param contextPropagation propagation mode
+         * @return updated builder
+         */
+        public Builder contextPropagation(ContextPropagation contextPropagation) {
+            this.contextPropagation = Objects.requireNonNull(contextPropagation, "contextPropagation");
+            return this;
+        }
+
+        /**
+         * Read the request entity once into a buffer when a filter first asks for it. Every
+         * {@code getEntityStream()} call, in pre-matching and post-matching filters, then returns
+         * the whole entity, and the route reads it from {@link RequestScope#entityStream()}
+         * because Helidon's own entity stream can only be opened once. Defaults to {@code false}.
+         *
+         * @param replayableEntity whether to buffer the entity
+         * @return updated builder
+         */
+        public Builder replayableEntity(boolean replayableEntity) {
+            this.replayableEntity = replayableEntity;
+            return this;
+        }
+
+        /**
+         * Largest buffered entity kept in pooled memory chunks; larger entities are written to a
+         * temporary file. Only used with {@link #replayableEntity(boolean)}. Defaults to 64 KiB.
+         *
+         * @param entityMemoryLimit memory limit in bytes
+         * @return updated builder
+         */
+        public Builder entityMemoryLimit(int entityMemoryLimit) {
+            if (entityMemoryLimit < 0) {
+                throw new IllegalArgumentException("entityMemoryLimit must not be negative: " + entityMemoryLimit);
+            }
+            this.entityMemoryLimit = entityMemoryLimit;
+            return this;
+        }
+
+        /**
+         * Largest entity read into the replayable buffer, in memory or in the temporary file.
+         * Reading stops as soon as a larger entity passes the limit, the request fails with
+         * {@code 413 Content Too Large} and the temporary file is deleted. Only used with
+         * {@link #replayableEntity(boolean)}. Defaults to 10 MiB.
+         *
+         * @param maxEntitySize size limit in bytes
+         * @return updated builder
+         */
+        public Builder maxEntitySize(long maxEntitySize) {
+            if (maxEntitySize < 0) {
+                throw new IllegalArgumentException("maxEntitySize must not be negative: " + maxEntitySize);
+            }
+            this.maxEntitySize = maxEntitySize;
+            return this;
+        }
+
+        /**
+         * Verify the password of {@code Basic} credentials. Requests with invalid credentials
+         * have no user principal, and the roles of a verified user come from its
+         * {@link Identity} rather than request headers. Successful verifications are cached by a
+         * digest of the {@code Authorization} header, see {@link #credentialCacheSize(int)} and
+         * {@link #credentialCacheTtl(Duration)}. By default credentials are decoded but not
+         * verified.
+         *
+         * @param credentialVerifier verifier, or {@code null} to only decode credentials
+         * @return updated builder
+         */
+        public Builder credentialVerifier(CredentialVerifier credentialVerifier) {
+            this.credentialVerifier = credentialVerifier;
+            return this;
+        }
+
+        /**
+         * Largest number of verified credentials to cache; when the cache is full it is
+         * cleared. {@code 0} verifies every request. Defaults to 1024.
+         *
+         * @param credentialCacheSize cache size
+         * @return updated builder
+         */
+        public Builder credentialCacheSize(int credentialCacheSize) {
+            if (credentialCacheSize < 0) {
+                throw new IllegalArgumentException("credentialCacheSize must not be negative: " + credentialCacheSize);
+            }
+            this.credentialCacheSize = credentialCacheSize;
+            return this;
+        }
+
+        /**
+         * How long a verified credential is trusted without verifying it again, which is also
+         * how long a changed password may keep working. Defaults to 5 minutes.
+         *
+         * @param credentialCacheTtl time to live
+         * @return updated builder
+         */
+        public Builder credentialCacheTtl(Duration credentialCacheTtl) {
+            Objects.requireNonNull(credentialCacheTtl, "credentialCacheTtl");
+            if (credentialCacheTtl.isNegative()) {
+                throw new IllegalArgumentException("credentialCacheTtl must not be negative: " + credentialCacheTtl);
+            }
+            this.credentialCacheTtl = credentialCacheTtl;
+            return this;
+        }
+
+        /**
+         * Validate {@code Bearer} tokens as signed JWTs with these keys. A request with an
+         * invalid or expired token has no user principal; a valid token's principal is its
+         * {@code upn}, {@code preferred_username} or {@code sub} claim and its roles are the
+         * {@code groups} claim. Tokens must have an {@code exp} claim. Valid tokens are cached
+         * until they expire, see {@link #jwtCacheSize(int)}. By default bearer tokens are not
+         * validated.
+         *
+         * @param jwkSet verification keys, or {@code null} to not validate bearer tokens
+         * @return updated builder
+         */
+        public Builder jwkSet(JwkSet jwkSet) {
+            this.jwkSet = jwkSet;
+            return this;
+        }
+
+        /**
+         * Require JWT bearer tokens to have this {@code iss} claim. Only used with
+         * {@link #jwkSet(JwkSet)}.
+         *
+         * @param jwtIssuer issuer, or {@code null} to accept any
+         * @return updated builder
+         */
+        public Builder jwtIssuer(String jwtIssuer) {
+            this.jwtIssuer = jwtIssuer;
+            return this;
+        }
+
+        /**
+         * Require JWT bearer tokens to include this audience in their {@code aud} claim. Only
+         * used with {@link #jwkSet(JwkSet)}.
+         *
+         * @param jwtAudience audience, or {@code null} to accept any
+         * @return updated builder
+         */
+        public Builder jwtAudience(String jwtAudience) {
+            this.jwtAudience = jwtAudience;
+            return this;
+        }
+
+        /**
+         * Largest number of validated JWT bearer tokens to cache; when the cache is full it is
+         * cleared. {@code 0} validates every request. Defaults to 1024.
+         *
+         * @param jwtCacheSize cache size
+         * @return updated builder
+         */
+        public Builder jwtCacheSize(int jwtCacheSize) {
+            if (jwtCacheSize < 0) {
+                throw new IllegalArgumentException("jwtCacheSize must not be negative: " + jwtCacheSize);
+            }
+            this.jwtCacheSize = jwtCacheSize;
+            return this;
+        }
+
+        /**
+         * Create request security contexts with this provider instead of parsing authentication
+         * headers, for example {@link SecurityContextProvider#helidonSecurity()} to use the
+         * result of Helidon Security. The provider is called on the first use of the security
+         * context in a request; when it returns empty, the headers are parsed as without a
+         * provider. By default there is no provider.
+         *
+         * @param securityContextProvider provider, or {@code null} to parse authentication headers
+         * @return updated builder
+         */
+        public Builder securityContextProvider(SecurityContextProvider securityContextProvider) {
+            this.securityContextProvider = securityContextProvider;
+            return this;
+        }
+
+        /**
+         * Authenticate requests by their TLS client certificate, for mutual TLS. When the
+         * client presented a certificate, the principal is its subject name, the roles are its
+         * DNS, URI and e-mail subject alternative names, the scheme is
+         * {@code CLIENT_CERT}, and the {@code Authorization} and {@code X-User-Roles} headers
+         * are ignored. The identity is cached per connection. Requests without a client
+         * certificate are authenticated by headers as usual. Disabled by default.
+         *
+         * <p>The certificate is trusted as verified by the TLS handshake, which is only true when
+         * the server's TLS is configured with client authentication ({@code TlsClientAuth.REQUIRED}
+         * or {@code OPTIONAL}) and a trust store holding only the issuers of accepted clients. With
+         * {@code trustAll} or the JDK's default trust store, any client could present a certificate
+         * naming any subject.
+         *
+         * @param clientCertificateAuth whether to use client certificates
+         * @return updated builder
+         */
+        public Builder clientCertificateAuth(boolean clientCertificateAuth) {
+            this.clientCertificateAuth = clientCertificateAuth;
+            return this;
+        }
+
+        /**
+         * Use only the {@link FilterRegistry} services generated at build time when
+         * {@link JaxRsFilterSupport#register(io.helidon.webserver.http.HttpRouting.Builder, ClassLoader,
+         * JaxRsFilterOptions)} finds any, without loading the filter and interceptor services. This
+         * saves the service scan and provider class loading at startup, for example in
+         * scale-to-zero deployments, but providers that no registry covers, such as those of jars
+         * compiled without the processor, are silently left out. When no registry is found, the
+         * services are discovered as usual. Has no effect on the other registration methods.
+         * Defaults to {@code false}.
+         *
+         * @param generatedRegistriesOnly whether to skip service discovery when registries exist
+         * @return updated builder
+         */
+        public Builder generatedRegistriesOnly(boolean generatedRegistriesOnly) {
+            this.generatedRegistriesOnly = generatedRegistriesOnly;
+            return this;
+        }
+
+        /**
+         * Build the options.
+         *
+         * @return options
+         */
+        public JaxRsFilterOptions build() {
+            return new JaxRsFilterOptions(this);
+        }
+    }
+}
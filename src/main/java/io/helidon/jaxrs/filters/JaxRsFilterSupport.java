@@ -6,21 +6,30 @@ import jakarta.ws.rs.NameBinding;
 import jakarta.ws.rs.container.ContainerRequestFilter;
 import jakarta.ws.rs.container.ContainerResponseFilter;
 import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptor;
 
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.Set;
 
 /**
- * Registers JAX-RS filters without requiring any JAX-RS resources.
+ * Registers JAX-RS filters and reader/writer interceptors without requiring any JAX-RS resources.
  */
 public final class JaxRsFilterSupport {
 
+    private static final Logger LOGGER = System.getLogger(JaxRsFilterSupport.class.getName());
     private static final int DEFAULT_PRIORITY = 5000;
     private JaxRsFilterSupport() {
     }
@@ -31,18 +40,101 @@ public final class JaxRsFilterSupport {
      * @param routing routing builder to register filters with
      */
     public static void register(HttpRouting.Builder routing) {
-        register(routing, Thread.currentThread().getContextClassLoader());
+        register(routing, JaxRsFilterOptions.create());
     }
 
     /**
      * Register JAX-RS filters discovered via {@link ServiceLoader}.
      *
      * @param routing routing builder to register filters with
+     * @param options registration options
+     */
+    public static void register(HttpRouting.Builder routing, JaxRsFilterOptions options) {
+        register(routing, Thread.currentThread().getContextClassLoader(), options);
+    }
+
+    /**
+     * Register JAX-RS filters discovered via {@link ServiceLoader}.
+     *
+     * <p>Providers covered by a {@link FilterRegistry} generated at build time are taken from
+     * that registry; see {@link #register(HttpRouting.Builder, ClassLoader, JaxRsFilterOptions)}.
+     *
+     * @param routing routing builder to register filters with
      * @param classLoader class loader used for service discovery
      */
     public static void register(HttpRouting.Builder routing, ClassLoader classLoader) {
+        register(routing, classLoader, JaxRsFilterOptions.create());
+    }
+
+    /**
+     * Register JAX-RS filters discovered via {@link ServiceLoader}.
+     *
+     * <p>Every {@link FilterRegistry} generated at build time and registered as a service is
+     * used for the providers it covers, without annotation reflection. Providers that no registry
+     * covers, such as filters of jars compiled without the processor, are discovered as services
+     * and merged into the same chains, unless
+     * {@link JaxRsFilterOptions.Builder#generatedRegistriesOnly(boolean)} skips discovery.
+     *
+     * @param routing routing builder to register filters with
+     * @param classLoader class loader used for service discovery
+     * @param options registration options
+     */
+    public static void register(HttpRouting.Builder routing, ClassLoader classLoader, JaxRsFilterOptions options) {
+        Objects.requireNonNull(routing, "routing");
         Objects.requireNonNull(classLoader, "classLoader");
-        register(routing, loadProviders(classLoader));
+        Objects.requireNonNull(options, "options");
+
+        SimpleRuntimeDelegate.init();
+
+        List<FilterRegistry.Chains> generated = new ArrayList<>();
+        Set<Class<?>> covered = new HashSet<>();
+        for (FilterRegistry registry : generatedRegistries(classLoader)) {
+            FilterRegistry.Chains chains = registry.chains();
+            injectContextProxies(chains);
+            generated.add(chains);
+            covered.addAll(providerClasses(chains));
+        }
+        // Complete registries can opt out of the service scan, but without any it is the only source
+        List<Object> discovered = options.generatedRegistriesOnly() && !generated.isEmpty()
+                ? List.of()
+                : loadProviders(classLoader, covered);
+        if (generated.isEmpty()) {
+            register(routing, chains(discovered), options);
+            return;
+        }
+        if (!discovered.isEmpty()) {
+            generated.add(chains(discovered));
+        }
+        register(routing, generated.size() == 1 ? generated.getFirst() : merge(generated), options);
+    }
+
+    /**
+     * Register JAX-RS filters from a registry with pre-sorted chains.
+     *
+     * @param routing routing builder to register filters with
+     * @param registry provider registry, usually generated at build time
+     */
+    public static void register(HttpRouting.Builder routing, FilterRegistry registry) {
+        register(routing, registry, JaxRsFilterOptions.create());
+    }
+
+    /**
+     * Register JAX-RS filters from a registry with pre-sorted chains.
+     *
+     * @param routing routing builder to register filters with
+     * @param registry provider registry, usually generated at build time
+     * @param options registration options
+     */
+    public static void register(HttpRouting.Builder routing, FilterRegistry registry, JaxRsFilterOptions options) {
+        Objects.requireNonNull(routing, "routing");
+        Objects.requireNonNull(registry, "registry");
+        Objects.requireNonNull(options, "options");
+
+        SimpleRuntimeDelegate.init();
+
+        FilterRegistry.Chains chains = registry.chains();
+        injectContextProxies(chains);
+        register(routing, chains, options);
     }
 
     /**
@@ -52,15 +144,35 @@ public final class JaxRsFilterSupport {
      * @param providers filter/provider instances to register
      */
     public static void register(HttpRouting.Builder routing, Iterable<?> providers) {
+        register(routing, providers, JaxRsFilterOptions.create());
+    }
+
+    /**
+     * Register JAX-RS filters from the provided instances.
+     *
+     * @param routing routing builder to register filters with
+     * @param providers filter/provider instances to register
+     * @param options registration options
+     */
+    public static void register(HttpRouting.Builder routing, Iterable<?> providers, JaxRsFilterOptions options) {
         Objects.requireNonNull(routing, "routing");
         Objects.requireNonNull(providers, "providers");
+        Objects.requireNonNull(options, "options");
 
         SimpleRuntimeDelegate.init();
 
-        FilterContext filterContext = new FilterContext();
-        List<ProviderEntry<ContainerRequestFilter>> preMatchingFilters = new ArrayList<>();
-        List<ProviderEntry<ContainerRequestFilter>> requestFilters = new ArrayList<>();
-        List<ProviderEntry<ContainerResponseFilter>> responseFilters = new ArrayList<>();
+        register(routing, chains(providers), options);
+    }
+
+    /**
+     * Sorted chains of provider instances, with annotations resolved by reflection.
+     */
+    private static FilterRegistry.Chains chains(Iterable<?> providers) {
+        List<FilterRegistry.Entry<ContainerRequestFilter>> preMatchingFilters = new ArrayList<>();
+        List<FilterRegistry.Entry<ContainerRequestFilter>> requestFilters = new ArrayList<>();
+        List<FilterRegistry.Entry<ContainerResponseFilter>> responseFilters = new ArrayList<>();
+        List<FilterRegistry.Entry<ReaderInterceptor>> readerInterceptors = new ArrayList<>();
+        List<FilterRegistry.Entry<WriterInterceptor>> writerInterceptors = new ArrayList<>();
 
         for (Object provider : providers) {
             if (provider == null) {
@@ -73,36 +185,124 @@ public final class JaxRsFilterSupport {
             if (provider instanceof ContainerRequestFilter requestFilter) {
                 FilterContext.injectContextProxies(requestFilter);
                 if (providerClass.getAnnotation(PreMatching.class) != null) {
-                    preMatchingFilters.add(new ProviderEntry<>(requestFilter, priority, bindings));
+                    preMatchingFilters.add(new FilterRegistry.Entry<>(requestFilter, priority, bindings));
                 } else {
-                    requestFilters.add(new ProviderEntry<>(requestFilter, priority, bindings));
+                    requestFilters.add(new FilterRegistry.Entry<>(requestFilter, priority, bindings));
                 }
             }
 
             if (provider instanceof ContainerResponseFilter responseFilter) {
                 FilterContext.injectContextProxies(responseFilter);
-                responseFilters.add(new ProviderEntry<>(responseFilter, priority, bindings));
+                responseFilters.add(new FilterRegistry.Entry<>(responseFilter, priority, bindings));
+            }
+
+            if (provider instanceof ReaderInterceptor readerInterceptor) {
+                FilterContext.injectContextProxies(readerInterceptor);
+                readerInterceptors.add(new FilterRegistry.Entry<>(readerInterceptor, priority, bindings));
+            }
+
+            if (provider instanceof WriterInterceptor writerInterceptor) {
+                FilterContext.injectContextProxies(writerInterceptor);
+                writerInterceptors.add(new FilterRegistry.Entry<>(writerInterceptor, priority, bindings));
+            }
+        }
+
+        return sorted(preMatchingFilters, requestFilters, responseFilters, readerInterceptors, writerInterceptors);
+    }
+
+    /**
+     * Chains of several registries in one, sorted again. A provider class that more than one
+     * registry covers is only used from the first.
+     */
+    private static FilterRegistry.Chains merge(List<FilterRegistry.Chains> all) {
+        List<FilterRegistry.Entry<ContainerRequestFilter>> preMatching = new ArrayList<>();
+        List<FilterRegistry.Entry<ContainerRequestFilter>> request = new ArrayList<>();
+        List<FilterRegistry.Entry<ContainerResponseFilter>> response = new ArrayList<>();
+        List<FilterRegistry.Entry<ReaderInterceptor>> reader = new ArrayList<>();
+        List<FilterRegistry.Entry<WriterInterceptor>> writer = new ArrayList<>();
+        for (FilterRegistry.Chains chains : all) {
+            addDistinct(preMatching, chains.preMatching());
+            addDistinct(request, chains.request());
+            addDistinct(response, chains.response());
+            addDistinct(reader, chains.reader());
+            addDistinct(writer, chains.writer());
+        }
+        return sorted(preMatching, request, response, reader, writer);
+    }
+
+    private static <T> void addDistinct(List<FilterRegistry.Entry<T>> target, List<FilterRegistry.Entry<T>> entries) {
+        for (FilterRegistry.Entry<T> entry : entries) {
+            Class<?> providerClass = entry.provider().getClass();
+            if (target.stream().noneMatch(existing -> existing.provider().getClass() == providerClass)) {
+                target.add(entry);
             }
         }
+    }
 
-        preMatchingFilters.sort(Comparator.comparingInt(
-                (ProviderEntry<ContainerRequestFilter> entry) -> entry.priority()));
-        requestFilters.sort(Comparator.comparingInt(
-                (ProviderEntry<ContainerRequestFilter> entry) -> entry.priority()));
-        responseFilters.sort(Comparator.comparingInt(
-                (ProviderEntry<ContainerResponseFilter> entry) -> entry.priority()).reversed());
+    private static FilterRegistry.Chains sorted(List<FilterRegistry.Entry<ContainerRequestFilter>> preMatching,
+                                                List<FilterRegistry.Entry<ContainerRequestFilter>> request,
+                                                List<FilterRegistry.Entry<ContainerResponseFilter>> response,
+                                                List<FilterRegistry.Entry<ReaderInterceptor>> reader,
+                                                List<FilterRegistry.Entry<WriterInterceptor>> writer) {
+        // Stable sorts, so equal priorities keep registration order
+        preMatching.sort(Comparator.comparingInt(
+                (FilterRegistry.Entry<ContainerRequestFilter> entry) -> entry.priority()));
+        request.sort(Comparator.comparingInt(
+                (FilterRegistry.Entry<ContainerRequestFilter> entry) -> entry.priority()));
+        response.sort(Comparator.comparingInt(
+                (FilterRegistry.Entry<ContainerResponseFilter> entry) -> entry.priority()).reversed());
+        reader.sort(Comparator.comparingInt(
+                (FilterRegistry.Entry<ReaderInterceptor> entry) -> entry.priority()));
+        writer.sort(Comparator.comparingInt(
+                (FilterRegistry.Entry<WriterInterceptor> entry) -> entry.priority()));
+        return new FilterRegistry.Chains(preMatching, request, response, reader, writer);
+    }
 
-        routing.addFilter(JaxRsContextFilter.INSTANCE);
+    private static void injectContextProxies(FilterRegistry.Chains chains) {
+        for (FilterRegistry.Entry<ContainerRequestFilter> entry : chains.preMatching()) {
+            FilterContext.injectContextProxies(entry.provider());
+        }
+        for (FilterRegistry.Entry<ContainerRequestFilter> entry : chains.request()) {
+            FilterContext.injectContextProxies(entry.provider());
+        }
+        for (FilterRegistry.Entry<ContainerResponseFilter> entry : chains.response()) {
+            FilterContext.injectContextProxies(entry.provider());
+        }
+        for (FilterRegistry.Entry<ReaderInterceptor> entry : chains.reader()) {
+            FilterContext.injectContextProxies(entry.provider());
+        }
+        for (FilterRegistry.Entry<WriterInterceptor> entry : chains.writer()) {
+            FilterContext.injectContextProxies(entry.provider());
+        }
+    }
 
-        if (!preMatchingFilters.isEmpty()) {
+    private static Set<Class<?>> providerClasses(FilterRegistry.Chains chains) {
+        Set<Class<?>> classes = new HashSet<>();
+        for (List<? extends FilterRegistry.Entry<?>> chain : List.of(
+                chains.preMatching(), chains.request(), chains.response(), chains.reader(), chains.writer())) {
+            for (FilterRegistry.Entry<?> entry : chain) {
+                classes.add(entry.provider().getClass());
+            }
+        }
+        return classes;
+    }
+
+    private static void register(HttpRouting.Builder routing, FilterRegistry.Chains chains, JaxRsFilterOptions options) {
+        FilterContext filterContext = new FilterContext();
+        EntityBuffer.Limits entityLimits = options.replayableEntity()
+                ? new EntityBuffer.Limits(options.entityMemoryLimit(), options.maxEntitySize())
+                : null;
+
+        JaxRsPreMatchingFilter preMatchingFilter = null;
+        if (!chains.preMatching().isEmpty()) {
             List<ContainerRequestFilter> preMatchingList = new ArrayList<>();
-            for (ProviderEntry<ContainerRequestFilter> entry : preMatchingFilters) {
+            for (FilterRegistry.Entry<ContainerRequestFilter> entry : chains.preMatching()) {
                 preMatchingList.add(entry.provider());
             }
-            routing.addFilter(new JaxRsPreMatchingFilter(preMatchingList));
+            preMatchingFilter = new JaxRsPreMatchingFilter(preMatchingList, entityLimits);
         }
 
-        for (ProviderEntry<ContainerRequestFilter> entry : requestFilters) {
+        for (FilterRegistry.Entry<ContainerRequestFilter> entry : chains.request()) {
             if (entry.bindings().isEmpty()) {
                 filterContext.addRequestFilter(entry.provider());
             } else {
@@ -110,7 +310,7 @@ public final class JaxRsFilterSupport {
             }
         }
 
-        for (ProviderEntry<ContainerResponseFilter> entry : responseFilters) {
+        for (FilterRegistry.Entry<ContainerResponseFilter> entry : chains.response()) {
             if (entry.bindings().isEmpty()) {
                 filterContext.addResponseFilter(entry.provider());
             } else {
@@ -118,24 +318,88 @@ public final class JaxRsFilterSupport {
             }
         }
 
-        if (!filterContext.getRequestFiltersWithBindings().isEmpty()
-                || !filterContext.getResponseFiltersWithBindings().isEmpty()) {
-            routing.addFilter(new JaxRsFilter(filterContext));
+        for (FilterRegistry.Entry<ReaderInterceptor> entry : chains.reader()) {
+            filterContext.addReaderInterceptor(entry.provider(), entry.bindings());
+        }
+
+        for (FilterRegistry.Entry<WriterInterceptor> entry : chains.writer()) {
+            filterContext.addWriterInterceptor(entry.provider(), entry.bindings());
+        }
+
+        // Without resource methods only unbound filters can ever match
+        CompiledFilterChain chain = filterContext.compile(Set.of());
+        JaxRsFilter postMatchingFilter = chain.isEmpty() ? null : new JaxRsFilter(chain, entityLimits);
+
+        boolean scopedValue = scopedValue(options);
+        Authenticator authenticator = Authenticator.create(options);
+        if (options.fused()) {
+            routing.addFilter(new JaxRsFusedFilter(preMatchingFilter, postMatchingFilter, scopedValue, authenticator));
+            return;
+        }
+        routing.addFilter(contextFilter(scopedValue, authenticator));
+        if (preMatchingFilter != null) {
+            routing.addFilter(preMatchingFilter);
+        }
+        if (postMatchingFilter != null) {
+            routing.addFilter(postMatchingFilter);
         }
     }
 
+    private static JaxRsContextFilter contextFilter(boolean scopedValue, Authenticator authenticator) {
+        if (authenticator != Authenticator.DEFAULT) {
+            return new JaxRsContextFilter(scopedValue, authenticator);
+        }
+        return scopedValue ? JaxRsContextFilter.SCOPED_VALUE_INSTANCE : JaxRsContextFilter.INSTANCE;
+    }
 
-    private static List<Object> loadProviders(ClassLoader classLoader) {
-        java.util.LinkedHashMap<Class<?>, Object> providers = new java.util.LinkedHashMap<>();
-        for (ContainerRequestFilter filter : ServiceLoader.load(ContainerRequestFilter.class, classLoader)) {
-            providers.putIfAbsent(filter.getClass(), filter);
+    private static boolean scopedValue(JaxRsFilterOptions options) {
+        if (options.contextPropagation() != JaxRsFilterOptions.ContextPropagation.SCOPED_VALUE) {
+            return false;
         }
-        for (ContainerResponseFilter filter : ServiceLoader.load(ContainerResponseFilter.class, classLoader)) {
-            providers.putIfAbsent(filter.getClass(), filter);
+        if (!ScopedValueBinding.AVAILABLE) {
+            LOGGER.log(Level.WARNING, "ScopedValue is not available on this JVM, using Contexts propagation");
+            return false;
         }
+        ScopedValueBinding.enable();
+        return true;
+    }
+
+    private static List<FilterRegistry> generatedRegistries(ClassLoader classLoader) {
+        List<FilterRegistry> registries = new ArrayList<>();
+        Iterator<FilterRegistry> iterator = ServiceLoader.load(FilterRegistry.class, classLoader).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    return registries;
+                }
+                registries.add(iterator.next());
+            } catch (ServiceConfigurationError e) {
+                // The providers it covers are discovered as services instead
+                LOGGER.log(Level.WARNING, "Cannot use generated filter registry, falling back to service discovery: {0}",
+                        e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Instantiate the providers registered as services, except those of the covered classes.
+     */
+    private static List<Object> loadProviders(ClassLoader classLoader, Set<Class<?>> covered) {
+        Map<Class<?>, Object> providers = new LinkedHashMap<>();
+        addProviders(providers, ServiceLoader.load(ContainerRequestFilter.class, classLoader), covered);
+        addProviders(providers, ServiceLoader.load(ContainerResponseFilter.class, classLoader), covered);
+        addProviders(providers, ServiceLoader.load(ReaderInterceptor.class, classLoader), covered);
+        addProviders(providers, ServiceLoader.load(WriterInterceptor.class, classLoader), covered);
         return new ArrayList<>(providers.values());
     }
 
+    private static void addProviders(Map<Class<?>, Object> providers, ServiceLoader<?> loader, Set<Class<?>> covered) {
+        // Provider.type() does not instantiate, so covered providers are never created twice
+        loader.stream()
+                .filter(provider -> !covered.contains(provider.type()) && !providers.containsKey(provider.type()))
+                .forEach(provider -> providers.put(provider.type(), provider.get()));
+    }
+
     private static int priority(Class<?> providerClass) {
         Priority priority = providerClass.getAnnotation(Priority.class);
         return priority != null ? priority.value() : DEFAULT_PRIORITY;
@@ -150,9 +414,6 @@ public final class JaxRsFilterSupport {
         }
         return bindings;
     }
-
-    private record ProviderEntry<T>(T provider, int priority, Set<String> bindings) {
-    }
 }
 
 
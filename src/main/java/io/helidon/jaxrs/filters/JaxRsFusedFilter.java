@@ -0,0 +1,57 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.webserver.http.Filter;
+import io.helidon.webserver.http.FilterChain;
+import io.helidon.webserver.http.RoutingRequest;
+import io.helidon.webserver.http.RoutingResponse;
+
+/**
+ * Helidon Filter that runs all JAX-RS filter stages in one place.
+ *
+ * <p>Does the work of {@link JaxRsContextFilter}, {@link JaxRsPreMatchingFilter} and
+ * {@link JaxRsFilter} in order, without a {@link FilterChain#proceed()} between them.
+ * The result is the same as registering the three filters separately.
+ *
+ * @see JaxRsFilterOptions.Builder#fused(boolean)
+ */
+public class JaxRsFusedFilter implements Filter {
+
+    private final JaxRsPreMatchingFilter preMatching;
+    private final JaxRsFilter postMatching;
+    private final boolean scopedValue;
+    private final Authenticator authenticator;
+
+    /**
+     * Create a new fused filter.
+     *
+     * @param preMatching pre-matching stage, or {@code null} if there are no pre-matching filters
+     * @param postMatching post-matching stage, or {@code null} if there are no post-matching filters
+     */
+    public JaxRsFusedFilter(JaxRsPreMatchingFilter preMatching, JaxRsFilter postMatching) {
+        this(preMatching, postMatching, false, Authenticator.DEFAULT);
+    }
+
+    JaxRsFusedFilter(JaxRsPreMatchingFilter preMatching, JaxRsFilter postMatching, boolean scopedValue,
+                     Authenticator authenticator) {
+        this.preMatching = preMatching;
+        this.postMatching = postMatching;
+        this.scopedValue = scopedValue;
+        this.authenticator = authenticator;
+    }
+
+    @Override
+    public void filter(FilterChain chain, RoutingRequest req, RoutingResponse res) {
+        RequestScope scope = JaxRsContextFilter.setUp(req, authenticator);
+
+        JaxRsContextFilter.proceed(req, scope, scopedValue, () -> {
+            if (preMatching != null && !preMatching.apply(req, res)) {
+                return;
+            }
+            if (postMatching != null) {
+                postMatching.filter(chain, req, res);
+            } else {
+                chain.proceed();
+            }
+        });
+    }
+}
@@ -6,10 +6,7 @@ import io.helidon.webserver.http.FilterChain;
 import io.helidon.webserver.http.RoutingRequest;
 import io.helidon.webserver.http.RoutingResponse;
 import jakarta.ws.rs.container.ContainerRequestFilter;
-import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
-import jakarta.ws.rs.core.SecurityContext;
-import jakarta.ws.rs.core.UriInfo;
 
 import java.util.List;
 import java.util.Map;
@@ -30,6 +27,7 @@ import java.util.Map;
 public class JaxRsPreMatchingFilter implements Filter {
 
     private final List<ContainerRequestFilter> filters;
+    private final EntityBuffer.Limits entityLimits;
 
     /**
      * Create a new pre-matching filter wrapper.
@@ -37,23 +35,50 @@ public class JaxRsPreMatchingFilter implements Filter {
      * @param filters the JAX-RS pre-matching filters to execute, already sorted by priority
      */
     public JaxRsPreMatchingFilter(List<ContainerRequestFilter> filters) {
+        this(filters, null);
+    }
+
+    /**
+     * Create a new pre-matching filter wrapper.
+     *
+     * @param filters the JAX-RS pre-matching filters to execute, already sorted by priority
+     * @param entityLimits limits of the replayable entity buffer, {@code null} to read the entity
+     *                     from Helidon directly
+     */
+    JaxRsPreMatchingFilter(List<ContainerRequestFilter> filters, EntityBuffer.Limits entityLimits) {
         this.filters = filters;
+        this.entityLimits = entityLimits;
     }
 
     @Override
     public void filter(FilterChain chain, RoutingRequest req, RoutingResponse res) {
-        if (filters.isEmpty()) {
+        if (apply(req, res)) {
+            // Continue to routing
             chain.proceed();
-            return;
+        }
+    }
+
+    /**
+     * Run the pre-matching filters and apply URI/method modifications to the request.
+     *
+     * @param req routing request
+     * @param res routing response
+     * @return {@code false} if a filter aborted and the response was sent
+     */
+    boolean apply(RoutingRequest req, RoutingResponse res) {
+        if (filters.isEmpty()) {
+            return true;
         }
 
         // Create a mutable request context that tracks modifications
         PreMatchingRequestContext ctx = new PreMatchingRequestContext(req);
+        if (entityLimits != null) {
+            ctx.bufferEntity(entityLimits);
+        }
 
-        // Register request-scoped objects so @Context proxies resolve in pre-matching filters
-        req.context().register(UriInfo.class, ctx.getUriInfo());
-        req.context().register(HttpHeaders.class, new PreMatchingHttpHeaders(ctx));
-        req.context().register(SecurityContext.class, ctx.getSecurityContext());
+        // @Context HttpHeaders in pre-matching filters must see header modifications
+        // UriInfo and SecurityContext stay the lazily created views of the request scope
+        RequestScope.of(req).httpHeaders(new PreMatchingHttpHeaders(ctx));
 
         try {
             for (ContainerRequestFilter filter : filters) {
@@ -62,7 +87,7 @@ public class JaxRsPreMatchingFilter implements Filter {
                 if (ctx.isAborted()) {
                     // Send abort response and don't proceed to routing
                     sendAbortResponse(res, ctx);
-                    return;
+                    return false;
                 }
             }
 
@@ -71,9 +96,15 @@ public class JaxRsPreMatchingFilter implements Filter {
                 HttpPrologue newPrologue = ctx.buildModifiedPrologue();
                 req.prologue(newPrologue);
             }
-
-            // Continue to routing
-            chain.proceed();
+            // Routes and post-matching filters see added and changed headers
+            if (ctx.isHeadersModified()) {
+                ctx.buildModifiedHeaders().forEach(req::header);
+            }
+            // The route reads the entity through wrappers such as request decompression
+            if (ctx.entityFilter() != null) {
+                RequestScope.of(req).addEntityFilter(ctx.entityFilter());
+            }
+            return true;
 
         } catch (Exception e) {
             // Convert to runtime exception - Helidon will handle it
@@ -81,6 +112,8 @@ public class JaxRsPreMatchingFilter implements Filter {
                 throw (RuntimeException) e;
             }
             throw new RuntimeException("Pre-matching filter failed", e);
+        } finally {
+            EntityBuffer.releaseWhenSent(req, res);
         }
     }
 
@@ -0,0 +1,150 @@
+package io.helidon.jaxrs.filters;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Keys that verify the signatures of JWT bearer tokens, read from a JSON Web Key set
+ * (RFC 7517).
+ *
+ * <p>Supported key types are {@code RSA} for {@code RS256}, {@code RS384} and {@code RS512},
+ * {@code EC} with curves {@code P-256}, {@code P-384} and {@code P-521} for the {@code ES}
+ * algorithms, and {@code oct} for the {@code HS} algorithms. Keys of other types, and keys whose
+ * {@code use} is not {@code sig}, are ignored. The key set is local; it is not fetched or
+ * refreshed from an issuer.
+ *
+ * @see JaxRsFilterOptions.Builder#jwkSet(JwkSet)
+ */
+public final class JwkSet {
+
+    private final List<Jwk> keys;
+
+    private JwkSet(List<Jwk> keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Read a JWK set document, {@code {"keys": [...]}}.
+     *
+     * @param json JWK set JSON
+     * @return key set
+     * @throws IllegalArgumentException if the document or a supported key in it is invalid
+     */
+    public static JwkSet create(String json) {
+        Object keys = Json.parseObject(json).get("keys");
+        if (!(keys instanceof List<?> list)) {
+            throw new IllegalArgumentException("JWK set has no \"keys\" array");
+        }
+        List<Jwk> parsed = new ArrayList<>();
+        for (Object key : list) {
+            if (!(key instanceof Map<?, ?> jwk)) {
+                throw new IllegalArgumentException("JWK set entry is not an object");
+            }
+            Jwk parsedKey = parse(jwk);
+            if (parsedKey != null) {
+                parsed.add(parsedKey);
+            }
+        }
+        return new JwkSet(List.copyOf(parsed));
+    }
+
+    /**
+     * Number of usable signature keys.
+     *
+     * @return key count
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * The key to verify a token with.
+     *
+     * @param kid key ID from the token header, or {@code null} if it has none
+     * @param kty key type the token algorithm needs
+     * @return key, or {@code null} if none matches; without a key ID only a set with a single key
+     *         of the type matches
+     */
+    Key key(String kid, String kty) {
+        Key found = null;
+        for (Jwk jwk : keys) {
+            if (!jwk.kty().equals(kty)) {
+                continue;
+            }
+            if (kid != null) {
+                if (kid.equals(jwk.kid())) {
+                    return jwk.key();
+                }
+            } else if (found != null) {
+                return null;
+            } else {
+                found = jwk.key();
+            }
+        }
+        return found;
+    }
+
+    private static Jwk parse(Map<?, ?> jwk) {
+        Object use = jwk.get("use");
+        if (use != null && !"sig".equals(use)) {
+            return null;
+        }
+        String kid = jwk.get("kid") instanceof String s ? s : null;
+        Object kty = jwk.get("kty");
+        try {
+            if ("RSA".equals(kty)) {
+                RSAPublicKeySpec spec = new RSAPublicKeySpec(integer(jwk, "n"), integer(jwk, "e"));
+                return new Jwk(kid, "RSA", KeyFactory.getInstance("RSA").generatePublic(spec));
+            }
+            if ("EC".equals(kty)) {
+                AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+                parameters.init(new ECGenParameterSpec(curve(jwk.get("crv"))));
+                ECPublicKeySpec spec = new ECPublicKeySpec(new ECPoint(integer(jwk, "x"), integer(jwk, "y")),
+                                                           parameters.getParameterSpec(ECParameterSpec.class));
+                return new Jwk(kid, "EC", KeyFactory.getInstance("EC").generatePublic(spec));
+            }
+            if ("oct".equals(kty)) {
+                return new Jwk(kid, "oct", new SecretKeySpec(bytes(jwk, "k"), "HMAC"));
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Invalid " + kty + " key " + kid, e);
+        }
+        return null;
+    }
+
+    private static String curve(Object crv) {
+        return switch (String.valueOf(crv)) {
+            case "P-256" -> "secp256r1";
+            case "P-384" -> "secp384r1";
+            case "P-521" -> "secp521r1";
+            default -> throw new IllegalArgumentException("Unsupported EC curve " + crv);
+        };
+    }
+
+    private static BigInteger integer(Map<?, ?> jwk, String name) {
+        return new BigInteger(1, bytes(jwk, name));
+    }
+
+    private static byte[] bytes(Map<?, ?> jwk, String name) {
+        if (!(jwk.get(name) instanceof String value)) {
+            throw new IllegalArgumentException("JWK member \"" + name + "\" is missing");
+        }
+        return Base64.getUrlDecoder().decode(value);
+    }
+
+    private record Jwk(String kid, String kty, Key key) {
+    }
+}
@@ -0,0 +1,190 @@
+package io.helidon.jaxrs.filters;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.crypto.Mac;
+
+/**
+ * Validation of signed JWT bearer tokens against a local {@link JwkSet}.
+ *
+ * <p>A token is valid when its signature verifies with a key of the set, it has an {@code exp}
+ * claim in the future, its {@code nbf} claim, if any, is not in the future, and its issuer and
+ * audience match when those are configured. The principal name is taken from {@code upn},
+ * {@code preferred_username} or {@code sub}, in that order, and roles from the {@code groups}
+ * claim, as in MicroProfile JWT.
+ *
+ * <p>Tokens longer than {@value #MAX_TOKEN_LENGTH} characters are rejected before they are
+ * decoded. Tokens whose header has a {@code crit} parameter are rejected too, because no JWS
+ * extension is understood (RFC 7515, section 4.1.11).
+ *
+ * <p>Valid tokens are cached by their SHA-256 digest until they expire, so a client reusing a
+ * token pays for decoding and signature verification once. Invalid tokens are not cached.
+ */
+final class JwtValidator {
+
+    /**
+     * Longest compact serialized token accepted, in characters.
+     */
+    static final int MAX_TOKEN_LENGTH = 8 * 1024;
+
+    private static final Base64.Decoder BASE64URL = Base64.getUrlDecoder();
+
+    private final JwkSet keys;
+    private final String issuer;
+    private final String audience;
+    private final ExpiringCache<Authenticator.Authenticated> tokens;
+
+    /**
+     * Create a validator.
+     *
+     * @param keys verification keys
+     * @param issuer required {@code iss}, or {@code null} to accept any issuer
+     * @param audience required {@code aud} entry, or {@code null} to accept any audience
+     * @param cacheSize largest number of cached tokens
+     */
+    JwtValidator(JwkSet keys, String issuer, String audience, int cacheSize) {
+        this.keys = keys;
+        this.issuer = issuer;
+        this.audience = audience;
+        this.tokens = new ExpiringCache<>(cacheSize);
+    }
+
+    /**
+     * Identity of a bearer token.
+     *
+     * @param token compact serialized JWT
+     * @return identity, or {@code null} if the token is not valid
+     */
+    Authenticator.Authenticated validate(String token) {
+        if (token.length() > MAX_TOKEN_LENGTH) {
+            return null;
+        }
+        ByteBuffer key = ExpiringCache.key(token);
+        Authenticator.Authenticated authenticated = tokens.get(key);
+        if (authenticated != null) {
+            return authenticated;
+        }
+        int firstDot = token.indexOf('.');
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+        try {
+            Map<String, Object> header = json(token.substring(0, firstDot));
+            byte[] signature = BASE64URL.decode(token.substring(secondDot + 1));
+            byte[] signingInput = token.substring(0, secondDot).getBytes(StandardCharsets.US_ASCII);
+            if (!verify(header, signingInput, signature)) {
+                return null;
+            }
+            Map<String, Object> claims = json(token.substring(firstDot + 1, secondDot));
+            long now = System.currentTimeMillis();
+            if (!(claims.get("exp") instanceof Number exp) || exp.longValue() * 1000 <= now) {
+                return null;
+            }
+            if (claims.get("nbf") instanceof Number nbf && nbf.longValue() * 1000 > now) {
+                return null;
+            }
+            if (issuer != null && !issuer.equals(claims.get("iss"))) {
+                return null;
+            }
+            if (audience != null && !hasAudience(claims.get("aud"))) {
+                return null;
+            }
+            Identity identity = identity(claims);
+            if (identity == null) {
+                return null;
+            }
+            authenticated = Authenticator.Authenticated.of(identity);
+            tokens.put(key, authenticated, exp.longValue() * 1000);
+            return authenticated;
+        } catch (IllegalArgumentException | GeneralSecurityException e) {
+            // Malformed token, or a key that does not fit the algorithm
+            return null;
+        }
+    }
+
+    private boolean verify(Map<String, Object> header, byte[] signingInput, byte[] signature)
+            throws GeneralSecurityException {
+        if (!(header.get("alg") instanceof String alg) || header.containsKey("crit")) {
+            return false;
+        }
+        String kid = header.get("kid") instanceof String s ? s : null;
+        String jcaName = switch (alg) {
+            case "RS256" -> "SHA256withRSA";
+            case "RS384" -> "SHA384withRSA";
+            case "RS512" -> "SHA512withRSA";
+            case "ES256" -> "SHA256withECDSAinP1363Format";
+            case "ES384" -> "SHA384withECDSAinP1363Format";
+            case "ES512" -> "SHA512withECDSAinP1363Format";
+            case "HS256" -> "HmacSHA256";
+            case "HS384" -> "HmacSHA384";
+            case "HS512" -> "HmacSHA512";
+            // Unsigned ("none") and unsupported algorithms
+            default -> null;
+        };
+        if (jcaName == null) {
+            return false;
+        }
+        String kty = switch (alg.charAt(0)) {
+            case 'R' -> "RSA";
+            case 'E' -> "EC";
+            default -> "oct";
+        };
+        Key key = keys.key(kid, kty);
+        if (key == null) {
+            return false;
+        }
+        if (kty.equals("oct")) {
+            Mac mac = Mac.getInstance(jcaName);
+            mac.init(key);
+            return MessageDigest.isEqual(mac.doFinal(signingInput), signature);
+        }
+        Signature verifier = Signature.getInstance(jcaName);
+        verifier.initVerify((PublicKey) key);
+        verifier.update(signingInput);
+        return verifier.verify(signature);
+    }
+
+    private boolean hasAudience(Object aud) {
+        if (aud instanceof List<?> list) {
+            return list.contains(audience);
+        }
+        return audience.equals(aud);
+    }
+
+    private static Identity identity(Map<String, Object> claims) {
+        String name = null;
+        for (String claim : new String[] {"upn", "preferred_username", "sub"}) {
+            if (claims.get(claim) instanceof String value) {
+                name = value;
+                break;
+            }
+        }
+        if (name == null) {
+            return null;
+        }
+        Set<String> roles = new HashSet<>();
+        if (claims.get("groups") instanceof List<?> groups) {
+            for (Object group : groups) {
+                if (group instanceof String role) {
+                    roles.add(role);
+                }
+            }
+        }
+        return new Identity(name, roles);
+    }
+
+    private static Map<String, Object> json(String part) {
+        return Json.parseObject(new String(BASE64URL.decode(part), StandardCharsets.UTF_8));
+    }
+}
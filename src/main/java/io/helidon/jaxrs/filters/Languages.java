@@ -0,0 +1,122 @@
+package io.helidon.jaxrs.filters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parsing of {@code Accept-Language} header values, cached by raw value.
+ *
+ * <p>The header is scanned in place, without splitting it into intermediate strings, and the
+ * locales are ordered by descending q-value; tags with equal quality keep their header order.
+ * Tags with {@code q=0} are not acceptable and are left out. The cache follows
+ * {@link MediaTypes}: bounded, cleared when full, and skipped for very long values.
+ */
+final class Languages {
+
+    private static final int MAX_ENTRIES = 256;
+    private static final int MAX_VALUE_LENGTH = 512;
+
+    private static final Map<String, List<Locale>> ACCEPT_LANGUAGE = new ConcurrentHashMap<>();
+
+    private Languages() {
+    }
+
+    /**
+     * Locales of an {@code Accept-Language} header, most preferred first.
+     *
+     * @param acceptLanguage header value, may be {@code null}
+     * @return immutable list, the default locale when the header is missing or lists no language
+     */
+    static List<Locale> acceptable(String acceptLanguage) {
+        if (acceptLanguage == null || acceptLanguage.isEmpty()) {
+            return List.of(Locale.getDefault());
+        }
+        List<Locale> locales = ACCEPT_LANGUAGE.get(acceptLanguage);
+        if (locales == null) {
+            locales = parse(acceptLanguage);
+            if (acceptLanguage.length() <= MAX_VALUE_LENGTH) {
+                if (ACCEPT_LANGUAGE.size() >= MAX_ENTRIES) {
+                    ACCEPT_LANGUAGE.clear();
+                }
+                ACCEPT_LANGUAGE.put(acceptLanguage, locales);
+            }
+        }
+        return locales;
+    }
+
+    private static List<Locale> parse(String value) {
+        List<Locale> locales = new ArrayList<>();
+        List<Float> qualities = new ArrayList<>();
+        int length = value.length();
+        int start = 0;
+        while (start < length) {
+            int end = value.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            int semicolon = value.indexOf(';', start);
+            int tagEnd = semicolon >= 0 && semicolon < end ? semicolon : end;
+            int tagStart = skipSpaces(value, start, tagEnd);
+            int tagLast = trimEnd(value, tagStart, tagEnd);
+            if (tagLast > tagStart) {
+                float q = tagEnd < end ? quality(value, tagEnd + 1, end) : 1;
+                if (q > 0) {
+                    // Insert after every tag of at least the same quality, keeping header order for ties
+                    int index = locales.size();
+                    while (index > 0 && qualities.get(index - 1) < q) {
+                        index--;
+                    }
+                    locales.add(index, Locale.forLanguageTag(value.substring(tagStart, tagLast)));
+                    qualities.add(index, q);
+                }
+            }
+            start = end + 1;
+        }
+        return locales.isEmpty() ? List.of(Locale.getDefault()) : List.copyOf(locales);
+    }
+
+    /**
+     * The {@code q} parameter among the parameters between {@code start} and {@code end}.
+     */
+    private static float quality(String value, int start, int end) {
+        int param = start;
+        while (param < end) {
+            int paramEnd = value.indexOf(';', param);
+            if (paramEnd < 0 || paramEnd > end) {
+                paramEnd = end;
+            }
+            int nameStart = skipSpaces(value, param, paramEnd);
+            if (nameStart + 1 < paramEnd
+                    && (value.charAt(nameStart) == 'q' || value.charAt(nameStart) == 'Q')) {
+                int equals = skipSpaces(value, nameStart + 1, paramEnd);
+                if (equals < paramEnd && value.charAt(equals) == '=') {
+                    int numberStart = skipSpaces(value, equals + 1, paramEnd);
+                    try {
+                        return Float.parseFloat(value.substring(numberStart, trimEnd(value, numberStart, paramEnd)));
+                    } catch (NumberFormatException e) {
+                        return 1;
+                    }
+                }
+            }
+            param = paramEnd + 1;
+        }
+        return 1;
+    }
+
+    private static int skipSpaces(String value, int start, int end) {
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(String value, int start, int end) {
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+}
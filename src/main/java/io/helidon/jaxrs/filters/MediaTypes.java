@@ -0,0 +1,119 @@
+package io.helidon.jaxrs.filters;
+
+import jakarta.ws.rs.core.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parsing of {@code Accept} and {@code Content-Type} header values, cached by raw value.
+ *
+ * <p>Clients send few distinct values for these headers, so each is parsed once and the
+ * immutable result shared by all later requests. The caches are bounded: when one is full it is
+ * cleared and refills with the values in use, so a flood of distinct values costs what parsing
+ * costs without the cache and never grows memory. Values too long to be worth keeping are parsed
+ * every time.
+ */
+final class MediaTypes {
+
+    private static final int MAX_ENTRIES = 256;
+    private static final int MAX_VALUE_LENGTH = 512;
+    private static final List<MediaType> WILDCARD = List.of(MediaType.WILDCARD_TYPE);
+
+    // Highest q first, then the more specific type; List.sort is stable, so ties keep header order
+    private static final Comparator<MediaType> PREFERENCE = Comparator
+            .comparingDouble(MediaTypes::quality).reversed()
+            .thenComparing(Comparator.comparingInt(MediaTypes::specificity).reversed());
+
+    private static final Map<String, List<MediaType>> ACCEPT = new ConcurrentHashMap<>();
+    private static final Map<String, MediaType> CONTENT_TYPE = new ConcurrentHashMap<>();
+
+    private MediaTypes() {
+    }
+
+    /**
+     * Media types of an {@code Accept} header, most preferred first. Invalid entries are
+     * skipped.
+     *
+     * @param accept header value, may be {@code null}
+     * @return immutable list, {@code *}{@code /*} when the header is missing or has no valid entry
+     */
+    static List<MediaType> acceptable(String accept) {
+        if (accept == null || accept.isEmpty()) {
+            return WILDCARD;
+        }
+        List<MediaType> types = ACCEPT.get(accept);
+        if (types == null) {
+            types = parseAccept(accept);
+            cache(ACCEPT, accept, types);
+        }
+        return types;
+    }
+
+    /**
+     * Media type of a {@code Content-Type} header.
+     *
+     * @param contentType header value, may be {@code null}
+     * @return media type, or {@code null} when the header is missing
+     * @throws IllegalArgumentException if the value cannot be parsed
+     */
+    static MediaType contentType(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        MediaType type = CONTENT_TYPE.get(contentType);
+        if (type == null) {
+            type = MediaType.valueOf(contentType);
+            cache(CONTENT_TYPE, contentType, type);
+        }
+        return type;
+    }
+
+    private static List<MediaType> parseAccept(String accept) {
+        List<MediaType> types = new ArrayList<>();
+        for (String part : accept.split(",")) {
+            try {
+                types.add(MediaType.valueOf(part.trim()));
+            } catch (IllegalArgumentException e) {
+                // Skip invalid media types
+            }
+        }
+        if (types.isEmpty()) {
+            return WILDCARD;
+        }
+        types.sort(PREFERENCE);
+        return List.copyOf(types);
+    }
+
+    private static <T> void cache(Map<String, T> cache, String value, T parsed) {
+        if (value.length() > MAX_VALUE_LENGTH) {
+            return;
+        }
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.clear();
+        }
+        cache.put(value, parsed);
+    }
+
+    private static double quality(MediaType type) {
+        String q = type.getParameters().get("q");
+        if (q == null) {
+            return 1;
+        }
+        try {
+            return Double.parseDouble(q);
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    private static int specificity(MediaType type) {
+        if (type.isWildcardType()) {
+            return 0;
+        }
+        return type.isWildcardSubtype() ? 1 : 2;
+    }
+}
@@ -3,6 +3,9 @@ package io.helidon.jaxrs.filters;
 import io.helidon.common.uri.UriFragment;
 import io.helidon.common.uri.UriPath;
 import io.helidon.common.uri.UriQuery;
+import io.helidon.http.Header;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
 import io.helidon.http.HttpPrologue;
 import io.helidon.http.Method;
 import io.helidon.webserver.http.RoutingRequest;
@@ -12,6 +15,7 @@ import jakarta.ws.rs.core.*;
 import java.io.InputStream;
 import java.net.URI;
 import java.util.*;
+import java.util.function.UnaryOperator;
 
 /**
  * ContainerRequestContext implementation for pre-matching filters.
@@ -24,14 +28,15 @@ import java.util.*;
  * </ul>
  *
  * <p>Modifications are tracked and can be applied to the underlying Helidon request
- * via {@link #buildModifiedPrologue()}.
+ * via {@link #buildModifiedPrologue()} and {@link #buildModifiedHeaders()}. Headers are read
+ * from the Helidon request until a filter changes them; only the changed names are stored.
  */
 public class PreMatchingRequestContext implements ContainerRequestContext {
 
     private final RoutingRequest request;
     private final HttpPrologue originalPrologue;
     private final Map<String, Object> properties = new HashMap<>();
-    private final MultivaluedMap<String, String> modifiableHeaders;
+    private final RequestHeadersMap modifiableHeaders;
 
     // Mutable state for URI/method modifications
     private URI newBaseUri;
@@ -42,21 +47,25 @@ public class PreMatchingRequestContext implements ContainerRequestContext {
     private boolean aborted = false;
     private Response abortResponse;
 
+    // URI info of the unmodified request, computed on first use
+    private HelidonUriInfo uriInfo;
+
+    // Cookies, indexed on first use
+    private CookieIndex cookies;
+
     // Security context
     private SecurityContext securityContext;
 
     // Entity stream
     private InputStream entityStream;
+    // Limits of the replayable entity buffer, null when buffering is off
+    private EntityBuffer.Limits entityLimits;
+    private UnaryOperator<InputStream> entityFilter;
 
     public PreMatchingRequestContext(RoutingRequest request) {
         this.request = request;
         this.originalPrologue = request.prologue();
-
-        // Create modifiable copy of headers
-        this.modifiableHeaders = new MultivaluedHashMap<>();
-        for (var header : request.headers()) {
-            modifiableHeaders.put(header.name(), new ArrayList<>(header.allValues()));
-        }
+        this.modifiableHeaders = new RequestHeadersMap(request.headers());
     }
 
     // ========== URI Modification (key for pre-matching) ==========
@@ -126,6 +135,37 @@ public class PreMatchingRequestContext implements ContainerRequestContext {
         );
     }
 
+    /**
+     * Check if a filter changed the request headers.
+     *
+     * @return true if {@link #buildModifiedHeaders()} needs to be applied
+     */
+    public boolean isHeadersModified() {
+        return modifiableHeaders.modified();
+    }
+
+    /**
+     * Build the headers that filters added or changed, with all their values, to set on the
+     * request with {@code RoutingRequest.header(Header)}. Headers that no filter touched are
+     * not included.
+     *
+     * <p>Helidon request headers can be replaced but not removed, so headers removed or emptied
+     * by a filter are not included either; only the header views of this request's filters
+     * reflect their removal.
+     *
+     * @return changed headers to set on the request
+     */
+    public List<Header> buildModifiedHeaders() {
+        List<Header> headers = new ArrayList<>();
+        for (Map.Entry<String, List<String>> change : modifiableHeaders.changes().entrySet()) {
+            List<String> values = change.getValue();
+            if (values != null && !values.isEmpty()) {
+                headers.add(HeaderValues.create(HeaderNames.create(change.getKey()), values));
+            }
+        }
+        return headers;
+    }
+
     // ========== Abort handling ==========
 
     @Override
@@ -172,7 +212,10 @@ public class PreMatchingRequestContext implements ContainerRequestContext {
         if (newRequestUri != null) {
             return new ModifiedUriInfo(newBaseUri, newRequestUri, request);
         }
-        return new HelidonUriInfo(request);
+        if (uriInfo == null) {
+            uriInfo = new HelidonUriInfo(request);
+        }
+        return uriInfo;
     }
 
     // ========== Request Info ==========
@@ -198,14 +241,6 @@ public class PreMatchingRequestContext implements ContainerRequestContext {
     @Override
     public String getHeaderString(String name) {
         List<String> values = modifiableHeaders.get(name);
-        if ((values == null || values.isEmpty()) && name != null) {
-            for (Map.Entry<String, List<String>> entry : modifiableHeaders.entrySet()) {
-                if (entry.getKey().equalsIgnoreCase(name)) {
-                    values = entry.getValue();
-                    break;
-                }
-            }
-        }
         if (values == null || values.isEmpty()) {
             return null;
         }
@@ -214,9 +249,7 @@ public class PreMatchingRequestContext implements ContainerRequestContext {
 
     @Override
     public Date getDate() {
-        String date = getHeaderString("Date");
-        // Simplified implementation
-        return null;
+        return HttpDates.parse(getHeaderString("Date"));
     }
 
     @Override
@@ -240,55 +273,25 @@ public class PreMatchingRequestContext implements ContainerRequestContext {
 
     @Override
     public MediaType getMediaType() {
-        String contentType = getHeaderString("Content-Type");
-        return contentType != null ? MediaType.valueOf(contentType) : null;
+        return MediaTypes.contentType(getHeaderString("Content-Type"));
     }
 
     @Override
     public List<MediaType> getAcceptableMediaTypes() {
-        String accept = getHeaderString("Accept");
-        if (accept == null || accept.isEmpty()) {
-            return List.of(MediaType.WILDCARD_TYPE);
-        }
-        List<MediaType> types = new ArrayList<>();
-        for (String part : accept.split(",")) {
-            try {
-                types.add(MediaType.valueOf(part.trim()));
-            } catch (IllegalArgumentException e) {
-                // Skip invalid media types
-            }
-        }
-        return types.isEmpty() ? List.of(MediaType.WILDCARD_TYPE) : types;
+        return MediaTypes.acceptable(getHeaderString("Accept"));
     }
 
     @Override
     public List<Locale> getAcceptableLanguages() {
-        String acceptLang = getHeaderString("Accept-Language");
-        if (acceptLang == null || acceptLang.isEmpty()) {
-            return List.of(Locale.getDefault());
-        }
-        List<Locale> locales = new ArrayList<>();
-        for (String part : acceptLang.split(",")) {
-            String lang = part.split(";")[0].trim();
-            if (!lang.isEmpty()) {
-                locales.add(Locale.forLanguageTag(lang));
-            }
-        }
-        return locales.isEmpty() ? List.of(Locale.getDefault()) : locales;
+        return Languages.acceptable(getHeaderString("Accept-Language"));
     }
 
     @Override
     public Map<String, Cookie> getCookies() {
-        Map<String, Cookie> cookies = new HashMap<>();
-        String cookieHeader = getHeaderString("Cookie");
-        if (cookieHeader != null) {
-            // Simple cookie parsing
-            for (String part : cookieHeader.split(";")) {
-                String[] kv = part.trim().split("=", 2);
-                if (kv.length == 2) {
-                    cookies.put(kv[0].trim(), new Cookie(kv[0].trim(), kv[1].trim()));
-                }
-            }
+        // Rebuilt only when a filter changed the Cookie header since the last call
+        List<String> values = modifiableHeaders.get("Cookie");
+        if (cookies == null || !cookies.isFor(values)) {
+            cookies = new CookieIndex(values);
         }
         return cookies;
     }
@@ -302,7 +305,24 @@ public class PreMatchingRequestContext implements ContainerRequestContext {
 
     @Override
     public InputStream getEntityStream() {
-        return entityStream != null ? entityStream : request.content().inputStream();
+        if (entityStream != null) {
+            return entityStream;
+        }
+        if (entityLimits != null) {
+            return RequestScope.of(request).entityBuffer(entityLimits).open();
+        }
+        return request.content().inputStream();
+    }
+
+    /**
+     * Read the entity once into a buffer shared by the request, so every {@link #getEntityStream()}
+     * call returns the whole entity and the route can still read it from
+     * {@link RequestScope#entityStream()}.
+     *
+     * @param limits memory and size limits of the buffer
+     */
+    void bufferEntity(EntityBuffer.Limits limits) {
+        this.entityLimits = limits;
     }
 
     @Override
@@ -310,14 +330,32 @@ public class PreMatchingRequestContext implements ContainerRequestContext {
         this.entityStream = input;
     }
 
+    /**
+     * Wrap the entity stream the route reads, without opening it now. Functions are applied in
+     * the order they are added, when the route first reads the entity.
+     *
+     * @param filter function wrapping the entity stream
+     */
+    void addEntityFilter(UnaryOperator<InputStream> filter) {
+        UnaryOperator<InputStream> previous = entityFilter;
+        entityFilter = previous == null ? filter : in -> filter.apply(previous.apply(in));
+    }
+
+    /**
+     * Entity stream wrappers added by filters, to register with the routing request.
+     *
+     * @return combined wrapper, or {@code null} if no filter added one
+     */
+    UnaryOperator<InputStream> entityFilter() {
+        return entityFilter;
+    }
+
     // ========== Security Context ==========
 
     @Override
     public SecurityContext getSecurityContext() {
-        if (securityContext == null) {
-            securityContext = new HelidonSecurityContext(request);
-        }
-        return securityContext;
+        // Shared with @Context SecurityContext, which decides whether it is kept for the request
+        return securityContext == null ? RequestScope.of(request).securityContext() : securityContext;
     }
 
     @Override
@@ -365,17 +403,7 @@ public class PreMatchingRequestContext implements ContainerRequestContext {
 
         @Override
         public List<PathSegment> getPathSegments(boolean decode) {
-            String path = decode ? requestUri.getPath() : requestUri.getRawPath();
-            if (path == null || path.isEmpty() || path.equals("/")) {
-                return List.of();
-            }
-            List<PathSegment> segments = new ArrayList<>();
-            for (String part : path.split("/")) {
-                if (!part.isEmpty()) {
-                    segments.add(new SimplePathSegment(part));
-                }
-            }
-            return segments;
+            return SimplePathSegment.parse(requestUri.getRawPath(), decode);
         }
 
         @Override
@@ -410,12 +438,12 @@ public class PreMatchingRequestContext implements ContainerRequestContext {
 
         @Override
         public MultivaluedMap<String, String> getPathParameters() {
-            return new MultivaluedHashMap<>(); // No path params before routing
+            return UnmodifiableMultivaluedMap.empty(); // No path params before routing
         }
 
         @Override
         public MultivaluedMap<String, String> getPathParameters(boolean decode) {
-            return new MultivaluedHashMap<>();
+            return UnmodifiableMultivaluedMap.empty();
         }
 
         @Override
@@ -425,19 +453,7 @@ public class PreMatchingRequestContext implements ContainerRequestContext {
 
         @Override
         public MultivaluedMap<String, String> getQueryParameters(boolean decode) {
-            MultivaluedMap<String, String> params = new MultivaluedHashMap<>();
-            String query = decode ? requestUri.getQuery() : requestUri.getRawQuery();
-            if (query != null) {
-                for (String part : query.split("&")) {
-                    String[] kv = part.split("=", 2);
-                    if (kv.length == 2) {
-                        params.add(kv[0], kv[1]);
-                    } else if (kv.length == 1) {
-                        params.add(kv[0], "");
-                    }
-                }
-            }
-            return params;
+            return UriComponents.parseQuery(requestUri.getRawQuery(), decode);
         }
 
         @Override
@@ -465,27 +481,6 @@ public class PreMatchingRequestContext implements ContainerRequestContext {
             return baseUri.relativize(uri);
         }
     }
-
-    /**
-     * Simple PathSegment implementation.
-     */
-    private static class SimplePathSegment implements PathSegment {
-        private final String path;
-
-        SimplePathSegment(String path) {
-            this.path = path;
-        }
-
-        @Override
-        public String getPath() {
-            return path;
-        }
-
-        @Override
-        public MultivaluedMap<String, String> getMatrixParameters() {
-            return new MultivaluedHashMap<>();
-        }
-    }
 }
 
 
@@ -0,0 +1,280 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.http.Header;
+import io.helidon.http.Headers;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Case-insensitive {@link MultivaluedMap} view over Helidon request headers.
+ *
+ * <p>Lookups read the Helidon headers directly and copy nothing; header names are resolved
+ * through {@link HeaderNameCache}, so repeated lookups of custom headers do not create names
+ * either. Modifications are kept in a per-name overlay: the first change to a header copies its
+ * values, other headers stay backed by the request. The underlying request headers are never
+ * modified.
+ *
+ * <p>Value lists returned by lookups are read-only; use the map methods to change headers.
+ * Iteration works on a snapshot taken when the iterator is created.
+ */
+final class RequestHeadersMap extends AbstractMap<String, List<String>> implements MultivaluedMap<String, String> {
+
+    private final Headers headers;
+
+    // Changed headers by name, a null value marks a removed header; created on first change
+    private TreeMap<String, List<String>> overlay;
+
+    RequestHeadersMap(Headers headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * Whether any header was changed through this map.
+     *
+     * @return {@code true} if the overlay has entries
+     */
+    boolean modified() {
+        return overlay != null && !overlay.isEmpty();
+    }
+
+    /**
+     * Names of the headers changed through this map, with their new values.
+     * A {@code null} value means the header was removed.
+     *
+     * @return changed headers, empty if nothing changed
+     */
+    Map<String, List<String>> changes() {
+        return overlay == null ? Map.of() : Collections.unmodifiableMap(overlay);
+    }
+
+    @Override
+    public List<String> get(Object key) {
+        if (!(key instanceof String name)) {
+            return null;
+        }
+        if (overlay != null && overlay.containsKey(name)) {
+            List<String> values = overlay.get(name);
+            return values == null ? null : Collections.unmodifiableList(values);
+        }
+        return headers.all(HeaderNameCache.of(name), () -> null);
+    }
+
+    @Override
+    public String getFirst(String name) {
+        if (overlay != null && overlay.containsKey(name)) {
+            List<String> values = overlay.get(name);
+            return values == null || values.isEmpty() ? null : values.get(0);
+        }
+        return headers.first(HeaderNameCache.of(name)).orElse(null);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (!(key instanceof String name)) {
+            return false;
+        }
+        if (overlay != null && overlay.containsKey(name)) {
+            return overlay.get(name) != null;
+        }
+        return headers.contains(HeaderNameCache.of(name));
+    }
+
+    @Override
+    public int size() {
+        int size = headers.size();
+        if (overlay != null) {
+            for (Map.Entry<String, List<String>> entry : overlay.entrySet()) {
+                boolean inRequest = headers.contains(HeaderNameCache.of(entry.getKey()));
+                if (inRequest && entry.getValue() == null) {
+                    size--;
+                } else if (!inRequest && entry.getValue() != null) {
+                    size++;
+                }
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public List<String> put(String key, List<String> value) {
+        List<String> previous = snapshot(key);
+        overlay().put(key, new ArrayList<>(value));
+        return previous;
+    }
+
+    @Override
+    public List<String> remove(Object key) {
+        if (!(key instanceof String name) || !containsKey(name)) {
+            return null;
+        }
+        List<String> previous = snapshot(name);
+        overlay().put(name, null);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        TreeMap<String, List<String>> changes = overlay();
+        changes.replaceAll((name, values) -> null);
+        for (Header header : headers) {
+            changes.put(header.name(), null);
+        }
+    }
+
+    @Override
+    public void putSingle(String key, String value) {
+        List<String> values = new ArrayList<>(1);
+        values.add(value);
+        overlay().put(key, values);
+    }
+
+    @Override
+    public void add(String key, String value) {
+        writable(key).add(value);
+    }
+
+    @Override
+    public void addAll(String key, String... newValues) {
+        Objects.requireNonNull(newValues, "newValues");
+        if (newValues.length > 0) {
+            writable(key).addAll(Arrays.asList(newValues));
+        }
+    }
+
+    @Override
+    public void addAll(String key, List<String> valueList) {
+        Objects.requireNonNull(valueList, "valueList");
+        if (!valueList.isEmpty()) {
+            writable(key).addAll(valueList);
+        }
+    }
+
+    @Override
+    public void addFirst(String key, String value) {
+        writable(key).add(0, value);
+    }
+
+    @Override
+    public boolean equalsIgnoreValueOrder(MultivaluedMap<String, String> otherMap) {
+        if (this == otherMap) {
+            return true;
+        }
+        if (!keySet().equals(otherMap.keySet())) {
+            return false;
+        }
+        for (Map.Entry<String, List<String>> entry : entrySet()) {
+            List<String> other = otherMap.get(entry.getKey());
+            if (entry.getValue().size() != other.size()
+                    || !entry.getValue().containsAll(other)
+                    || !other.containsAll(entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Set<Map.Entry<String, List<String>>> entrySet() {
+        return new EntrySet();
+    }
+
+    private TreeMap<String, List<String>> overlay() {
+        if (overlay == null) {
+            overlay = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        }
+        return overlay;
+    }
+
+    // Mutable values of a header, copied into the overlay on first change
+    private List<String> writable(String name) {
+        TreeMap<String, List<String>> changes = overlay();
+        List<String> values = changes.get(name);
+        if (values == null) {
+            values = new ArrayList<>();
+            if (!changes.containsKey(name)) {
+                values.addAll(headers.all(HeaderNameCache.of(name), List::of));
+            }
+            changes.put(name, values);
+        }
+        return values;
+    }
+
+    private List<String> snapshot(String name) {
+        List<String> values = get(name);
+        return values == null ? null : List.copyOf(values);
+    }
+
+    private List<Map.Entry<String, List<String>>> entries() {
+        List<Map.Entry<String, List<String>>> entries = new ArrayList<>(headers.size());
+        for (Header header : headers) {
+            if (overlay == null || !overlay.containsKey(header.name())) {
+                entries.add(new SimpleImmutableEntry<>(header.name(), header.allValues()));
+            }
+        }
+        if (overlay != null) {
+            for (Map.Entry<String, List<String>> entry : overlay.entrySet()) {
+                if (entry.getValue() != null) {
+                    entries.add(new SimpleImmutableEntry<>(entry.getKey(),
+                                                           Collections.unmodifiableList(entry.getValue())));
+                }
+            }
+        }
+        return entries;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, List<String>>> {
+
+        @Override
+        public Iterator<Map.Entry<String, List<String>>> iterator() {
+            Iterator<Map.Entry<String, List<String>>> snapshot = entries().iterator();
+            return new Iterator<>() {
+                private Map.Entry<String, List<String>> last;
+
+                @Override
+                public boolean hasNext() {
+                    return snapshot.hasNext();
+                }
+
+                @Override
+                public Map.Entry<String, List<String>> next() {
+                    if (!snapshot.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    last = snapshot.next();
+                    return last;
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) {
+                        throw new IllegalStateException();
+                    }
+                    RequestHeadersMap.this.remove(last.getKey());
+                    last = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return RequestHeadersMap.this.size();
+        }
+    }
+}
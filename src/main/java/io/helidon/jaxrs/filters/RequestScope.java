@@ -0,0 +1,287 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.common.context.Context;
+import io.helidon.common.context.Contexts;
+import io.helidon.webserver.http.ServerRequest;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.UriInfo;
+
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Request-scoped holder of the JAX-RS views of a Helidon request.
+ *
+ * <p>One instance is registered in the request {@link Context} per request. Each view
+ * ({@link UriInfo}, {@link HttpHeaders}, {@link SecurityContext}) is created on first access,
+ * so a request whose filters never use a view does not pay for it. Pre-matching and
+ * post-matching stages can replace a view for the rest of the request.
+ *
+ * <p>A request is handled by one thread at a time, so the holder is not synchronized.
+ *
+ * <p>While the filter chain runs, the scope is also bound to the handling thread, so proxies
+ * find it with a single thread-local read instead of a context lookup per call. With
+ * {@link JaxRsFilterOptions.ContextPropagation#SCOPED_VALUE} it is bound with a
+ * {@code ScopedValue} instead.
+ */
+public final class RequestScope {
+
+    // Scope of the request being processed by the current thread, set by the context filter
+    private static final ThreadLocal<RequestScope> CURRENT = new ThreadLocal<>();
+
+    private final ServerRequest request;
+    private final Authenticator authenticator;
+    private UriInfo uriInfo;
+    private HttpHeaders httpHeaders;
+    private SecurityContext securityContext;
+    private ResourceInfo resourceInfo;
+    private EntityBuffer entityBuffer;
+    private UnaryOperator<InputStream> entityFilter;
+
+    /**
+     * Create a scope for a request. Nothing is computed until a view is requested.
+     *
+     * @param request the server request
+     */
+    public RequestScope(ServerRequest request) {
+        this(request, Authenticator.DEFAULT);
+    }
+
+    RequestScope(ServerRequest request, Authenticator authenticator) {
+        this.request = request;
+        this.authenticator = authenticator;
+    }
+
+    /**
+     * The scope registered in the request's context, registering a new one if there is none.
+     *
+     * @param request the server request
+     * @return request scope
+     */
+    public static RequestScope of(ServerRequest request) {
+        Context ctx = request.context();
+        Optional<RequestScope> existing = ctx.get(RequestScope.class, RequestScope.class);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        RequestScope scope = new RequestScope(request);
+        ctx.register(RequestScope.class, scope);
+        return scope;
+    }
+
+    /**
+     * The scope bound to the current thread, by a thread-local or a scoped value.
+     *
+     * @return current scope, or {@code null} if the thread is not processing a request
+     */
+    static RequestScope current() {
+        RequestScope scope = CURRENT.get();
+        return scope != null ? scope : ScopedValueBinding.current();
+    }
+
+    /**
+     * Run an action with a scope bound to the current thread.
+     *
+     * @param scope scope to bind
+     * @param action action to run
+     */
+    static void runBound(RequestScope scope, Runnable action) {
+        RequestScope previous = CURRENT.get();
+        CURRENT.set(scope);
+        try {
+            action.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * URI information of the request.
+     *
+     * @return uri info
+     */
+    public UriInfo uriInfo() {
+        if (uriInfo == null) {
+            uriInfo = new HelidonUriInfo(request);
+        }
+        return uriInfo;
+    }
+
+    /**
+     * Replace the URI information for the rest of the request.
+     *
+     * @param uriInfo uri info to use
+     */
+    public void uriInfo(UriInfo uriInfo) {
+        this.uriInfo = Objects.requireNonNull(uriInfo, "uriInfo");
+    }
+
+    /**
+     * Request headers.
+     *
+     * @return http headers
+     */
+    public HttpHeaders httpHeaders() {
+        if (httpHeaders == null) {
+            httpHeaders = new HelidonHttpHeaders(request);
+        }
+        return httpHeaders;
+    }
+
+    /**
+     * Replace the request headers view for the rest of the request.
+     *
+     * @param httpHeaders http headers to use
+     */
+    public void httpHeaders(HttpHeaders httpHeaders) {
+        this.httpHeaders = Objects.requireNonNull(httpHeaders, "httpHeaders");
+    }
+
+    /**
+     * Security information of the request. It is created on first call, by the configured
+     * {@link SecurityContextProvider} or by parsing authentication headers. While a configured
+     * provider returns empty, the header-based context is not kept, so a later call still gets
+     * the provider's context once it is available, for example after Helidon Security ran.
+     *
+     * @return security context
+     */
+    public SecurityContext securityContext() {
+        if (securityContext == null) {
+            SecurityContext provided = authenticator.providedSecurityContext(request);
+            if (provided != null) {
+                securityContext = provided;
+            } else if (authenticator.hasProvider()) {
+                return authenticator.headerSecurityContext(request);
+            } else {
+                securityContext = authenticator.headerSecurityContext(request);
+            }
+        }
+        return securityContext;
+    }
+
+    /**
+     * Replace the security context for the rest of the request.
+     *
+     * @param securityContext security context to use
+     */
+    public void securityContext(SecurityContext securityContext) {
+        this.securityContext = Objects.requireNonNull(securityContext, "securityContext");
+    }
+
+    /**
+     * Matched resource information, only set once routing has matched.
+     *
+     * @return resource info, or {@code null} before post-matching filters run
+     */
+    public ResourceInfo resourceInfo() {
+        return resourceInfo;
+    }
+
+    /**
+     * Set the matched resource information.
+     *
+     * @param resourceInfo resource info
+     */
+    public void resourceInfo(ResourceInfo resourceInfo) {
+        this.resourceInfo = Objects.requireNonNull(resourceInfo, "resourceInfo");
+    }
+
+    /**
+     * The request entity for a route handler. When entity buffering is enabled in
+     * {@link JaxRsFilterOptions} and a filter read the entity, Helidon's entity is already
+     * consumed and this returns a replay of the buffered bytes, passed through the stream
+     * wrappers filters registered since, such as request decompression and reader interceptors;
+     * otherwise it opens Helidon's entity stream, which applies the same wrappers.
+     *
+     * @return entity stream
+     * @see JaxRsFilterOptions.Builder#replayableEntity(boolean)
+     */
+    public InputStream entityStream() {
+        if (entityBuffer == null) {
+            return request.content().inputStream();
+        }
+        InputStream replay = entityBuffer.open();
+        return entityFilter == null ? replay : entityFilter.apply(replay);
+    }
+
+    /**
+     * Wrap the entity stream the route reads, both Helidon's and the replay of a buffered entity.
+     * Functions are applied in the order they are added.
+     *
+     * @param filter function wrapping the entity stream
+     */
+    void addEntityFilter(UnaryOperator<InputStream> filter) {
+        request.streamFilter(filter);
+        UnaryOperator<InputStream> previous = entityFilter;
+        entityFilter = previous == null ? filter : in -> filter.apply(previous.apply(in));
+    }
+
+    /**
+     * The buffered request entity, reading it from Helidon on first use.
+     *
+     * @param limits memory and size limits of the buffer
+     * @return buffered entity
+     */
+    EntityBuffer entityBuffer(EntityBuffer.Limits limits) {
+        if (entityBuffer == null) {
+            entityBuffer = EntityBuffer.read(request.content().inputStream(), limits);
+        }
+        return entityBuffer;
+    }
+
+    /**
+     * The buffered request entity, if a filter read it.
+     *
+     * @return buffered entity, or {@code null}
+     */
+    EntityBuffer entityBuffer() {
+        return entityBuffer;
+    }
+
+    /**
+     * Resolve a view for the current request: from the scope bound to the thread, then from
+     * the scope registered in the context, then from an instance registered in the context
+     * directly under its type.
+     *
+     * @param type view type
+     * @param view accessor of the view on the scope
+     * @param missing message of the exception thrown when the view is not available
+     * @param <T> view type
+     * @return the view
+     * @throws IllegalStateException if not called within a request with the view available
+     */
+    static <T> T resolve(Class<T> type, Function<RequestScope, T> view, String missing) {
+        RequestScope current = current();
+        if (current != null) {
+            T value = view.apply(current);
+            if (value != null) {
+                return value;
+            }
+        }
+
+        Context ctx = Contexts.context().orElse(null);
+        if (ctx != null) {
+            RequestScope scope = ctx.get(RequestScope.class, RequestScope.class).orElse(null);
+            if (scope != null) {
+                T value = view.apply(scope);
+                if (value != null) {
+                    return value;
+                }
+            }
+            Optional<T> registered = ctx.get(type, type);
+            if (registered.isPresent()) {
+                return registered.get();
+            }
+        }
+        throw new IllegalStateException(missing);
+    }
+}
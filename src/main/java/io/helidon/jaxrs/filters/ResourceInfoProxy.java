@@ -1,6 +1,5 @@
 package io.helidon.jaxrs.filters;
 
-import io.helidon.common.context.Contexts;
 import jakarta.ws.rs.container.ResourceInfo;
 
 import java.lang.reflect.Method;
@@ -24,10 +23,8 @@ public class ResourceInfoProxy implements ResourceInfo {
     }
 
     private ResourceInfo delegate() {
-        return Contexts.context()
-                .flatMap(ctx -> ctx.get(ResourceInfo.class, ResourceInfo.class))
-                .orElseThrow(() -> new IllegalStateException(
-                        "ResourceInfo not available - ensure this is called from a post-matching filter"));
+        return RequestScope.resolve(ResourceInfo.class, RequestScope::resourceInfo,
+                "ResourceInfo not available - ensure this is called from a post-matching filter");
     }
 
     @Override
@@ -0,0 +1,430 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.http.Header;
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.WritableHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Write-through {@link MultivaluedMap} view over Helidon response headers.
+ *
+ * <p>Every change is applied to the Helidon headers immediately, so nothing is copied back
+ * after the response filters ran. Headers no filter touches are read from Helidon as strings.
+ * For headers a filter sets, the value objects are kept as well, so lookups return what the
+ * filter put while Helidon receives their {@code toString()}, or the HTTP-date for a {@link Date}.
+ *
+ * <p>{@link #strings()} is a string view of the same headers. Lists returned by lookups on this
+ * map write through; iteration works on a snapshot of the header names.
+ */
+final class ResponseHeadersMap extends AbstractMap<String, List<Object>> implements MultivaluedMap<String, Object> {
+
+    private final WritableHeaders<?> headers;
+
+    // Value objects of headers set through this map, by name; created on first change
+    private TreeMap<String, List<Object>> objects;
+    private StringView strings;
+
+    ResponseHeadersMap(WritableHeaders<?> headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * String view of the headers, backed by the same Helidon headers.
+     *
+     * @return string view
+     */
+    MultivaluedMap<String, String> strings() {
+        if (strings == null) {
+            strings = new StringView();
+        }
+        return strings;
+    }
+
+    @Override
+    public List<Object> get(Object key) {
+        if (!(key instanceof String name) || !containsKey(name)) {
+            return null;
+        }
+        return new Values(name);
+    }
+
+    @Override
+    public Object getFirst(String name) {
+        List<Object> values = objects(name);
+        if (values != null) {
+            return values.isEmpty() ? null : values.get(0);
+        }
+        return headers.first(HeaderNames.create(name)).orElse(null);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String name && headers.contains(HeaderNames.create(name));
+    }
+
+    @Override
+    public int size() {
+        return headers.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return headers.size() == 0;
+    }
+
+    @Override
+    public List<Object> put(String key, List<Object> value) {
+        List<Object> previous = snapshot(key);
+        setValues(key, new ArrayList<>(value));
+        return previous;
+    }
+
+    @Override
+    public List<Object> remove(Object key) {
+        if (!(key instanceof String name) || !containsKey(name)) {
+            return null;
+        }
+        List<Object> previous = snapshot(name);
+        headers.remove(HeaderNames.create(name));
+        if (objects != null) {
+            objects.remove(name);
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        headers.clear();
+        objects = null;
+    }
+
+    @Override
+    public void putSingle(String key, Object value) {
+        List<Object> values = new ArrayList<>(1);
+        values.add(value);
+        setValues(key, values);
+    }
+
+    @Override
+    public void add(String key, Object value) {
+        writable(key).add(value);
+        if (value != null) {
+            headers.add(HeaderNames.create(key), headerValue(value));
+        }
+    }
+
+    @Override
+    public void addAll(String key, Object... newValues) {
+        Objects.requireNonNull(newValues, "newValues");
+        if (newValues.length > 0) {
+            addAll(key, Arrays.asList(newValues));
+        }
+    }
+
+    @Override
+    public void addAll(String key, List<Object> valueList) {
+        Objects.requireNonNull(valueList, "valueList");
+        if (!valueList.isEmpty()) {
+            List<Object> values = writable(key);
+            values.addAll(valueList);
+            sync(key, values);
+        }
+    }
+
+    @Override
+    public void addFirst(String key, Object value) {
+        List<Object> values = writable(key);
+        values.add(0, value);
+        sync(key, values);
+    }
+
+    @Override
+    public boolean equalsIgnoreValueOrder(MultivaluedMap<String, Object> otherMap) {
+        return sameValues(this, otherMap);
+    }
+
+    @Override
+    public Set<Map.Entry<String, List<Object>>> entrySet() {
+        return new NameSnapshotSet<>() {
+            @Override
+            Map.Entry<String, List<Object>> entry(String name) {
+                return new SimpleImmutableEntry<>(name, new Values(name));
+            }
+        };
+    }
+
+    private List<Object> objects(String name) {
+        return objects == null ? null : objects.get(name);
+    }
+
+    private List<Object> writable(String name) {
+        if (objects == null) {
+            objects = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        }
+        return objects.computeIfAbsent(name, it -> new ArrayList<>(headers.all(HeaderNames.create(it), List::of)));
+    }
+
+    private List<Object> snapshot(String name) {
+        List<Object> values = objects(name);
+        if (values != null) {
+            return List.copyOf(values);
+        }
+        List<String> strings = headers.all(HeaderNames.create(name), () -> null);
+        return strings == null ? null : List.copyOf(strings);
+    }
+
+    private void setValues(String name, List<Object> values) {
+        if (objects == null) {
+            objects = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        }
+        objects.put(name, values);
+        sync(name, values);
+    }
+
+    private static String headerValue(Object value) {
+        return value instanceof Date date ? HttpDates.format(date) : value.toString();
+    }
+
+    // Write the current values of a header to Helidon, null values are skipped
+    private void sync(String name, List<Object> values) {
+        HeaderName headerName = HeaderNames.create(name);
+        List<String> strings = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value != null) {
+                strings.add(headerValue(value));
+            }
+        }
+        if (strings.isEmpty()) {
+            headers.remove(headerName);
+            objects.remove(name);
+        } else {
+            headers.set(headerName, strings.toArray(new String[0]));
+        }
+    }
+
+    private static boolean sameValues(MultivaluedMap<String, ?> map, MultivaluedMap<String, ?> otherMap) {
+        if (map == otherMap) {
+            return true;
+        }
+        if (!map.keySet().equals(otherMap.keySet())) {
+            return false;
+        }
+        for (Map.Entry<String, ? extends List<?>> entry : map.entrySet()) {
+            List<?> other = otherMap.get(entry.getKey());
+            if (entry.getValue().size() != other.size()
+                    || !entry.getValue().containsAll(other)
+                    || !other.containsAll(entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Live values of one header. Reads see the current header; changes are written through.
+     */
+    private final class Values extends AbstractList<Object> {
+
+        private final String name;
+
+        private Values(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Object get(int index) {
+            return current().get(index);
+        }
+
+        @Override
+        public int size() {
+            return current().size();
+        }
+
+        @Override
+        public void add(int index, Object element) {
+            List<Object> values = writable(name);
+            values.add(index, element);
+            sync(name, values);
+        }
+
+        @Override
+        public Object set(int index, Object element) {
+            List<Object> values = writable(name);
+            Object previous = values.set(index, element);
+            sync(name, values);
+            return previous;
+        }
+
+        @Override
+        public Object remove(int index) {
+            List<Object> values = writable(name);
+            Object previous = values.remove(index);
+            sync(name, values);
+            return previous;
+        }
+
+        private List<?> current() {
+            List<Object> values = objects(name);
+            return values != null ? values : headers.all(HeaderNames.create(name), List::of);
+        }
+    }
+
+    /**
+     * String values of the headers. Changes go through the enclosing map.
+     */
+    private final class StringView extends AbstractMap<String, List<String>>
+            implements MultivaluedMap<String, String> {
+
+        @Override
+        public List<String> get(Object key) {
+            if (!(key instanceof String name)) {
+                return null;
+            }
+            return headers.all(HeaderNames.create(name), () -> null);
+        }
+
+        @Override
+        public String getFirst(String name) {
+            return headers.first(HeaderNames.create(name)).orElse(null);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return ResponseHeadersMap.this.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return headers.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return headers.size() == 0;
+        }
+
+        @Override
+        public List<String> put(String key, List<String> value) {
+            List<String> previous = get(key);
+            setValues(key, new ArrayList<>(value));
+            return previous;
+        }
+
+        @Override
+        public List<String> remove(Object key) {
+            List<String> previous = get(key);
+            ResponseHeadersMap.this.remove(key);
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            ResponseHeadersMap.this.clear();
+        }
+
+        @Override
+        public void putSingle(String key, String value) {
+            ResponseHeadersMap.this.putSingle(key, value);
+        }
+
+        @Override
+        public void add(String key, String value) {
+            ResponseHeadersMap.this.add(key, value);
+        }
+
+        @Override
+        public void addAll(String key, String... newValues) {
+            ResponseHeadersMap.this.addAll(key, (Object[]) newValues);
+        }
+
+        @Override
+        public void addAll(String key, List<String> valueList) {
+            ResponseHeadersMap.this.addAll(key, new ArrayList<>(valueList));
+        }
+
+        @Override
+        public void addFirst(String key, String value) {
+            ResponseHeadersMap.this.addFirst(key, value);
+        }
+
+        @Override
+        public boolean equalsIgnoreValueOrder(MultivaluedMap<String, String> otherMap) {
+            return sameValues(this, otherMap);
+        }
+
+        @Override
+        public Set<Map.Entry<String, List<String>>> entrySet() {
+            return new NameSnapshotSet<>() {
+                @Override
+                Map.Entry<String, List<String>> entry(String name) {
+                    return new SimpleImmutableEntry<>(name, headers.all(HeaderNames.create(name), List::of));
+                }
+            };
+        }
+    }
+
+    /**
+     * Entry set iterating the header names present when the iterator is created.
+     */
+    private abstract class NameSnapshotSet<V> extends AbstractSet<Map.Entry<String, V>> {
+
+        abstract Map.Entry<String, V> entry(String name);
+
+        @Override
+        public Iterator<Map.Entry<String, V>> iterator() {
+            Collection<String> names = new ArrayList<>(headers.size());
+            for (Header header : headers) {
+                names.add(header.name());
+            }
+            Iterator<String> snapshot = names.iterator();
+            return new Iterator<>() {
+                private String last;
+
+                @Override
+                public boolean hasNext() {
+                    return snapshot.hasNext();
+                }
+
+                @Override
+                public Map.Entry<String, V> next() {
+                    if (!snapshot.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    last = snapshot.next();
+                    return entry(last);
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) {
+                        throw new IllegalStateException();
+                    }
+                    ResponseHeadersMap.this.remove(last);
+                    last = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return headers.size();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.webserver.http.ServerResponse;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.WriterInterceptor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Runs the response filters and writer interceptors of one request and carries the response
+ * entity through them.
+ *
+ * <p>The stage is hooked into Helidon twice: as the response's stream filter, so the entity
+ * bytes written by the handler pass through {@link #entityStream()}, and as a before-send
+ * callback for responses without a body. The filters run exactly once, on whichever of the two
+ * comes first, and always before the first entity byte is written. A filter that wraps the
+ * entity stream sees the bytes as the handler writes them; nothing is buffered here.
+ *
+ * <p>Writer interceptors run when the handler first uses the entity stream, after the filters,
+ * and wrap the stream the filters left. Responses without a body never run them.
+ */
+final class ResponseStage {
+
+    private final HelidonContainerRequestContext requestContext;
+    private final ContainerResponseFilter[] filters;
+    private final WriterInterceptor[] interceptors;
+    private final ServerResponse res;
+    private final Tail tail = new Tail();
+
+    // Where entity bytes go after the filters ran, wrapped by filters via setEntityStream
+    private OutputStream entityStream = tail;
+    // Entity stream wrapped by the writer interceptors, what the handler's bytes go into
+    private OutputStream target;
+    private OutputStream helidonStream;
+    private boolean filtered;
+
+    ResponseStage(HelidonContainerRequestContext requestContext,
+                  ContainerResponseFilter[] filters,
+                  WriterInterceptor[] interceptors,
+                  ServerResponse res) {
+        this.requestContext = requestContext;
+        this.filters = filters;
+        this.interceptors = interceptors;
+        this.res = res;
+    }
+
+    /**
+     * Register the stage with the response.
+     */
+    void register() {
+        res.streamFilter(this::bind);
+        res.beforeSend(() -> {
+            try {
+                filter();
+            } catch (IOException ex) {
+                throw new RuntimeException("Response filter failed", ex);
+            }
+        });
+    }
+
+    /**
+     * Entity stream as seen by response filters.
+     *
+     * @return current entity stream
+     */
+    OutputStream entityStream() {
+        return entityStream;
+    }
+
+    /**
+     * Replace the entity stream, usually with a wrapper of {@link #entityStream()}. A new stream
+     * may change the length of the entity, so {@code Content-Length} is dropped as
+     * {@link CompressingOutputStream} does; a filter can set it again afterwards.
+     *
+     * @param entityStream new entity stream
+     */
+    void entityStream(OutputStream entityStream) {
+        if (entityStream != this.entityStream) {
+            res.headers().remove(HeaderNames.CONTENT_LENGTH);
+        }
+        this.entityStream = entityStream;
+    }
+
+    private OutputStream bind(OutputStream helidonStream) {
+        this.helidonStream = helidonStream;
+        return new Head();
+    }
+
+    private void filter() throws IOException {
+        if (filtered) {
+            return;
+        }
+        filtered = true;
+        // Header changes are written to res.headers() as the filters make them
+        HelidonContainerResponseContext responseContext =
+                new HelidonContainerResponseContext(res.status().code(), null, res.headers(), this);
+        for (ContainerResponseFilter filter : filters) {
+            filter.filter(requestContext, responseContext);
+        }
+        res.status(responseContext.getStatus());
+    }
+
+    private OutputStream target() throws IOException {
+        if (target == null) {
+            filter();
+            if (interceptors.length == 0) {
+                target = entityStream;
+            } else {
+                target = new StreamWriterInterceptorContext(interceptors, requestContext,
+                        new ResponseHeadersMap(res.headers()), entityStream).run();
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Stream handed to Helidon's response; runs the filters and interceptors before the first byte.
+     */
+    private final class Head extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            target().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target().write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target().flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            target().close();
+        }
+    }
+
+    /**
+     * End of the filter wrappers, writing to Helidon's output stream. Writes are dropped when
+     * the response has no body stream, as for responses sent without an entity.
+     */
+    private final class Tail extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            if (helidonStream != null) {
+                helidonStream.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (helidonStream != null) {
+                helidonStream.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (helidonStream != null) {
+                helidonStream.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (helidonStream != null) {
+                helidonStream.close();
+            }
+        }
+    }
+}
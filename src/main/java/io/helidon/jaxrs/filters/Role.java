@@ -0,0 +1,81 @@
+package io.helidon.jaxrs.filters;
+
+import jakarta.ws.rs.core.SecurityContext;
+
+import java.util.Objects;
+
+/**
+ * A role name resolved once to its role ID, for role checks that are a single bit test.
+ *
+ * <p>{@link SecurityContext#isUserInRole(String)} has to look the name up on every call. A filter
+ * that checks the same role on every request can resolve it once instead:
+ * <pre>
+ * private static final Role ADMIN = Role.of("admin");
+ *
+ * if (ADMIN.grantedIn(securityContext)) { ... }
+ * </pre>
+ *
+ * <p>Roles are registered in a process-wide registry, so create them from names the application
+ * knows, not from request data.
+ */
+public final class Role {
+
+    private final String name;
+    private final int id;
+
+    private Role(String name, int id) {
+        this.name = name;
+        this.id = id;
+    }
+
+    /**
+     * Resolve a role name.
+     *
+     * @param name role name
+     * @return role
+     */
+    public static Role of(String name) {
+        Objects.requireNonNull(name, "name");
+        return new Role(name, RoleRegistry.register(name));
+    }
+
+    /**
+     * The role name.
+     *
+     * @return role name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Whether the user of a security context is in this role. For a {@link HelidonSecurityContext},
+     * directly or through the injected proxy, this is a bit test; other security contexts are asked
+     * by name.
+     *
+     * @param securityContext security context of the request
+     * @return {@code true} if the user is in this role
+     */
+    public boolean grantedIn(SecurityContext securityContext) {
+        SecurityContext resolved = securityContext instanceof SecurityContextProxy proxy
+                ? proxy.delegate()
+                : securityContext;
+        return resolved instanceof HelidonSecurityContext helidon
+                ? helidon.isUserInRole(this)
+                : resolved.isUserInRole(name);
+    }
+
+    /**
+     * The role ID.
+     *
+     * @return role ID, or {@code -1} if the registry was full
+     */
+    int id() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
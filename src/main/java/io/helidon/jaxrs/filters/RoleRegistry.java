@@ -0,0 +1,72 @@
+package io.helidon.jaxrs.filters;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Process-wide registry that assigns each role name a small integer ID, for {@link RoleSet}.
+ *
+ * <p>IDs are assigned in order of first use and never reused. Only roles of verified identities
+ * are registered, and the registry is bounded anyway: once it is full, new names get no ID and
+ * role sets keep them by name instead.
+ */
+final class RoleRegistry {
+
+    private static final int MAX_ROLES = 4096;
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static final AtomicReferenceArray<String> NAMES = new AtomicReferenceArray<>(MAX_ROLES);
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private RoleRegistry() {
+    }
+
+    /**
+     * The ID of a role, assigning one if the role is new.
+     *
+     * @param role role name
+     * @return role ID, or {@code -1} if the registry is full
+     */
+    static int register(String role) {
+        Integer id = IDS.get(role);
+        if (id != null) {
+            return id;
+        }
+        if (NEXT_ID.get() >= MAX_ROLES) {
+            return -1;
+        }
+        id = IDS.computeIfAbsent(role, name -> {
+            int next = NEXT_ID.getAndIncrement();
+            if (next >= MAX_ROLES) {
+                return null;
+            }
+            NAMES.set(next, name);
+            return next;
+        });
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * The ID of a registered role. Unlike {@link #register(String)}, this never assigns an ID, so
+     * role checks with arbitrary names do not fill the registry.
+     *
+     * @param role role name
+     * @return role ID, or {@code -1} if the role has none
+     */
+    static int id(String role) {
+        Integer id = IDS.get(role);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * The name of a role ID.
+     *
+     * @param id role ID
+     * @return role name
+     */
+    static String name(int id) {
+        return NAMES.get(id);
+    }
+}
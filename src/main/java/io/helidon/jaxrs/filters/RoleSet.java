@@ -0,0 +1,164 @@
+package io.helidon.jaxrs.filters;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable set of roles held as a bit mask over {@link RoleRegistry} IDs.
+ *
+ * <p>Membership of a pre-resolved {@link Role} is one bit test; membership by name adds one
+ * registry lookup, skipped for sets without registered roles. Sets are shared: the roles of an
+ * {@code X-User-Roles} value are parsed once and cached by raw value, bounded like the caches of
+ * {@link MediaTypes}, and authenticators keep the role set of each cached identity. Role names
+ * are only turned back into a {@link Set} when {@link #names()} is called.
+ *
+ * <p>Only the roles of verified identities are registered. Header values are sent by the client,
+ * so their roles are looked up without assigning IDs, and names the registry does not know are
+ * kept by name like the roles of a full registry.
+ */
+final class RoleSet {
+
+    /**
+     * No roles.
+     */
+    static final RoleSet EMPTY = new RoleSet(new long[0], Set.of());
+
+    private static final int MAX_ENTRIES = 256;
+    private static final int MAX_VALUE_LENGTH = 512;
+    private static final Map<String, RoleSet> HEADER_ROLES = new ConcurrentHashMap<>();
+
+    private final long[] words;
+    // Roles without an ID: header roles never registered, or roles of a full registry
+    private final Set<String> unregistered;
+    private Set<String> names;
+
+    private RoleSet(long[] words, Set<String> unregistered) {
+        this.words = words;
+        this.unregistered = unregistered;
+    }
+
+    /**
+     * Role set of the role names of a verified identity, registering names that are new.
+     *
+     * @param roles role names
+     * @return role set
+     */
+    static RoleSet of(Collection<String> roles) {
+        return of(roles, true);
+    }
+
+    private static RoleSet of(Collection<String> roles, boolean register) {
+        if (roles.isEmpty()) {
+            return EMPTY;
+        }
+        long[] words = new long[0];
+        Set<String> unregistered = new HashSet<>();
+        for (String role : roles) {
+            int id = register ? RoleRegistry.register(role) : RoleRegistry.id(role);
+            if (id < 0) {
+                unregistered.add(role);
+                continue;
+            }
+            int word = id >>> 6;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, word + 1);
+            }
+            words[word] |= 1L << id;
+        }
+        return new RoleSet(words, Set.copyOf(unregistered));
+    }
+
+    /**
+     * Role set of a comma-separated header value such as {@code X-User-Roles}. The roles are not
+     * registered.
+     *
+     * @param header header value
+     * @return role set
+     */
+    static RoleSet parse(String header) {
+        RoleSet roles = HEADER_ROLES.get(header);
+        if (roles != null) {
+            return roles;
+        }
+        Set<String> names = new HashSet<>();
+        for (String role : header.split(",")) {
+            String trimmed = role.trim();
+            if (!trimmed.isEmpty()) {
+                names.add(trimmed);
+            }
+        }
+        roles = of(names, false);
+        if (header.length() <= MAX_VALUE_LENGTH) {
+            if (HEADER_ROLES.size() >= MAX_ENTRIES) {
+                HEADER_ROLES.clear();
+            }
+            HEADER_ROLES.put(header, roles);
+        }
+        return roles;
+    }
+
+    /**
+     * Whether the set contains a role.
+     *
+     * @param role role name
+     * @return {@code true} if the role is in the set
+     */
+    boolean contains(String role) {
+        // Header roles in trusted-header mode are usually all unregistered, one set lookup then
+        if (words.length != 0 && containsId(RoleRegistry.id(role))) {
+            return true;
+        }
+        // Also a role registered after this set was created from a header
+        return !unregistered.isEmpty() && unregistered.contains(role);
+    }
+
+    /**
+     * Whether the set contains a pre-resolved role. For sets whose roles all have IDs, such as
+     * those of verified identities, this is a bit test.
+     *
+     * @param role resolved role
+     * @return {@code true} if the role is in the set
+     */
+    boolean contains(Role role) {
+        if (containsId(role.id())) {
+            return true;
+        }
+        return !unregistered.isEmpty() && unregistered.contains(role.name());
+    }
+
+    private boolean containsId(int id) {
+        if (id < 0) {
+            return false;
+        }
+        int word = id >>> 6;
+        return word < words.length && (words[word] & (1L << id)) != 0;
+    }
+
+    /**
+     * The role names, created on first call.
+     *
+     * @return immutable set of role names
+     */
+    Set<String> names() {
+        Set<String> result = names;
+        if (result == null) {
+            Set<String> collected = new HashSet<>(unregistered);
+            for (int word = 0; word < words.length; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    int bit = Long.numberOfTrailingZeros(bits);
+                    collected.add(RoleRegistry.name((word << 6) + bit));
+                    bits &= bits - 1;
+                }
+            }
+            // Immutable, so a racing call computing it again is harmless
+            result = Set.copyOf(collected);
+            names = result;
+        }
+        return result;
+    }
+}
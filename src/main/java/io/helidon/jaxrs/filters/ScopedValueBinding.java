@@ -0,0 +1,122 @@
+package io.helidon.jaxrs.filters;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Binds the {@link RequestScope} with a {@code java.lang.ScopedValue}.
+ *
+ * <p>{@code ScopedValue} is final only from JDK 25 and a preview API before that, so this module
+ * cannot reference it directly. The few methods needed are looked up once as method handles;
+ * if the API is missing or not usable, {@link #AVAILABLE} is {@code false} and callers use
+ * the thread-local binding instead.
+ */
+final class ScopedValueBinding {
+
+    private static final Logger LOGGER = System.getLogger(ScopedValueBinding.class.getName());
+
+    // ScopedValue.orElse does not accept null on recent JDKs
+    private static final Object UNBOUND = new Object();
+
+    static final boolean AVAILABLE;
+
+    private static final Object KEY;
+    private static final MethodHandle WHERE;
+    private static final MethodHandle RUN;
+    private static final MethodHandle OR_ELSE;
+
+    // Set once a registration uses the mode, so thread-local only deployments never probe the value
+    private static volatile boolean inUse;
+
+    static {
+        Object key = null;
+        MethodHandle where = null;
+        MethodHandle run = null;
+        MethodHandle orElse = null;
+        boolean available = false;
+        try {
+            Class<?> scopedValue = Class.forName("java.lang.ScopedValue");
+            Class<?> carrier = Class.forName("java.lang.ScopedValue$Carrier");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            key = lookup.findStatic(scopedValue, "newInstance", MethodType.methodType(scopedValue)).invoke();
+            where = lookup.findStatic(scopedValue, "where",
+                            MethodType.methodType(carrier, scopedValue, Object.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+            run = lookup.findVirtual(carrier, "run", MethodType.methodType(void.class, Runnable.class))
+                    .asType(MethodType.methodType(void.class, Object.class, Runnable.class));
+            orElse = lookup.findVirtual(scopedValue, "orElse", MethodType.methodType(Object.class, Object.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+
+            // Preview APIs may refuse to run when preview features are disabled
+            Object probe = where.invokeExact(key, UNBOUND);
+            run.invokeExact(probe, (Runnable) () -> { });
+            available = true;
+        } catch (Throwable e) {
+            LOGGER.log(Level.DEBUG, "ScopedValue not available: {0}", e.toString());
+        }
+        AVAILABLE = available;
+        KEY = key;
+        WHERE = where;
+        RUN = run;
+        OR_ELSE = orElse;
+    }
+
+    private ScopedValueBinding() {
+    }
+
+    /**
+     * Mark the mode as used, so {@link #current()} starts looking for a bound scope.
+     */
+    static void enable() {
+        if (AVAILABLE) {
+            inUse = true;
+        }
+    }
+
+    /**
+     * Run an action with the scope bound. Threads forked in a structured task scope
+     * inherit the binding.
+     *
+     * @param scope scope to bind
+     * @param action action to run
+     */
+    static void run(RequestScope scope, Runnable action) {
+        Object carrier;
+        try {
+            carrier = WHERE.invokeExact(KEY, (Object) scope);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot bind request scope", e);
+        }
+        try {
+            RUN.invokeExact(carrier, action);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // Runnable cannot throw checked exceptions, only a sneaky throw gets here
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The scope bound to the current thread.
+     *
+     * @return bound scope, or {@code null} if none is bound or the mode is not in use
+     */
+    static RequestScope current() {
+        if (!inUse) {
+            return null;
+        }
+        Object value;
+        try {
+            value = OR_ELSE.invokeExact(KEY, UNBOUND);
+        } catch (Throwable e) {
+            return null;
+        }
+        return value == UNBOUND ? null : (RequestScope) value;
+    }
+}
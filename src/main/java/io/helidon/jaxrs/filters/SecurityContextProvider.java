@@ -0,0 +1,43 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.webserver.http.ServerRequest;
+import jakarta.ws.rs.core.SecurityContext;
+
+import java.util.Optional;
+
+/**
+ * Creates the JAX-RS {@link SecurityContext} of a request, replacing the header-based
+ * {@link HelidonSecurityContext}.
+ *
+ * <p>The provider is first called when a filter uses {@code @Context SecurityContext} or
+ * {@code getSecurityContext()}, so requests whose filters never ask for security information do
+ * not authenticate. Its context is kept for the rest of the request. When it returns empty, the
+ * request gets an anonymous {@link HelidonSecurityContext} that ignores role headers and
+ * unverified user names, and the provider is asked again on the next use, so a context it
+ * registers later in the request is still found. Implementations must be thread-safe; see
+ * {@link JaxRsFilterOptions.Builder#securityContextProvider(SecurityContextProvider)}.
+ */
+@FunctionalInterface
+public interface SecurityContextProvider {
+
+    /**
+     * Security context of a request.
+     *
+     * @param request the server request
+     * @return security context, or empty to use {@link HelidonSecurityContext}
+     */
+    Optional<SecurityContext> securityContext(ServerRequest request);
+
+    /**
+     * Provider that adapts the {@code io.helidon.security.SecurityContext} that Helidon
+     * Security registers in the request context, so a request authenticated by Helidon Security
+     * is not authenticated again. Requests without one are anonymous unless a configured
+     * verifier, JWK set or client certificate authenticates them.
+     * Requires {@code helidon-security} on the class path.
+     *
+     * @return provider backed by Helidon Security
+     */
+    static SecurityContextProvider helidonSecurity() {
+        return HelidonSecurityAdapter.PROVIDER;
+    }
+}
@@ -1,6 +1,5 @@
 package io.helidon.jaxrs.filters;
 
-import io.helidon.common.context.Contexts;
 import jakarta.ws.rs.core.SecurityContext;
 
 import java.security.Principal;
@@ -23,11 +22,9 @@ public class SecurityContextProxy implements SecurityContext {
     private SecurityContextProxy() {
     }
 
-    private SecurityContext delegate() {
-        return Contexts.context()
-                .flatMap(ctx -> ctx.get(SecurityContext.class, SecurityContext.class))
-                .orElseThrow(() -> new IllegalStateException(
-                        "SecurityContext not available - ensure JaxRsContextFilter is registered"));
+    SecurityContext delegate() {
+        return RequestScope.resolve(SecurityContext.class, RequestScope::securityContext,
+                "SecurityContext not available - ensure JaxRsContextFilter is registered");
     }
 
     @Override
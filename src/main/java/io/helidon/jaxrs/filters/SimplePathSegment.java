@@ -0,0 +1,95 @@
+package io.helidon.jaxrs.filters;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.PathSegment;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Path segment with its matrix parameters, as in {@code /cars;color=red/2024}.
+ */
+final class SimplePathSegment implements PathSegment {
+
+    private final String path;
+    private final MultivaluedMap<String, String> matrixParameters;
+
+    private SimplePathSegment(String path, MultivaluedMap<String, String> matrixParameters) {
+        this.path = path;
+        this.matrixParameters = matrixParameters;
+    }
+
+    /**
+     * Split a raw path into segments. Empty segments are skipped.
+     *
+     * @param rawPath path as sent, with escapes and matrix parameters, may be {@code null}
+     * @param decode whether to decode segment paths and matrix parameters
+     * @return immutable list of segments
+     */
+    static List<PathSegment> parse(String rawPath, boolean decode) {
+        if (rawPath == null || rawPath.isEmpty()) {
+            return List.of();
+        }
+        List<PathSegment> segments = new ArrayList<>();
+        int length = rawPath.length();
+        int start = 0;
+        while (start < length) {
+            int end = rawPath.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                segments.add(segment(rawPath, start, end, decode));
+            }
+            start = end + 1;
+        }
+        return List.copyOf(segments);
+    }
+
+    private static SimplePathSegment segment(String rawPath, int start, int end, boolean decode) {
+        int semicolon = rawPath.indexOf(';', start);
+        if (semicolon < 0 || semicolon >= end) {
+            return new SimplePathSegment(decode(rawPath.substring(start, end), decode),
+                                         UnmodifiableMultivaluedMap.empty());
+        }
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        int param = semicolon + 1;
+        while (param < end) {
+            int paramEnd = rawPath.indexOf(';', param);
+            if (paramEnd < 0 || paramEnd > end) {
+                paramEnd = end;
+            }
+            if (paramEnd > param) {
+                int equals = rawPath.indexOf('=', param);
+                boolean hasValue = equals >= 0 && equals < paramEnd;
+                String name = decode(rawPath.substring(param, hasValue ? equals : paramEnd), decode);
+                String value = hasValue ? decode(rawPath.substring(equals + 1, paramEnd), decode) : "";
+                params.computeIfAbsent(name, key -> new ArrayList<>(1)).add(value);
+            }
+            param = paramEnd + 1;
+        }
+        return new SimplePathSegment(decode(rawPath.substring(start, semicolon), decode),
+                                     UnmodifiableMultivaluedMap.copyOf(params));
+    }
+
+    private static String decode(String value, boolean decode) {
+        return decode ? UriComponents.decode(value, false) : value;
+    }
+
+    @Override
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getMatrixParameters() {
+        return matrixParameters;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
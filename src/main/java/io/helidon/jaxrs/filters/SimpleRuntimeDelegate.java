@@ -157,12 +157,12 @@ public class SimpleRuntimeDelegate extends RuntimeDelegate {
     private static class DateHeaderDelegate implements HeaderDelegate<Date> {
         @Override
         public Date fromString(String value) {
-            return null;
+            return HttpDates.parse(value);
         }
 
         @Override
         public String toString(Date value) {
-            return value != null ? value.toString() : null;
+            return value != null ? HttpDates.format(value) : null;
         }
     }
 
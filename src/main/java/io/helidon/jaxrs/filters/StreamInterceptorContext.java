@@ -0,0 +1,107 @@
+package io.helidon.jaxrs.filters;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.InterceptorContext;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Common state of the reader and writer interceptor contexts.
+ *
+ * <p>Without message body readers and writers the entity is a byte stream, so the type is
+ * fixed by the subclass and there are no annotations. Properties are those of the request
+ * context, as the JAX-RS contract requires.
+ */
+abstract class StreamInterceptorContext implements InterceptorContext {
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    private final ContainerRequestContext requestContext;
+    private Annotation[] annotations = NO_ANNOTATIONS;
+    private Class<?> type;
+    private Type genericType;
+    private MediaType mediaType;
+    private boolean mediaTypeResolved;
+
+    StreamInterceptorContext(ContainerRequestContext requestContext, Class<?> type) {
+        this.requestContext = requestContext;
+        this.type = type;
+        this.genericType = type;
+    }
+
+    /**
+     * Content type of the entity, read from the headers on first use.
+     *
+     * @return content type header value, or {@code null}
+     */
+    abstract String contentType();
+
+    @Override
+    public Object getProperty(String name) {
+        return requestContext.getProperty(name);
+    }
+
+    @Override
+    public Collection<String> getPropertyNames() {
+        return requestContext.getPropertyNames();
+    }
+
+    @Override
+    public void setProperty(String name, Object object) {
+        requestContext.setProperty(name, object);
+    }
+
+    @Override
+    public void removeProperty(String name) {
+        requestContext.removeProperty(name);
+    }
+
+    @Override
+    public Annotation[] getAnnotations() {
+        return annotations;
+    }
+
+    @Override
+    public void setAnnotations(Annotation[] annotations) {
+        this.annotations = Objects.requireNonNull(annotations, "annotations");
+    }
+
+    @Override
+    public Class<?> getType() {
+        return type;
+    }
+
+    @Override
+    public void setType(Class<?> type) {
+        this.type = type;
+    }
+
+    @Override
+    public Type getGenericType() {
+        return genericType;
+    }
+
+    @Override
+    public void setGenericType(Type genericType) {
+        this.genericType = genericType;
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        if (!mediaTypeResolved) {
+            mediaType = MediaTypes.contentType(contentType());
+            mediaTypeResolved = true;
+        }
+        return mediaType;
+    }
+
+    @Override
+    public void setMediaType(MediaType mediaType) {
+        this.mediaType = mediaType;
+        this.mediaTypeResolved = true;
+    }
+}
@@ -0,0 +1,74 @@
+package io.helidon.jaxrs.filters;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+/**
+ * Runs reader interceptors over the request entity stream.
+ *
+ * <p>The chain runs once per request, when the entity stream is first opened. Interceptors wrap
+ * the stream with {@link #setInputStream(InputStream)} and call {@link #proceed()}; the end of
+ * the chain returns the wrapped stream itself as the entity, so reading stays lazy and nothing
+ * is buffered.
+ */
+final class StreamReaderInterceptorContext extends StreamInterceptorContext implements ReaderInterceptorContext {
+
+    private final ReaderInterceptor[] interceptors;
+    private final ContainerRequestContext requestContext;
+    private InputStream inputStream;
+    private int next;
+
+    StreamReaderInterceptorContext(ReaderInterceptor[] interceptors,
+                                   ContainerRequestContext requestContext,
+                                   InputStream inputStream) {
+        super(requestContext, InputStream.class);
+        this.interceptors = interceptors;
+        this.requestContext = requestContext;
+        this.inputStream = inputStream;
+    }
+
+    /**
+     * Run the interceptors and return the stream the entity is read from.
+     *
+     * @return entity stream wrapped by the interceptors
+     * @throws IOException if an interceptor fails
+     */
+    InputStream run() throws IOException {
+        Object entity = proceed();
+        return entity instanceof InputStream stream ? stream : inputStream;
+    }
+
+    @Override
+    public Object proceed() throws IOException {
+        if (next < interceptors.length) {
+            return interceptors[next++].aroundReadFrom(this);
+        }
+        return inputStream;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return inputStream;
+    }
+
+    @Override
+    public void setInputStream(InputStream is) {
+        this.inputStream = Objects.requireNonNull(is, "is");
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getHeaders() {
+        return requestContext.getHeaders();
+    }
+
+    @Override
+    String contentType() {
+        return requestContext.getHeaderString("Content-Type");
+    }
+}
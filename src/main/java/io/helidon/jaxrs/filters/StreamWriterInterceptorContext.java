@@ -0,0 +1,89 @@
+package io.helidon.jaxrs.filters;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * Runs writer interceptors over the response entity stream.
+ *
+ * <p>The handler writes the entity as bytes, so there is no entity object and no message body
+ * writer. The chain runs once per request, before the first entity byte: interceptors wrap the
+ * stream with {@link #setOutputStream(OutputStream)} and call {@link #proceed()}, and the end of
+ * the chain returns immediately. The handler then writes through the wrapped stream. Work an
+ * interceptor does after {@code proceed()} therefore happens before the body is written;
+ * finishing a wrapping stream (a compression trailer, for example) belongs in its
+ * {@code close()}, which runs when the handler completes the entity.
+ */
+final class StreamWriterInterceptorContext extends StreamInterceptorContext implements WriterInterceptorContext {
+
+    private final WriterInterceptor[] interceptors;
+    private final MultivaluedMap<String, Object> headers;
+    private OutputStream outputStream;
+    private Object entity;
+    private int next;
+
+    StreamWriterInterceptorContext(WriterInterceptor[] interceptors,
+                                   ContainerRequestContext requestContext,
+                                   MultivaluedMap<String, Object> headers,
+                                   OutputStream outputStream) {
+        super(requestContext, Object.class);
+        this.interceptors = interceptors;
+        this.headers = headers;
+        this.outputStream = outputStream;
+    }
+
+    /**
+     * Run the interceptors and return the stream the entity is written to.
+     *
+     * @return entity stream wrapped by the interceptors
+     * @throws IOException if an interceptor fails
+     */
+    OutputStream run() throws IOException {
+        proceed();
+        return outputStream;
+    }
+
+    @Override
+    public void proceed() throws IOException {
+        if (next < interceptors.length) {
+            interceptors[next++].aroundWriteTo(this);
+        }
+    }
+
+    @Override
+    public Object getEntity() {
+        return entity;
+    }
+
+    @Override
+    public void setEntity(Object entity) {
+        this.entity = entity;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    @Override
+    public void setOutputStream(OutputStream os) {
+        this.outputStream = Objects.requireNonNull(os, "os");
+    }
+
+    @Override
+    public MultivaluedMap<String, Object> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    String contentType() {
+        Object contentType = headers.getFirst("Content-Type");
+        return contentType != null ? contentType.toString() : null;
+    }
+}
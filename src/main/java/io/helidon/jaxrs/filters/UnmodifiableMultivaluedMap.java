@@ -0,0 +1,132 @@
+package io.helidon.jaxrs.filters;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable {@link MultivaluedMap}, for values computed once per request and handed to any
+ * number of filters. Every mutator throws {@link UnsupportedOperationException}.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class UnmodifiableMultivaluedMap<K, V> extends AbstractMap<K, List<V>> implements MultivaluedMap<K, V> {
+
+    private static final UnmodifiableMultivaluedMap<?, ?> EMPTY = new UnmodifiableMultivaluedMap<>(Map.of());
+
+    private final Map<K, List<V>> map;
+
+    private UnmodifiableMultivaluedMap(Map<K, List<V>> map) {
+        this.map = map;
+    }
+
+    /**
+     * An empty map.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     * @return shared empty map
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> UnmodifiableMultivaluedMap<K, V> empty() {
+        return (UnmodifiableMultivaluedMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Copy a map, keeping its iteration order; the value lists are copied to immutable lists.
+     *
+     * @param values keys and their values
+     * @param <K> key type
+     * @param <V> value type
+     * @return immutable copy
+     */
+    static <K, V> UnmodifiableMultivaluedMap<K, V> copyOf(Map<K, ? extends List<V>> values) {
+        if (values.isEmpty()) {
+            return empty();
+        }
+        Map<K, List<V>> copy = new LinkedHashMap<>(values.size() * 2);
+        values.forEach((key, list) -> copy.put(key, List.copyOf(list)));
+        return new UnmodifiableMultivaluedMap<>(Collections.unmodifiableMap(copy));
+    }
+
+    @Override
+    public Set<Entry<K, List<V>>> entrySet() {
+        return map.entrySet();
+    }
+
+    @Override
+    public List<V> get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public V getFirst(K key) {
+        List<V> values = map.get(key);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public boolean equalsIgnoreValueOrder(MultivaluedMap<K, V> other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || !keySet().equals(other.keySet())) {
+            return false;
+        }
+        for (Entry<K, List<V>> entry : map.entrySet()) {
+            List<V> otherValues = other.get(entry.getKey());
+            if (otherValues == null || entry.getValue().size() != otherValues.size()
+                    || !new HashSet<>(entry.getValue()).equals(new HashSet<>(otherValues))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void putSingle(K key, V value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void add(K key, V value) {
+        throw unsupported();
+    }
+
+    @SafeVarargs
+    @Override
+    public final void addAll(K key, V... newValues) {
+        throw unsupported();
+    }
+
+    @Override
+    public void addAll(K key, List<V> valueList) {
+        throw unsupported();
+    }
+
+    @Override
+    public void addFirst(K key, V value) {
+        throw unsupported();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Map is read-only");
+    }
+}
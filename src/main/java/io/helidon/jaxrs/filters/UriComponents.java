@@ -0,0 +1,146 @@
+package io.helidon.jaxrs.filters;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Percent-decoding and encoding of URI components, and query string parsing.
+ *
+ * <p>Values without escapes are returned as they are, so decoding the common plain path or
+ * query costs one scan. Malformed escapes are kept literally rather than rejected, as filters
+ * only read these values.
+ */
+final class UriComponents {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private UriComponents() {
+    }
+
+    /**
+     * Decode percent-escaped UTF-8 octets.
+     *
+     * @param value raw component
+     * @param plusAsSpace whether {@code +} means a space, as in form-encoded query strings
+     * @return decoded component
+     */
+    static String decode(String value, boolean plusAsSpace) {
+        if (value.indexOf('%') < 0 && (!plusAsSpace || value.indexOf('+') < 0)) {
+            return value;
+        }
+        int length = value.length();
+        StringBuilder decoded = new StringBuilder(length);
+        int i = 0;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (c == '%') {
+                // A run of escapes is one UTF-8 sequence as far as decoding goes
+                byte[] bytes = new byte[(length - i) / 3];
+                int count = 0;
+                while (i + 2 < length && value.charAt(i) == '%') {
+                    int high = Character.digit(value.charAt(i + 1), 16);
+                    int low = Character.digit(value.charAt(i + 2), 16);
+                    if (high < 0 || low < 0) {
+                        break;
+                    }
+                    bytes[count++] = (byte) ((high << 4) + low);
+                    i += 3;
+                }
+                if (count == 0) {
+                    decoded.append(c);
+                    i++;
+                } else {
+                    decoded.append(new String(bytes, 0, count, StandardCharsets.UTF_8));
+                }
+            } else {
+                decoded.append(plusAsSpace && c == '+' ? ' ' : c);
+                i++;
+            }
+        }
+        return decoded.toString();
+    }
+
+    /**
+     * Percent-encode a value for use as a single path segment.
+     *
+     * @param value decoded value
+     * @return value with {@code ;}, {@code /} and every other character outside {@code pchar}
+     *         percent-encoded
+     */
+    static String encodePathSegment(String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length && isSegmentChar(value.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return value;
+        }
+        StringBuilder encoded = new StringBuilder(length + 16).append(value, 0, i);
+        for (byte b : value.substring(i).getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xff);
+            if (isSegmentChar(c)) {
+                encoded.append(c);
+            } else {
+                encoded.append('%').append(HEX[(b >> 4) & 0xf]).append(HEX[b & 0xf]);
+            }
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * Parse a raw query string into its parameters, in query order.
+     *
+     * @param rawQuery query without the leading {@code ?}, may be {@code null}
+     * @param decode whether to decode names and values
+     * @return immutable parameters
+     */
+    static MultivaluedMap<String, String> parseQuery(String rawQuery, boolean decode) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return UnmodifiableMultivaluedMap.empty();
+        }
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        int length = rawQuery.length();
+        int start = 0;
+        while (start < length) {
+            int end = rawQuery.indexOf('&', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                int equals = rawQuery.indexOf('=', start);
+                String name;
+                String value;
+                if (equals >= 0 && equals < end) {
+                    name = rawQuery.substring(start, equals);
+                    value = rawQuery.substring(equals + 1, end);
+                } else {
+                    name = rawQuery.substring(start, end);
+                    value = "";
+                }
+                if (decode) {
+                    name = decode(name, true);
+                    value = decode(value, true);
+                }
+                params.computeIfAbsent(name, key -> new ArrayList<>(1)).add(value);
+            }
+            start = end + 1;
+        }
+        return UnmodifiableMultivaluedMap.copyOf(params);
+    }
+
+    private static boolean isSegmentChar(char c) {
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+            return true;
+        }
+        return switch (c) {
+            case '-', '.', '_', '~', '!', '$', '&', '\'', '(', ')', '*', '+', ',', '=', ':', '@' -> true;
+            default -> false;
+        };
+    }
+}
@@ -1,6 +1,5 @@
 package io.helidon.jaxrs.filters;
 
-import io.helidon.common.context.Contexts;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.PathSegment;
 import jakarta.ws.rs.core.UriBuilder;
@@ -28,10 +27,8 @@ public class UriInfoProxy implements UriInfo {
     }
 
     private UriInfo delegate() {
-        return Contexts.context()
-                .flatMap(ctx -> ctx.get(UriInfo.class, UriInfo.class))
-                .orElseThrow(() -> new IllegalStateException(
-                        "UriInfo not available - ensure JaxRsContextFilter is registered"));
+        return RequestScope.resolve(UriInfo.class, RequestScope::uriInfo,
+                "UriInfo not available - ensure JaxRsContextFilter is registered");
     }
 
     @Override
@@ -0,0 +1,162 @@
+package io.helidon.jaxrs.filters.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Resolves the {@code @Context} fields of a filter type the same way
+ * {@code FilterContext} does at runtime: for each supported context type, the first
+ * annotated field assignable to it, searching the class and then its superclasses.
+ */
+final class ContextFields {
+
+    static final String CONTEXT = "jakarta.ws.rs.core.Context";
+
+    // Supported context types and the proxy assigned to them
+    static final Map<String, String> PROXIES = new LinkedHashMap<>();
+
+    static {
+        PROXIES.put("jakarta.ws.rs.core.UriInfo", "io.helidon.jaxrs.filters.UriInfoProxy.INSTANCE");
+        PROXIES.put("jakarta.ws.rs.core.HttpHeaders", "io.helidon.jaxrs.filters.HttpHeadersProxy.INSTANCE");
+        PROXIES.put("jakarta.ws.rs.core.SecurityContext", "io.helidon.jaxrs.filters.SecurityContextProxy.INSTANCE");
+        PROXIES.put("jakarta.ws.rs.container.ResourceInfo", "io.helidon.jaxrs.filters.ResourceInfoProxy.INSTANCE");
+    }
+
+    private ContextFields() {
+    }
+
+    /**
+     * Resolve the fields of a type.
+     *
+     * @param env processing environment
+     * @param type filter type
+     * @return resolved fields, never null
+     */
+    static Resolution resolve(ProcessingEnvironment env, TypeElement type) {
+        Elements elements = env.getElementUtils();
+        Types types = env.getTypeUtils();
+
+        Map<String, VariableElement> fields = new LinkedHashMap<>();
+        for (String contextType : PROXIES.keySet()) {
+            TypeElement contextElement = elements.getTypeElement(contextType);
+            if (contextElement == null) {
+                continue;
+            }
+            TypeMirror contextMirror = types.erasure(contextElement.asType());
+            VariableElement field = findField(types, type, contextMirror);
+            if (field != null) {
+                fields.put(contextType, field);
+            }
+        }
+
+        boolean injectable = accessible(type);
+        PackageElement targetPackage = elements.getPackageOf(type);
+        for (Map.Entry<String, VariableElement> entry : fields.entrySet()) {
+            VariableElement field = entry.getValue();
+            TypeElement declaring = (TypeElement) field.getEnclosingElement();
+            TypeMirror contextMirror = types.erasure(elements.getTypeElement(entry.getKey()).asType());
+            if (!types.isSameType(types.erasure(field.asType()), contextMirror)
+                    || field.getModifiers().contains(Modifier.PRIVATE)
+                    || field.getModifiers().contains(Modifier.FINAL)
+                    || field.getModifiers().contains(Modifier.STATIC)) {
+                injectable = false;
+            } else if (!elements.getPackageOf(declaring).equals(targetPackage)
+                    && !(field.getModifiers().contains(Modifier.PUBLIC)
+                         && declaring.getModifiers().contains(Modifier.PUBLIC))) {
+                injectable = false;
+            } else if (!declaring.equals(type) && !accessible(declaring)) {
+                injectable = false;
+            }
+        }
+        return new Resolution(type, fields, injectable);
+    }
+
+    /**
+     * Name of the injector class generated for a type, without the package.
+     *
+     * @param elements element utilities
+     * @param type filter type
+     * @return simple name of the injector class
+     */
+    static String injectorSimpleName(Elements elements, TypeElement type) {
+        String binaryName = elements.getBinaryName(type).toString();
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String simpleName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        return simpleName.replace('$', '_') + "__ContextInjector";
+    }
+
+    private static VariableElement findField(Types types, TypeElement type, TypeMirror contextType) {
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (hasContext(field) && types.isAssignable(types.erasure(field.asType()), contextType)) {
+                    return field;
+                }
+            }
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) ((DeclaredType) superclass).asElement()
+                    : null;
+        }
+        return null;
+    }
+
+    private static boolean hasContext(VariableElement field) {
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(CONTEXT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether generated code in the type's package can name the type.
+     *
+     * @param type filter type
+     * @return {@code true} for classes that are neither private nor local
+     */
+    static boolean accessible(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS) {
+            return false;
+        }
+        Element current = type;
+        while (current instanceof TypeElement typeElement) {
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            NestingKind nesting = typeElement.getNestingKind();
+            if (nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            current = typeElement.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * Context fields of a filter type.
+     *
+     * @param type the filter type
+     * @param fields first matching field per supported context type, in {@link #PROXIES} order
+     * @param injectable whether generated code in the type's package can assign all the fields
+     */
+    record Resolution(TypeElement type, Map<String, VariableElement> fields, boolean injectable) {
+    }
+}
@@ -0,0 +1,268 @@
+package io.helidon.jaxrs.filters.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor that generates a {@code ContextInjector} per JAX-RS filter or interceptor class.
+ *
+ * <p>For every filter class compiled in the module whose hierarchy has {@code @Context} fields of
+ * type {@code UriInfo}, {@code HttpHeaders}, {@code SecurityContext} or {@code ResourceInfo},
+ * an injector is written to the filter's package. It assigns the proxy singletons directly,
+ * so {@code FilterContext} needs no {@code setAccessible} or {@code Field.set} for that filter.
+ *
+ * <p>Generated code can only assign fields it can access: non-private, non-final fields declared
+ * in the filter's package, or public fields of public classes. Filters with other
+ * {@code @Context} fields get no injector and keep using reflective injection.
+ *
+ * <p>The injectors of each package are listed in a generated {@code JaxRsContextInjectors}
+ * {@code ContextInjectorRegistry}, together with a no-op injector for every filter without
+ * {@code @Context} fields, and the registries are registered in
+ * {@code META-INF/services/io.helidon.jaxrs.filters.ContextInjectorRegistry}.
+ */
+@SupportedAnnotationTypes("*")
+public class ContextInjectorProcessor extends AbstractProcessor {
+
+    private static final List<String> FILTER_TYPES = List.of(
+            FilterRegistryProcessor.REQUEST_FILTER,
+            FilterRegistryProcessor.RESPONSE_FILTER,
+            FilterRegistryProcessor.READER_INTERCEPTOR,
+            FilterRegistryProcessor.WRITER_INTERCEPTOR);
+
+    private static final String REGISTRY_CLASS = "JaxRsContextInjectors";
+    private static final String REGISTRY_SERVICE = "io.helidon.jaxrs.filters.ContextInjectorRegistry";
+
+    private final Set<String> generated = new HashSet<>();
+    private final Set<String> registries = new TreeSet<>();
+
+    /**
+     * Create a new processor instance. Invoked by the compiler.
+     */
+    public ContextInjectorProcessor() {
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!registries.isEmpty()) {
+                try {
+                    writeService();
+                } catch (IOException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            "Failed to register context injectors: " + e.getMessage());
+                }
+            }
+            return false;
+        }
+        Elements elements = processingEnv.getElementUtils();
+        Types types = processingEnv.getTypeUtils();
+
+        List<TypeMirror> filterTypes = new ArrayList<>();
+        for (String filterType : FILTER_TYPES) {
+            TypeElement element = elements.getTypeElement(filterType);
+            if (element != null) {
+                filterTypes.add(types.erasure(element.asType()));
+            }
+        }
+        if (filterTypes.isEmpty()) {
+            return false;
+        }
+
+        // Registry entries per package: filter class name to injector expression
+        Map<String, Map<String, String>> entries = new TreeMap<>();
+        for (TypeElement type : types(roundEnv.getRootElements())) {
+            if (!isFilter(types, type, filterTypes) || !ContextFields.accessible(type)) {
+                continue;
+            }
+            String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+            String typeName = type.getQualifiedName().toString();
+            ContextFields.Resolution resolution = ContextFields.resolve(processingEnv, type);
+            if (resolution.fields().isEmpty()) {
+                // Nothing to inject, and no reflective field scan either
+                entries.computeIfAbsent(packageName, it -> new TreeMap<>()).put(typeName, "NONE");
+                continue;
+            }
+            if (!resolution.injectable()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "@Context fields of " + typeName + " are not accessible from generated code,"
+                                + " reflective injection will be used", type);
+                continue;
+            }
+            try {
+                String injectorName = writeInjector(resolution);
+                entries.computeIfAbsent(packageName, it -> new TreeMap<>())
+                        .put(typeName, "new " + injectorName + "()");
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to generate context injector for " + typeName + ": " + e.getMessage(), type);
+            }
+        }
+        for (Map.Entry<String, Map<String, String>> entry : entries.entrySet()) {
+            String packageName = entry.getKey();
+            String registryName = packageName.isEmpty() ? REGISTRY_CLASS : packageName + "." + REGISTRY_CLASS;
+            if (registries.contains(registryName)) {
+                // A package gets one registry; filters generated into it in later rounds use reflection
+                continue;
+            }
+            try {
+                writeRegistry(packageName, registryName, entry.getValue());
+                registries.add(registryName);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to generate context injector registry " + registryName + ": " + e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private static List<TypeElement> types(Set<? extends Element> roots) {
+        List<TypeElement> result = new ArrayList<>();
+        for (TypeElement type : ElementFilter.typesIn(roots)) {
+            collect(type, result);
+        }
+        return result;
+    }
+
+    private static void collect(TypeElement type, List<TypeElement> result) {
+        result.add(type);
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            collect(nested, result);
+        }
+    }
+
+    private static boolean isFilter(Types types, TypeElement type, List<TypeMirror> filterTypes) {
+        for (TypeMirror filterType : filterTypes) {
+            if (types.isAssignable(types.erasure(type.asType()), filterType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String writeInjector(ContextFields.Resolution resolution) throws IOException {
+        Elements elements = processingEnv.getElementUtils();
+        TypeElement type = resolution.type();
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String injectorName = ContextFields.injectorSimpleName(elements, type);
+        String qualifiedName = packageName.isEmpty() ? injectorName : packageName + "." + injectorName;
+        if (!generated.add(qualifiedName)) {
+            return qualifiedName;
+        }
+        String typeName = type.getQualifiedName().toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * Assigns {@code @Context} proxies to {@link ").append(typeName).append("} fields.\n")
+                .append(" */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(injectorName)
+                .append(" implements io.helidon.jaxrs.filters.ContextInjector<").append(typeName).append("> {\n\n")
+                .append("    /**\n")
+                .append("     * Create the injector.\n")
+                .append("     */\n")
+                .append("    public ").append(injectorName).append("() {\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void inject(").append(typeName).append(" instance) {\n");
+        for (Map.Entry<String, VariableElement> entry : resolution.fields().entrySet()) {
+            VariableElement field = entry.getValue();
+            TypeElement declaring = (TypeElement) field.getEnclosingElement();
+            // Cast to the declaring class so a hiding field in a subclass is not assigned instead
+            String target = declaring.equals(type)
+                    ? "instance"
+                    : "((" + declaring.getQualifiedName() + ") instance)";
+            source.append("        ").append(target).append(".").append(field.getSimpleName())
+                    .append(" = ").append(ContextFields.PROXIES.get(entry.getKey())).append(";\n");
+        }
+        source.append("    }\n")
+                .append("}\n");
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(source.toString());
+        }
+        return qualifiedName;
+    }
+
+    private void writeRegistry(String packageName, String registryName, Map<String, String> injectors)
+            throws IOException {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import io.helidon.jaxrs.filters.ContextInjector;\n")
+                .append("import io.helidon.jaxrs.filters.ContextInjectorRegistry;\n\n")
+                .append("import java.util.Map;\n\n")
+                .append("/**\n")
+                .append(" * Context injectors of the JAX-RS filters in this package.\n")
+                .append(" */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(REGISTRY_CLASS)
+                .append(" implements ContextInjectorRegistry {\n\n")
+                .append("    private static final ContextInjector<Object> NONE = instance -> { };\n\n")
+                .append("    /**\n")
+                .append("     * Create the registry.\n")
+                .append("     */\n")
+                .append("    public ").append(REGISTRY_CLASS).append("() {\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public Map<Class<?>, ContextInjector<?>> injectors() {\n")
+                .append("        return Map.ofEntries(");
+        boolean first = true;
+        for (Map.Entry<String, String> entry : injectors.entrySet()) {
+            source.append(first ? "\n" : ",\n")
+                    .append("                Map.entry(").append(entry.getKey()).append(".class, ")
+                    .append(entry.getValue()).append(")");
+            first = false;
+        }
+        source.append(");\n")
+                .append("    }\n")
+                .append("}\n");
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(registryName);
+        try (Writer out = file.openWriter()) {
+            out.write(source.toString());
+        }
+    }
+
+    private void writeService() throws IOException {
+        FileObject file = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + REGISTRY_SERVICE);
+        try (Writer out = file.openWriter()) {
+            for (String registry : registries) {
+                out.write(registry);
+                out.write('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package io.helidon.jaxrs.filters.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor that generates a {@code FilterRegistry} at build time.
+ *
+ * <p>The processor reads the {@code META-INF/services} entries for
+ * {@code ContainerRequestFilter}, {@code ContainerResponseFilter}, {@code ReaderInterceptor}
+ * and {@code WriterInterceptor} from the class output
+ * (build tools copy resources there before compiling), resolves {@code @Priority},
+ * {@code @PreMatching} and {@code @NameBinding} on each provider, and writes a
+ * {@code JaxRsFilterRegistry} with the chains already sorted the same way
+ * {@code JaxRsFilterSupport} sorts them at runtime. The registry is generated in the package of
+ * the provider whose name sorts first, so registries of different modules do not clash, and is
+ * registered in {@code META-INF/services/io.helidon.jaxrs.filters.FilterRegistry}.
+ *
+ * <p>No registry is generated if there are no service entries, or if any provider cannot be
+ * instantiated from generated code (missing public no-arg constructor or {@code provider()}
+ * method, non-public or inner class). Runtime service discovery is used in that case.
+ */
+@SupportedAnnotationTypes("*")
+public class FilterRegistryProcessor extends AbstractProcessor {
+
+    static final String REQUEST_FILTER = "jakarta.ws.rs.container.ContainerRequestFilter";
+    static final String RESPONSE_FILTER = "jakarta.ws.rs.container.ContainerResponseFilter";
+    static final String READER_INTERCEPTOR = "jakarta.ws.rs.ext.ReaderInterceptor";
+    static final String WRITER_INTERCEPTOR = "jakarta.ws.rs.ext.WriterInterceptor";
+
+    private static final String PRIORITY = "jakarta.annotation.Priority";
+    private static final String PRE_MATCHING = "jakarta.ws.rs.container.PreMatching";
+    private static final String NAME_BINDING = "jakarta.ws.rs.NameBinding";
+    private static final int DEFAULT_PRIORITY = 5000;
+
+    private static final String REGISTRY_SERVICE = "io.helidon.jaxrs.filters.FilterRegistry";
+    private static final String REGISTRY_CLASS = "JaxRsFilterRegistry";
+
+    private boolean done;
+
+    /**
+     * Create a new processor instance. Invoked by the compiler.
+     */
+    public FilterRegistryProcessor() {
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (done || roundEnv.processingOver()) {
+            return false;
+        }
+        done = true;
+
+        Elements elements = processingEnv.getElementUtils();
+        if (elements.getTypeElement(REQUEST_FILTER) == null || elements.getTypeElement(RESPONSE_FILTER) == null) {
+            return false;
+        }
+
+        Set<String> classNames = new LinkedHashSet<>();
+        classNames.addAll(serviceEntries(REQUEST_FILTER));
+        classNames.addAll(serviceEntries(RESPONSE_FILTER));
+        classNames.addAll(serviceEntries(READER_INTERCEPTOR));
+        classNames.addAll(serviceEntries(WRITER_INTERCEPTOR));
+        if (classNames.isEmpty()) {
+            return false;
+        }
+
+        List<Provider> providers = new ArrayList<>();
+        for (String className : classNames) {
+            Provider provider = provider(className);
+            if (provider == null) {
+                return false;
+            }
+            providers.add(provider);
+        }
+
+        String packageName = providers.stream()
+                .min(Comparator.comparing(Provider::typeName))
+                .orElseThrow()
+                .packageName();
+        String registryName = packageName.isEmpty() ? REGISTRY_CLASS : packageName + "." + REGISTRY_CLASS;
+        try {
+            writeRegistry(packageName, providers);
+            writeService(registryName);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate " + registryName + ": " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Read provider class names from a service file in the class output.
+     */
+    private List<String> serviceEntries(String service) {
+        List<String> entries = new ArrayList<>();
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject resource = filer.getResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + service);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int comment = line.indexOf('#');
+                    if (comment >= 0) {
+                        line = line.substring(0, comment);
+                    }
+                    line = line.trim();
+                    if (!line.isEmpty()) {
+                        entries.add(line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // No such service file in this module
+        }
+        return entries;
+    }
+
+    private Provider provider(String className) {
+        Elements elements = processingEnv.getElementUtils();
+        Types types = processingEnv.getTypeUtils();
+
+        TypeElement type = elements.getTypeElement(className.replace('$', '.'));
+        if (type == null) {
+            skip("provider class " + className + " not found");
+            return null;
+        }
+        if (!accessible(type)) {
+            skip(className + " is not a public top-level or public static nested class");
+            return null;
+        }
+        String factory = factory(type);
+        if (factory == null) {
+            skip(className + " has no public no-arg constructor or public static provider() method");
+            return null;
+        }
+
+        TypeMirror requestFilter = types.erasure(elements.getTypeElement(REQUEST_FILTER).asType());
+        TypeMirror responseFilter = types.erasure(elements.getTypeElement(RESPONSE_FILTER).asType());
+        boolean isRequest = types.isAssignable(type.asType(), requestFilter);
+        boolean isResponse = types.isAssignable(type.asType(), responseFilter);
+        boolean isReader = isAssignable(type, READER_INTERCEPTOR);
+        boolean isWriter = isAssignable(type, WRITER_INTERCEPTOR);
+
+        int priority = DEFAULT_PRIORITY;
+        boolean preMatching = false;
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            String name = annotationName(annotation);
+            if (PRIORITY.equals(name)) {
+                priority = priorityValue(annotation);
+            } else if (PRE_MATCHING.equals(name)) {
+                preMatching = true;
+            }
+        }
+
+        // Runtime uses Class.getAnnotations(), which includes @Inherited annotations
+        Set<String> bindings = new TreeSet<>();
+        for (AnnotationMirror annotation : elements.getAllAnnotationMirrors(type)) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            for (AnnotationMirror meta : annotationType.getAnnotationMirrors()) {
+                if (NAME_BINDING.equals(annotationName(meta))) {
+                    bindings.add(elements.getBinaryName(annotationType).toString());
+                }
+            }
+        }
+
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        return new Provider(type.getQualifiedName().toString(), packageName, factory, priority, bindings,
+                isRequest, isResponse, isReader, isWriter, preMatching);
+    }
+
+    private boolean isAssignable(TypeElement type, String interfaceName) {
+        TypeElement target = processingEnv.getElementUtils().getTypeElement(interfaceName);
+        if (target == null) {
+            return false;
+        }
+        Types types = processingEnv.getTypeUtils();
+        return types.isAssignable(type.asType(), types.erasure(target.asType()));
+    }
+
+    private boolean accessible(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        Element current = type;
+        while (current instanceof TypeElement typeElement) {
+            if (!typeElement.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            if (typeElement.getNestingKind() == NestingKind.MEMBER) {
+                if (!typeElement.getModifiers().contains(Modifier.STATIC)) {
+                    return false;
+                }
+            } else if (typeElement.getNestingKind() != NestingKind.TOP_LEVEL) {
+                return false;
+            }
+            current = typeElement.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * Expression creating the provider, mirroring {@link java.util.ServiceLoader} rules:
+     * a public static {@code provider()} method wins over the public no-arg constructor.
+     */
+    private String factory(TypeElement type) {
+        String typeName = type.getQualifiedName().toString();
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals("provider")
+                    && method.getParameters().isEmpty()
+                    && method.getModifiers().containsAll(Set.of(Modifier.PUBLIC, Modifier.STATIC))) {
+                return typeName + ".provider()";
+            }
+        }
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return "new " + typeName + "()";
+            }
+        }
+        return null;
+    }
+
+    private int priorityValue(AnnotationMirror annotation) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                return (Integer) entry.getValue().getValue();
+            }
+        }
+        return DEFAULT_PRIORITY;
+    }
+
+    private static String annotationName(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private void skip(String reason) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "JAX-RS filter registry not generated, runtime discovery will be used: " + reason);
+    }
+
+    private void writeRegistry(String packageName, List<Provider> providers) throws IOException {
+        // Stable sorts, same as JaxRsFilterSupport
+        List<Provider> preMatching = new ArrayList<>();
+        List<Provider> request = new ArrayList<>();
+        List<Provider> response = new ArrayList<>();
+        List<Provider> reader = new ArrayList<>();
+        List<Provider> writer = new ArrayList<>();
+        for (Provider provider : providers) {
+            if (provider.request()) {
+                (provider.preMatching() ? preMatching : request).add(provider);
+            }
+            if (provider.response()) {
+                response.add(provider);
+            }
+            if (provider.reader()) {
+                reader.add(provider);
+            }
+            if (provider.writer()) {
+                writer.add(provider);
+            }
+        }
+        preMatching.sort(Comparator.comparingInt(Provider::priority));
+        request.sort(Comparator.comparingInt(Provider::priority));
+        response.sort(Comparator.comparingInt(Provider::priority).reversed());
+        reader.sort(Comparator.comparingInt(Provider::priority));
+        writer.sort(Comparator.comparingInt(Provider::priority));
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import io.helidon.jaxrs.filters.FilterRegistry;\n")
+                .append("import jakarta.ws.rs.container.ContainerRequestFilter;\n")
+                .append("import jakarta.ws.rs.container.ContainerResponseFilter;\n")
+                .append("import jakarta.ws.rs.ext.ReaderInterceptor;\n")
+                .append("import jakarta.ws.rs.ext.WriterInterceptor;\n\n")
+                .append("import java.util.List;\n")
+                .append("import java.util.Set;\n\n")
+                .append("/**\n")
+                .append(" * JAX-RS filter registry generated from META-INF/services entries.\n")
+                .append(" */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(REGISTRY_CLASS).append(" implements FilterRegistry {\n\n")
+                .append("    /**\n")
+                .append("     * Create the registry.\n")
+                .append("     */\n")
+                .append("    public ").append(REGISTRY_CLASS).append("() {\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public Chains chains() {\n");
+        for (int i = 0; i < providers.size(); i++) {
+            Provider provider = providers.get(i);
+            source.append("        ").append(provider.typeName()).append(" provider").append(i)
+                    .append(" = ").append(provider.factory()).append(";\n");
+        }
+        source.append("        return new Chains(\n");
+        appendChain(source, providers, preMatching, "ContainerRequestFilter");
+        source.append(",\n");
+        appendChain(source, providers, request, "ContainerRequestFilter");
+        source.append(",\n");
+        appendChain(source, providers, response, "ContainerResponseFilter");
+        source.append(",\n");
+        appendChain(source, providers, reader, "ReaderInterceptor");
+        source.append(",\n");
+        appendChain(source, providers, writer, "WriterInterceptor");
+        source.append(");\n")
+                .append("    }\n")
+                .append("}\n");
+
+        String registryName = packageName.isEmpty() ? REGISTRY_CLASS : packageName + "." + REGISTRY_CLASS;
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(registryName);
+        try (Writer out = file.openWriter()) {
+            out.write(source.toString());
+        }
+    }
+
+    private void writeService(String registryName) throws IOException {
+        FileObject file = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + REGISTRY_SERVICE);
+        try (Writer out = file.openWriter()) {
+            out.write(registryName);
+            out.write('\n');
+        }
+    }
+
+    private void appendChain(StringBuilder source, List<Provider> providers, List<Provider> chain, String type) {
+        if (chain.isEmpty()) {
+            source.append("                List.of()");
+            return;
+        }
+        source.append("                List.of(");
+        for (int i = 0; i < chain.size(); i++) {
+            Provider provider = chain.get(i);
+            source.append(i == 0 ? "\n" : ",\n")
+                    .append("                        new Entry<").append(type).append(">(provider")
+                    .append(providers.indexOf(provider)).append(", ")
+                    .append(provider.priority()).append(", ")
+                    .append(bindings(provider.bindings())).append(")");
+        }
+        source.append(")");
+    }
+
+    private static String bindings(Set<String> bindings) {
+        StringBuilder result = new StringBuilder("Set.of(");
+        boolean first = true;
+        for (String binding : bindings) {
+            if (!first) {
+                result.append(", ");
+            }
+            result.append('"').append(binding).append('"');
+            first = false;
+        }
+        return result.append(')').toString();
+    }
+
+    private record Provider(String typeName, String packageName, String factory, int priority, Set<String> bindings,
+                            boolean request, boolean response, boolean reader, boolean writer,
+                            boolean preMatching) {
+    }
+}
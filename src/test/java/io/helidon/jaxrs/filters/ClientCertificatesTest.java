@@ -0,0 +1,80 @@
+package io.helidon.jaxrs.filters;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Tests for {@link ClientCertificates}, with static certificates from {@code certs/} in the test
+ * resources.
+ */
+class ClientCertificatesTest {
+
+    private static final String ORDERS = "CN=orders,OU=Payments,O=Example\\, Inc.,C=US";
+    private static final String SPIFFE_ID = "spiffe://example.com/ns/payments/sa/orders";
+
+    @Test
+    void testIdentity() throws Exception {
+        X509Certificate certificate = certificate("client.pem");
+
+        Authenticator.Authenticated authenticated = new ClientCertificates().authenticate("1", certificate);
+
+        assertThat(authenticated.identity().getName(), is(ORDERS));
+        // rfc822Name, dNSName and uniformResourceIdentifier; the iPAddress entry is not a role
+        assertThat(authenticated.identity().roles(),
+                   is(Set.of("orders@example.com", "orders.example.com", SPIFFE_ID)));
+        assertThat(authenticated.roles().contains(SPIFFE_ID), is(true));
+        assertThat(authenticated.roles().contains("10.0.0.1"), is(false));
+    }
+
+    @Test
+    void testNoSubjectAlternativeNames() throws Exception {
+        Authenticator.Authenticated authenticated = new ClientCertificates()
+                .authenticate("1", certificate("other-client.pem"));
+
+        assertThat(authenticated.identity().getName(), is("CN=billing,O=Example"));
+        assertThat(authenticated.identity().roles(), is(Set.of()));
+    }
+
+    @Test
+    void testCachedPerConnection() throws Exception {
+        ClientCertificates certificates = new ClientCertificates();
+        X509Certificate certificate = certificate("client.pem");
+
+        Authenticator.Authenticated first = certificates.authenticate("1", certificate);
+
+        assertThat(certificates.authenticate("1", certificate), sameInstance(first));
+        Authenticator.Authenticated other = certificates.authenticate("2", certificate);
+        assertThat(other, not(sameInstance(first)));
+        assertThat(other.identity().getName(), is(ORDERS));
+    }
+
+    @Test
+    void testOtherCertificateOnConnection() throws Exception {
+        ClientCertificates certificates = new ClientCertificates();
+        Authenticator.Authenticated first = certificates.authenticate("1", certificate("client.pem"));
+
+        // A reused connection ID or a renegotiated session presents another certificate
+        Authenticator.Authenticated second = certificates.authenticate("1", certificate("other-client.pem"));
+
+        assertThat(second, not(sameInstance(first)));
+        assertThat(second.identity().getName(), is("CN=billing,O=Example"));
+        assertThat(second.roles().contains(SPIFFE_ID), is(false));
+    }
+
+    private static X509Certificate certificate(String name) throws IOException, CertificateException {
+        try (InputStream in = ClientCertificatesTest.class.getResourceAsStream("/certs/" + name)) {
+            return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(in);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package io.helidon.jaxrs.filters;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.http.WritableHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link RequestHeadersMap}, the overlay view of request headers.
+ */
+class RequestHeadersMapTest {
+
+    @Test
+    void testCaseInsensitiveLookup() {
+        WritableHeaders<?> helidon = WritableHeaders.create();
+        helidon.add(HeaderNames.create("X-Request"), "a", "b");
+        RequestHeadersMap headers = new RequestHeadersMap(helidon);
+
+        assertThat(headers.get("x-request"), is(List.of("a", "b")));
+        assertThat(headers.getFirst("X-REQUEST"), is("a"));
+        assertThat(headers.containsKey("x-Request"), is(true));
+        assertThat(headers.get("X-Missing"), is(nullValue()));
+        assertThat(headers.getFirst("X-Missing"), is(nullValue()));
+        assertThat(headers.modified(), is(false));
+
+        headers.add("x-added", "1");
+        assertThat(headers.get("X-ADDED"), is(List.of("1")));
+        assertThat(headers.containsKey("X-Added"), is(true));
+    }
+
+    @Test
+    void testHeaderNamesCached() {
+        assertThat(HeaderNameCache.of("X-Request-Id"), sameInstance(HeaderNameCache.of("X-Request-Id")));
+        assertThat(HeaderNameCache.of("traceparent"), sameInstance(HeaderNameCache.of("traceparent")));
+        // Other spellings are cached separately but name the same header
+        assertThat(HeaderNameCache.of("x-request-id"), is(HeaderNameCache.of("X-Request-Id")));
+        assertThat(HeaderNameCache.of("Accept"), is(HeaderNames.ACCEPT));
+    }
+
+    @Test
+    void testChangesStayInOverlay() {
+        WritableHeaders<?> helidon = WritableHeaders.create();
+        helidon.add(HeaderNames.create("X-Existing"), "from-client");
+        RequestHeadersMap headers = new RequestHeadersMap(helidon);
+
+        headers.add("x-existing", "from-filter");
+        headers.putSingle("X-New", "value");
+        headers.addFirst("X-New", "first");
+
+        assertThat(headers.get("X-Existing"), is(List.of("from-client", "from-filter")));
+        assertThat(headers.get("X-New"), is(List.of("first", "value")));
+        assertThat(headers.size(), is(2));
+        assertThat(headers.modified(), is(true));
+        assertThat(headers.changes().keySet(), containsInAnyOrder("x-existing", "X-New"));
+        // The request headers are untouched
+        assertThat(helidon.all(HeaderNames.create("X-Existing"), List::of), is(List.of("from-client")));
+        assertThat(helidon.contains(HeaderNames.create("X-New")), is(false));
+        assertThat(helidon.size(), is(1));
+    }
+
+    @Test
+    void testValuesReadOnly() {
+        WritableHeaders<?> helidon = WritableHeaders.create();
+        RequestHeadersMap headers = new RequestHeadersMap(helidon);
+        headers.add("X-New", "value");
+
+        assertThrows(UnsupportedOperationException.class, () -> headers.get("X-New").add("other"));
+        assertThat(headers.get("X-New"), is(List.of("value")));
+    }
+
+    @Test
+    void testRemove() {
+        WritableHeaders<?> helidon = WritableHeaders.create();
+        helidon.add(HeaderNames.create("X-One"), "1");
+        helidon.add(HeaderNames.create("X-Two"), "2");
+        RequestHeadersMap headers = new RequestHeadersMap(helidon);
+
+        assertThat(headers.remove("x-one"), is(List.of("1")));
+        assertThat(headers.remove("x-one"), is(nullValue()));
+        assertThat(headers.containsKey("X-One"), is(false));
+        assertThat(headers.get("X-One"), is(nullValue()));
+        assertThat(headers.size(), is(1));
+        assertThat(helidon.contains(HeaderNames.create("X-One")), is(true));
+
+        // A removed header can be added again, without its request values
+        headers.add("X-One", "again");
+        assertThat(headers.get("X-One"), is(List.of("again")));
+
+        headers.clear();
+        assertThat(headers.isEmpty(), is(true));
+        assertThat(headers.getFirst("X-Two"), is(nullValue()));
+        assertThat(helidon.size(), is(2));
+    }
+
+    @Test
+    void testIteration() {
+        WritableHeaders<?> helidon = WritableHeaders.create();
+        helidon.add(HeaderNames.create("X-One"), "1");
+        helidon.add(HeaderNames.create("X-Two"), "2");
+        RequestHeadersMap headers = new RequestHeadersMap(helidon);
+        headers.add("x-two", "22");
+        headers.putSingle("X-Three", "3");
+
+        List<String> names = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            names.add(entry.getKey());
+            assertThat(entry.getValue(), is(headers.get(entry.getKey())));
+        }
+        assertThat(names, containsInAnyOrder("X-One", "x-two", "X-Three"));
+
+        Iterator<Map.Entry<String, List<String>>> iterator = headers.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getKey().equalsIgnoreCase("X-One")) {
+                iterator.remove();
+            }
+        }
+        assertThat(headers.keySet(), containsInAnyOrder("x-two", "X-Three"));
+        assertThat(headers.get("X-Two"), contains("2", "22"));
+        assertThat(helidon.contains(HeaderNames.create("X-One")), is(true));
+    }
+}
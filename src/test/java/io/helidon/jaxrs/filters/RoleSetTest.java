@@ -0,0 +1,129 @@
+package io.helidon.jaxrs.filters;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Tests for {@link RoleSet}. The role registry is process-wide, so every test uses role names of
+ * its own, and the test that fills the registry runs last.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RoleSetTest {
+
+    @Test
+    void testContainsAndNames() {
+        String reader = unique("reader");
+        String writer = unique("writer");
+        RoleSet roles = RoleSet.of(List.of(reader, writer));
+
+        assertThat(roles.contains(reader), is(true));
+        assertThat(roles.contains(writer), is(true));
+        assertThat(roles.contains(unique("admin")), is(false));
+        assertThat(roles.names(), is(Set.of(reader, writer)));
+        assertThat(RoleSet.EMPTY.contains(reader), is(false));
+        assertThat(RoleSet.EMPTY.names(), is(empty()));
+    }
+
+    @Test
+    void testHeaderRolesNotRegistered() {
+        String alpha = unique("alpha");
+        String beta = unique("beta");
+        RoleSet roles = RoleSet.parse(" " + alpha + " ," + beta + ",");
+
+        assertThat(roles.contains(alpha), is(true));
+        assertThat(roles.contains(beta), is(true));
+        assertThat(roles.names(), is(Set.of(alpha, beta)));
+        assertThat(RoleRegistry.id(alpha), is(-1));
+        assertThat(RoleRegistry.id(beta), is(-1));
+    }
+
+    @Test
+    void testHeaderRoleRegisteredLater() {
+        String role = unique("late");
+        RoleSet fromHeader = RoleSet.parse(role);
+
+        // A verified identity registers the role after the header value was cached
+        RoleSet.of(List.of(role));
+
+        assertThat(RoleRegistry.id(role), greaterThanOrEqualTo(0));
+        assertThat(RoleSet.parse(role).contains(role), is(true));
+        assertThat(fromHeader.contains(role), is(true));
+        assertThat(fromHeader.names(), is(Set.of(role)));
+    }
+
+    @Test
+    void testResolvedRole() {
+        String name = unique("resolved");
+        String other = unique("other");
+        RoleSet fromHeader = RoleSet.parse(name + "," + other);
+
+        // Resolving registers the name; the header set was parsed before and keeps it by name
+        Role role = Role.of(name);
+        RoleSet verified = RoleSet.of(List.of(name));
+
+        assertThat(RoleRegistry.id(name), is(role.id()));
+        assertThat(role.name(), is(name));
+        assertThat(verified.contains(role), is(true));
+        assertThat(fromHeader.contains(role), is(true));
+        assertThat(RoleSet.parse(name).contains(role), is(true));
+        assertThat(RoleSet.parse(other).contains(role), is(false));
+        assertThat(verified.contains(Role.of(other)), is(false));
+        assertThat(RoleSet.EMPTY.contains(role), is(false));
+    }
+
+    @Test
+    void testIdsBeyondFirstWord() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 130; i++) {
+            names.add(unique("role" + i));
+        }
+        RoleSet roles = RoleSet.of(names);
+
+        assertThat(RoleRegistry.id(names.getLast()), greaterThanOrEqualTo(64));
+        for (String name : names) {
+            assertThat(name, roles.contains(name), is(true));
+        }
+        assertThat(roles.contains(unique("other")), is(false));
+        assertThat(roles.names(), is(new HashSet<>(names)));
+    }
+
+    @Test
+    @Order(Integer.MAX_VALUE)
+    void testFullRegistry() {
+        String registered = unique("registered");
+        RoleSet.of(List.of(registered));
+        while (RoleRegistry.register(unique("filler")) >= 0) {
+            // Fill the registry
+        }
+
+        String late = unique("full");
+        RoleSet roles = RoleSet.of(List.of(registered, late));
+
+        assertThat(RoleRegistry.id(late), is(-1));
+        assertThat(roles.contains(registered), is(true));
+        assertThat(roles.contains(late), is(true));
+        assertThat(roles.contains(unique("other")), is(false));
+        assertThat(roles.names(), is(Set.of(registered, late)));
+        Role unresolved = Role.of(late);
+        assertThat(unresolved.id(), is(-1));
+        assertThat(roles.contains(unresolved), is(true));
+        assertThat(roles.contains(Role.of(registered)), is(true));
+    }
+
+    private static String unique(String prefix) {
+        return prefix + "-" + UUID.randomUUID();
+    }
+}
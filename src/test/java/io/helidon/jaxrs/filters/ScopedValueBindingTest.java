@@ -0,0 +1,129 @@
+package io.helidon.jaxrs.filters;
+
+import jakarta.ws.rs.core.SecurityContext;
+import org.junit.jupiter.api.Test;
+
+import java.security.Principal;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for {@link ScopedValueBinding}. The binding needs a JDK where {@code ScopedValue} is usable
+ * (JDK 25 or later, or JDK 21 to 24 with {@code --enable-preview}); otherwise only the fallback
+ * is tested.
+ */
+class ScopedValueBindingTest {
+
+    @Test
+    void testProxyResolvesFromBinding() {
+        assumeTrue(ScopedValueBinding.AVAILABLE, "ScopedValue is not available");
+        ScopedValueBinding.enable();
+        RequestScope scope = new RequestScope(null);
+        scope.securityContext(new SchemeSecurityContext("SCOPED"));
+
+        AtomicReference<String> scheme = new AtomicReference<>();
+        // No Helidon context and no thread-local binding, only the scoped value
+        ScopedValueBinding.run(scope, () -> scheme.set(SecurityContextProxy.INSTANCE.getAuthenticationScheme()));
+
+        assertThat(scheme.get(), is("SCOPED"));
+        assertThat(ScopedValueBinding.current(), is(nullValue()));
+    }
+
+    @Test
+    void testThreadLocalBindingFirst() {
+        assumeTrue(ScopedValueBinding.AVAILABLE, "ScopedValue is not available");
+        ScopedValueBinding.enable();
+        RequestScope bound = new RequestScope(null);
+        bound.securityContext(new SchemeSecurityContext("SCOPED"));
+        RequestScope local = new RequestScope(null);
+        local.securityContext(new SchemeSecurityContext("LOCAL"));
+
+        AtomicReference<String> scheme = new AtomicReference<>();
+        ScopedValueBinding.run(bound, () -> RequestScope.runBound(local, () -> scheme.set(
+                SecurityContextProxy.INSTANCE.getAuthenticationScheme())));
+
+        assertThat(scheme.get(), is("LOCAL"));
+    }
+
+    @Test
+    void testInheritedBySubtasks() {
+        assumeTrue(ScopedValueBinding.AVAILABLE, "ScopedValue is not available");
+        ScopedValueBinding.enable();
+        RequestScope scope = new RequestScope(null);
+        scope.securityContext(new SchemeSecurityContext("SCOPED"));
+
+        AtomicReference<Object> result = new AtomicReference<>();
+        ScopedValueBinding.run(scope, () -> {
+            try {
+                result.set(forkAndJoin(() -> SecurityContextProxy.INSTANCE.getAuthenticationScheme()));
+            } catch (Exception e) {
+                result.set(e);
+            }
+        });
+
+        assertThat(result.get(), is("SCOPED"));
+    }
+
+    @Test
+    void testUnavailableFallback() {
+        assumeFalse(ScopedValueBinding.AVAILABLE, "ScopedValue is available");
+
+        // Enabling has no effect, so proxies keep using the thread-local binding only
+        ScopedValueBinding.enable();
+        assertThat(ScopedValueBinding.current(), is(nullValue()));
+
+        RequestScope scope = new RequestScope(null);
+        scope.securityContext(new SchemeSecurityContext("LOCAL"));
+        AtomicReference<String> scheme = new AtomicReference<>();
+        RequestScope.runBound(scope, () -> scheme.set(SecurityContextProxy.INSTANCE.getAuthenticationScheme()));
+
+        assertThat(scheme.get(), is("LOCAL"));
+    }
+
+    // StructuredTaskScope is a preview API that changed shape in JDK 25, so it is used reflectively
+    private static Object forkAndJoin(Callable<String> task) throws Exception {
+        Class<?> type = Class.forName("java.util.concurrent.StructuredTaskScope");
+        Object taskScope;
+        try {
+            taskScope = type.getMethod("open").invoke(null);
+        } catch (NoSuchMethodException e) {
+            // JDK 21 to 24
+            taskScope = type.getConstructor().newInstance();
+        }
+        try (AutoCloseable ignored = (AutoCloseable) taskScope) {
+            Object subtask = type.getMethod("fork", Callable.class).invoke(taskScope, task);
+            type.getMethod("join").invoke(taskScope);
+            return ((Supplier<?>) subtask).get();
+        }
+    }
+
+    private record SchemeSecurityContext(String scheme) implements SecurityContext {
+
+        @Override
+        public Principal getUserPrincipal() {
+            return null;
+        }
+
+        @Override
+        public boolean isUserInRole(String role) {
+            return false;
+        }
+
+        @Override
+        public boolean isSecure() {
+            return false;
+        }
+
+        @Override
+        public String getAuthenticationScheme() {
+            return scheme;
+        }
+    }
+}
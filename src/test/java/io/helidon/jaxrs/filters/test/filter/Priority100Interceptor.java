@@ -0,0 +1,32 @@
+package io.helidon.jaxrs.filters.test.filter;
+
+import io.helidon.jaxrs.filters.test.util.FilterOrderTracker;
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import java.io.IOException;
+
+/**
+ * Interceptor with priority 100 (low priority = outermost, runs first).
+ * Used to verify interceptor priority ordering.
+ */
+@Provider
+@Priority(100)
+public class Priority100Interceptor implements ReaderInterceptor, WriterInterceptor {
+
+    @Override
+    public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException {
+        FilterOrderTracker.recordReaderInterceptor("Priority100Interceptor");
+        return context.proceed();
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        FilterOrderTracker.recordWriterInterceptor("Priority100Interceptor");
+        context.proceed();
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerRequestFilter;
 import jakarta.ws.rs.container.ResourceInfo;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Cookie;
 import jakarta.ws.rs.core.SecurityContext;
 import jakarta.ws.rs.core.UriInfo;
 import jakarta.ws.rs.ext.Provider;
@@ -38,8 +39,12 @@ public class RequestCoverageFilter implements ContainerRequestFilter {
             CoverageTracker.record("request.method", requestContext.getMethod());
             CoverageTracker.record("request.header", headerValue(requestContext, "X-Coverage-Header"));
             CoverageTracker.record("request.accept.count", String.valueOf(requestContext.getAcceptableMediaTypes().size()));
+            CoverageTracker.record("request.accept.first", String.valueOf(requestContext.getAcceptableMediaTypes().get(0)));
             CoverageTracker.record("request.language.count", String.valueOf(requestContext.getAcceptableLanguages().size()));
+            CoverageTracker.record("request.language.first", requestContext.getAcceptableLanguages().get(0).toLanguageTag());
             CoverageTracker.record("request.cookies.count", String.valueOf(requestContext.getCookies().size()));
+            Cookie theme = requestContext.getCookies().get("theme");
+            CoverageTracker.record("request.cookie.theme", theme != null ? theme.getValue() : null);
             CoverageTracker.record("request.mediaType", String.valueOf(requestContext.getMediaType()));
             CoverageTracker.record("request.language", String.valueOf(requestContext.getLanguage()));
             CoverageTracker.record("request.length", String.valueOf(requestContext.getLength()));
@@ -138,6 +143,12 @@ public class RequestCoverageFilter implements ContainerRequestFilter {
         CoverageTracker.record(prefix + ".request", info.getRequestUri().toString());
         CoverageTracker.record(prefix + ".absolute", info.getAbsolutePath().toString());
         CoverageTracker.record(prefix + ".base", info.getBaseUri().toString());
+        CoverageTracker.record(prefix + ".query.name", info.getQueryParameters().getFirst("name"));
+        CoverageTracker.record(prefix + ".query.name.raw", info.getQueryParameters(false).getFirst("name"));
+        CoverageTracker.record(prefix + ".memoized", String.valueOf(
+                info.getPathSegments() == info.getPathSegments()
+                        && info.getQueryParameters() == info.getQueryParameters()
+                        && info.getBaseUri() == info.getBaseUri()));
         info.getRequestUriBuilder();
         info.getAbsolutePathBuilder();
         info.getBaseUriBuilder();
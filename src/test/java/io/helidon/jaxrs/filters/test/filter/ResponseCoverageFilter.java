@@ -9,7 +9,9 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.Provider;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * Response filter used to exercise coverage paths.
@@ -60,14 +62,17 @@ public class ResponseCoverageFilter implements ContainerResponseFilter {
         CoverageTracker.record("response.entityAnnotations", String.valueOf(responseContext.getEntityAnnotations().length));
 
         try {
-            responseContext.getEntityStream();
+            OutputStream original = responseContext.getEntityStream();
+            CoverageTracker.record("response.getEntityStream", "supported");
+            responseContext.setEntityStream(new FilterOutputStream(original) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(Character.toUpperCase(b));
+                }
+            });
+            CoverageTracker.record("response.setEntityStream", "supported");
         } catch (UnsupportedOperationException ex) {
             CoverageTracker.record("response.getEntityStream", "unsupported");
-        }
-
-        try {
-            responseContext.setEntityStream(new java.io.ByteArrayOutputStream());
-        } catch (UnsupportedOperationException ex) {
             CoverageTracker.record("response.setEntityStream", "unsupported");
         }
     }
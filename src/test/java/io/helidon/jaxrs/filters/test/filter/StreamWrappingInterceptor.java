@@ -0,0 +1,76 @@
+package io.helidon.jaxrs.filters.test.filter;
+
+import io.helidon.jaxrs.filters.test.util.FilterOrderTracker;
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+
+/**
+ * Interceptor that wraps the entity streams and swaps the case of ASCII letters.
+ * The request header {@code X-Interceptor-Mode} selects the stream: {@code read} or {@code write}.
+ */
+@Provider
+@Priority(200)
+public class StreamWrappingInterceptor implements ReaderInterceptor, WriterInterceptor {
+
+    @Context
+    HttpHeaders headers;
+
+    @Override
+    public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException {
+        FilterOrderTracker.recordReaderInterceptor("StreamWrappingInterceptor");
+        if ("read".equals(headers.getHeaderString("X-Interceptor-Mode"))) {
+            context.setInputStream(new FilterInputStream(context.getInputStream()) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    return b < 0 ? b : swapCase(b);
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int n = super.read(b, off, len);
+                    for (int i = off; i < off + n; i++) {
+                        b[i] = (byte) swapCase(b[i]);
+                    }
+                    return n;
+                }
+            });
+        }
+        return context.proceed();
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        FilterOrderTracker.recordWriterInterceptor("StreamWrappingInterceptor");
+        if ("write".equals(headers.getHeaderString("X-Interceptor-Mode"))) {
+            context.getHeaders().putSingle("X-Interceptor", "write");
+            context.setOutputStream(new FilterOutputStream(context.getOutputStream()) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(swapCase(b));
+                }
+            });
+        }
+        context.proceed();
+    }
+
+    private static int swapCase(int b) {
+        if (b >= 'a' && b <= 'z') {
+            return b - 32;
+        }
+        if (b >= 'A' && b <= 'Z') {
+            return b + 32;
+        }
+        return b;
+    }
+}
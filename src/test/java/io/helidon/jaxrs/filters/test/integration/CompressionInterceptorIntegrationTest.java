@@ -0,0 +1,115 @@
+package io.helidon.jaxrs.filters.test.integration;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.jaxrs.filters.CompressionInterceptor;
+import io.helidon.jaxrs.filters.JaxRsFilterSupport;
+import io.helidon.webclient.api.WebClient;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Integration tests for the built-in compression interceptor.
+ */
+@ServerTest
+class CompressionInterceptorIntegrationTest {
+
+    private static final String LARGE = "compress me ".repeat(100);
+
+    private final WebClient client;
+
+    CompressionInterceptorIntegrationTest(WebClient client) {
+        this.client = client;
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder routing) {
+        JaxRsFilterSupport.register(routing, List.of(CompressionInterceptor.builder()
+                .threshold(64)
+                .build()));
+        routing.get("/large", (req, res) -> res.send(LARGE));
+        routing.get("/small", (req, res) -> res.send("small"));
+        routing.get("/image", (req, res) -> {
+            res.headers().set(HeaderNames.CONTENT_TYPE, "image/png");
+            res.send(LARGE);
+        });
+    }
+
+    @Test
+    @DisplayName("Large entities are gzip compressed when the client accepts gzip")
+    void testGzip() throws IOException {
+        var response = client.get("/large")
+                .header(HeaderNames.ACCEPT_ENCODING, "deflate, gzip")
+                .request();
+
+        assertThat(response.status().code(), is(200));
+        assertThat(response.headers().first(HeaderNames.CONTENT_ENCODING).orElse(null), is("gzip"));
+        assertThat(response.headers().first(HeaderNames.VARY).orElse(null), is("Accept-Encoding"));
+        byte[] body = response.entity().as(byte[].class);
+        assertThat(inflate(new GZIPInputStream(new ByteArrayInputStream(body))), is(LARGE));
+    }
+
+    @Test
+    @DisplayName("Deflate is used when gzip is not acceptable")
+    void testDeflate() throws IOException {
+        var response = client.get("/large")
+                .header(HeaderNames.ACCEPT_ENCODING, "gzip;q=0, deflate")
+                .request();
+
+        assertThat(response.headers().first(HeaderNames.CONTENT_ENCODING).orElse(null), is("deflate"));
+        byte[] body = response.entity().as(byte[].class);
+        assertThat(inflate(new InflaterInputStream(new ByteArrayInputStream(body))), is(LARGE));
+    }
+
+    @Test
+    @DisplayName("Entities below the threshold are sent uncompressed")
+    void testBelowThreshold() {
+        var response = client.get("/small")
+                .header(HeaderNames.ACCEPT_ENCODING, "gzip")
+                .request();
+
+        assertThat(response.headers().contains(HeaderNames.CONTENT_ENCODING), is(false));
+        assertThat(response.headers().first(HeaderNames.VARY).orElse(null), is("Accept-Encoding"));
+        assertThat(response.entity().as(String.class), is("small"));
+    }
+
+    @Test
+    @DisplayName("Responses are not compressed without Accept-Encoding")
+    void testNotAccepted() {
+        var response = client.get("/large").request();
+
+        assertThat(response.headers().contains(HeaderNames.CONTENT_ENCODING), is(false));
+        assertThat(response.entity().as(String.class), is(LARGE));
+    }
+
+    @Test
+    @DisplayName("Already compressed media types are skipped")
+    void testExcludedType() {
+        var response = client.get("/image")
+                .header(HeaderNames.ACCEPT_ENCODING, "gzip")
+                .request();
+
+        assertThat(response.headers().contains(HeaderNames.CONTENT_ENCODING), is(false));
+        assertThat(response.headers().contains(HeaderNames.VARY), is(false));
+        assertThat(response.entity().as(String.class), is(LARGE));
+    }
+
+    private static String inflate(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
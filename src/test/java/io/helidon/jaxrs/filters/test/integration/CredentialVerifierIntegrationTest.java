@@ -0,0 +1,139 @@
+package io.helidon.jaxrs.filters.test.integration;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.jaxrs.filters.Identity;
+import io.helidon.jaxrs.filters.JaxRsFilterOptions;
+import io.helidon.jaxrs.filters.JaxRsFilterSupport;
+import io.helidon.jaxrs.filters.test.util.CoverageTracker;
+import io.helidon.webclient.api.WebClient;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.SecurityContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Integration tests for {@code Basic} credential verification and its cache.
+ */
+@ServerTest
+class CredentialVerifierIntegrationTest {
+
+    private static final AtomicInteger VERIFICATIONS = new AtomicInteger();
+
+    private final WebClient client;
+
+    CredentialVerifierIntegrationTest(WebClient client) {
+        this.client = client;
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder routing) {
+        JaxRsFilterSupport.register(routing,
+                List.of(new SecurityRecordingFilter()),
+                JaxRsFilterOptions.builder()
+                        .credentialVerifier((username, password) -> {
+                            VERIFICATIONS.incrementAndGet();
+                            if (username.equals("alice") && Arrays.equals(password, "secret".toCharArray())) {
+                                return Optional.of(new Identity("alice", Set.of("admin")));
+                            }
+                            return Optional.empty();
+                        })
+                        .build());
+        routing.get("/secure", (req, res) -> res.send("ok"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        CoverageTracker.clear();
+    }
+
+    @Test
+    @DisplayName("Valid credentials are verified once and then served from the cache")
+    void testVerifiedOnce() {
+        int before = VERIFICATIONS.get();
+
+        assertAuthenticated(basic("alice", "secret"));
+        assertAuthenticated(basic("alice", "secret"));
+
+        assertThat(VERIFICATIONS.get() - before, is(1));
+    }
+
+    @Test
+    @DisplayName("Invalid credentials leave the request unauthenticated")
+    void testInvalidCredentials() {
+        get(basic("alice", "wrong"));
+
+        assertThat(CoverageTracker.value("verifier.user"), is("null"));
+        assertThat(CoverageTracker.value("verifier.scheme"), is("null"));
+        assertThat(CoverageTracker.value("verifier.admin"), is("false"));
+    }
+
+    @Test
+    @DisplayName("Requests without credentials cannot claim roles through X-User-Roles")
+    void testAnonymousRolesHeaderIgnored() {
+        var response = client.get("/secure")
+                .header(HeaderNames.create("X-User-Roles"), "admin, forged")
+                .request();
+        assertThat(response.status().code(), is(200));
+        response.close();
+
+        assertThat(CoverageTracker.value("verifier.user"), is("null"));
+        assertThat(CoverageTracker.value("verifier.admin"), is("false"));
+        assertThat(CoverageTracker.value("verifier.forged"), is("false"));
+    }
+
+    private void assertAuthenticated(String authorization) {
+        get(authorization);
+
+        assertThat(CoverageTracker.value("verifier.user"), is("alice"));
+        assertThat(CoverageTracker.value("verifier.scheme"), is(SecurityContext.BASIC_AUTH));
+        assertThat(CoverageTracker.value("verifier.admin"), is("true"));
+        // Roles of verified users come from the verifier, not from request headers
+        assertThat(CoverageTracker.value("verifier.forged"), is("false"));
+    }
+
+    private void get(String authorization) {
+        var response = client.get("/secure")
+                .header(HeaderNames.AUTHORIZATION, authorization)
+                .header(HeaderNames.create("X-User-Roles"), "admin, forged")
+                .request();
+        assertThat(response.status().code(), is(200));
+        response.close();
+    }
+
+    private static String basic(String username, String password) {
+        String credentials = username + ":" + password;
+        return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static class SecurityRecordingFilter implements ContainerRequestFilter {
+
+        @Context
+        private SecurityContext security;
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            CoverageTracker.record("verifier.user",
+                    security.getUserPrincipal() == null ? null : security.getUserPrincipal().getName());
+            CoverageTracker.record("verifier.scheme", security.getAuthenticationScheme());
+            CoverageTracker.record("verifier.admin", String.valueOf(security.isUserInRole("admin")));
+            CoverageTracker.record("verifier.forged", String.valueOf(security.isUserInRole("forged")));
+        }
+    }
+}
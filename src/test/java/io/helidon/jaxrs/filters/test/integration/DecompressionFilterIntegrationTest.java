@@ -0,0 +1,119 @@
+package io.helidon.jaxrs.filters.test.integration;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.jaxrs.filters.DecompressionFilter;
+import io.helidon.jaxrs.filters.JaxRsFilterSupport;
+import io.helidon.webclient.api.WebClient;
+import io.helidon.webserver.WebServerConfig;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import io.helidon.webserver.testing.junit5.SetUpServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Integration tests for the built-in request decompression filter.
+ */
+@ServerTest
+class DecompressionFilterIntegrationTest {
+
+    private static final String BATCH = "[" + "{\"id\":1},".repeat(50) + "{\"id\":2}]";
+
+    private final WebClient client;
+
+    DecompressionFilterIntegrationTest(WebClient client) {
+        this.client = client;
+    }
+
+    @SetUpServer
+    static void server(WebServerConfig.Builder server) {
+        server.contentEncoding(encoding -> encoding
+                .contentEncodingsDiscoverServices(false)
+                .addContentEncoding(DecompressionFilter.contentEncoding()));
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder routing) {
+        JaxRsFilterSupport.register(routing, List.of(DecompressionFilter.builder()
+                .maxDecompressedSize(1024)
+                .build()));
+        routing.post("/echo", (req, res) -> {
+            String encoding = req.headers().first(HeaderNames.CONTENT_ENCODING).orElse("none");
+            res.header(HeaderNames.create("X-Seen-Encoding"), encoding);
+            res.send(req.content().as(String.class));
+        });
+    }
+
+    @Test
+    @DisplayName("Gzip request bodies are inflated and the encoding set to identity")
+    void testGzip() throws IOException {
+        var response = client.post("/echo")
+                .header(HeaderNames.CONTENT_ENCODING, "gzip")
+                .submit(compress(BATCH, true));
+
+        assertThat(response.status().code(), is(200));
+        assertThat(response.headers().first(HeaderNames.create("X-Seen-Encoding")).orElse(null), is("identity"));
+        assertThat(response.entity().as(String.class), is(BATCH));
+    }
+
+    @Test
+    @DisplayName("Deflate request bodies are inflated")
+    void testDeflate() throws IOException {
+        var response = client.post("/echo")
+                .header(HeaderNames.CONTENT_ENCODING, "deflate")
+                .submit(compress(BATCH, false));
+
+        assertThat(response.status().code(), is(200));
+        assertThat(response.entity().as(String.class), is(BATCH));
+    }
+
+    @Test
+    @DisplayName("Bodies inflating past the limit are rejected")
+    void testLimit() throws IOException {
+        var response = client.post("/echo")
+                .header(HeaderNames.CONTENT_ENCODING, "gzip")
+                .submit(compress("0".repeat(100_000), true));
+
+        assertThat(response.status().code(), is(413));
+    }
+
+    @Test
+    @DisplayName("Corrupt compressed bodies are rejected")
+    void testCorrupt() {
+        var response = client.post("/echo")
+                .header(HeaderNames.CONTENT_ENCODING, "gzip")
+                .submit("not gzip".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(response.status().code(), is(400));
+    }
+
+    @Test
+    @DisplayName("Uncompressed bodies pass through")
+    void testIdentity() {
+        String echoed = client.post("/echo")
+                .submit(BATCH, String.class)
+                .entity();
+
+        assertThat(echoed, is(BATCH));
+    }
+
+    private static byte[] compress(String text, boolean gzip) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = gzip ? new GZIPOutputStream(bytes) : new DeflaterOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
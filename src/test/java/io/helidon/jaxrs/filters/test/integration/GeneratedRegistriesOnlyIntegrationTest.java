@@ -0,0 +1,57 @@
+package io.helidon.jaxrs.filters.test.integration;
+
+import io.helidon.jaxrs.filters.JaxRsFilterOptions;
+import io.helidon.jaxrs.filters.JaxRsFilterSupport;
+import io.helidon.jaxrs.filters.test.util.FilterOrderTracker;
+import io.helidon.webclient.api.WebClient;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+/**
+ * Integration tests for {@link JaxRsFilterOptions#generatedRegistriesOnly()}, with the same
+ * uncovered provider as {@link ServiceDiscoveryIntegrationTest}.
+ */
+@ServerTest
+class GeneratedRegistriesOnlyIntegrationTest {
+
+    private final WebClient client;
+
+    GeneratedRegistriesOnlyIntegrationTest(WebClient client) {
+        this.client = client;
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder routing) {
+        JaxRsFilterSupport.register(routing,
+                ServiceDiscoveryIntegrationTest.otherJar(),
+                JaxRsFilterOptions.builder()
+                        .generatedRegistriesOnly(true)
+                        .build());
+        routing.get("/plain", (req, res) -> res.send("plain"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        FilterOrderTracker.clear();
+    }
+
+    @Test
+    @DisplayName("Only the providers of the generated registry run, the service scan is skipped")
+    void testUncoveredProviderSkipped() {
+        client.get("/plain").requestEntity(String.class);
+
+        assertThat(FilterOrderTracker.getRequestFilterOrder(), contains(
+                "PreMatchingTestFilter",
+                "PreMatchingContextFilter:OK",
+                "Priority100Filter",
+                "OrderTrackingFilter",
+                "Priority300Filter"));
+    }
+}
@@ -10,9 +10,12 @@ import io.helidon.webserver.testing.junit5.SetUpRoute;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.net.URI;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 
 @ServerTest
@@ -28,10 +31,14 @@ class JaxRsFilterCoverageTest {
     static void routing(HttpRouting.Builder routing) {
         routing.addFeature(JaxRsFilterFeature::new);
         routing.get("/coverage/{id}", (req, res) -> {
+            req.headers().first(HeaderNames.create("X-Pre-Added"))
+                    .ifPresent(value -> CoverageTracker.record("route.header.added", value));
             res.header("X-Existing", "from-handler");
             res.send("ok");
         });
         routing.post("/coverage/{id}", (req, res) -> {
+            // Read the entity so the server keeps the connection for the next request
+            req.content().consume();
             res.header("X-Existing", "from-handler");
             res.send("ok");
         });
@@ -61,6 +68,7 @@ class JaxRsFilterCoverageTest {
         assertThat(CoverageTracker.value("pre.prop"), is("value"));
         assertThat(CoverageTracker.value("pre.prop.removed"), is("true"));
         assertThat(CoverageTracker.value("pre.header.added"), is("yes"));
+        assertThat(CoverageTracker.value("route.header.added"), is("yes"));
         assertThat(CoverageTracker.value("pre.accept.count"), is("2"));
         assertThat(CoverageTracker.value("pre.language.count"), is("2"));
         assertThat(CoverageTracker.value("pre.cookie"), is("abc"));
@@ -73,6 +81,61 @@ class JaxRsFilterCoverageTest {
         assertThat(CoverageTracker.value("pre.security.scheme"), is("CUSTOM"));
     }
 
+    @Test
+    void testAcceptableMediaTypesSortedByQuality() {
+        var response = client.post("/coverage/123")
+                .header(HeaderNames.create("X-Coverage-Mode"), "request")
+                .header(HeaderNames.ACCEPT, "text/*;q=0.5, */*;q=0.1, application/json")
+                .submit("payload");
+        assertThat(response.status().code(), is(200));
+        response.close();
+
+        assertThat(CoverageTracker.value("request.accept.count"), is("3"));
+        assertThat(CoverageTracker.value("request.accept.first"), is("application/json"));
+    }
+
+    @Test
+    void testAcceptableLanguagesSortedByQuality() {
+        var response = client.post("/coverage/123")
+                .header(HeaderNames.create("X-Coverage-Mode"), "request")
+                .header(HeaderNames.ACCEPT_LANGUAGE, "fr;q=0.5, de-DE, en;q=0.9, it;q=0")
+                .submit("payload");
+        assertThat(response.status().code(), is(200));
+        response.close();
+
+        assertThat(CoverageTracker.value("request.language.count"), is("3"));
+        assertThat(CoverageTracker.value("request.language.first"), is("de-DE"));
+    }
+
+    @Test
+    void testCookieLookup() {
+        var response = client.post("/coverage/123")
+                .header(HeaderNames.create("X-Coverage-Mode"), "request")
+                .header(HeaderNames.COOKIE, "$Version=1; session=abc; theme=\"dark\"; theme=light")
+                .submit("payload");
+        assertThat(response.status().code(), is(200));
+        response.close();
+
+        assertThat(CoverageTracker.value("request.cookies.count"), is("2"));
+        assertThat(CoverageTracker.value("request.cookie.theme"), is("dark"));
+    }
+
+    @Test
+    void testUriInfoDecodedAndRawVariants() {
+        // A URI, so the client sends the query as a query rather than encoding it into the path
+        var response = client.post()
+                .uri(URI.create("/coverage/123?name=caf%C3%A9%20au%20lait"))
+                .header(HeaderNames.create("X-Coverage-Mode"), "request")
+                .submit("payload");
+        assertThat(response.status().code(), is(200));
+        response.close();
+
+        assertThat(CoverageTracker.value("request.uri.query.name"), is("caf\u00e9 au lait"));
+        assertThat(CoverageTracker.value("request.uri.query.name.raw"), is("caf%C3%A9%20au%20lait"));
+        assertThat(CoverageTracker.value("request.uri.absolute"), not(containsString("?")));
+        assertThat(CoverageTracker.value("request.uri.memoized"), is("true"));
+    }
+
     @Test
     void testRequestCoverage() {
         var response = client.post("/coverage/123?query=one")
@@ -126,8 +189,9 @@ class JaxRsFilterCoverageTest {
         assertThat(CoverageTracker.value("response.mediaType"), containsString("text/plain"));
         assertThat(CoverageTracker.value("response.hasEntity"), is("true"));
         assertThat(CoverageTracker.value("response.entity"), is("entity2"));
-        assertThat(CoverageTracker.value("response.getEntityStream"), is("unsupported"));
-        assertThat(CoverageTracker.value("response.setEntityStream"), is("unsupported"));
+        assertThat(CoverageTracker.value("response.getEntityStream"), is("supported"));
+        assertThat(CoverageTracker.value("response.setEntityStream"), is("supported"));
+        assertThat(response.entity().as(String.class), is("OK"));
 
         response.close();
     }
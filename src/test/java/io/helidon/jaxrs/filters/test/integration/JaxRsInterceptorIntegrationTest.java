@@ -0,0 +1,93 @@
+package io.helidon.jaxrs.filters.test.integration;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.jaxrs.filters.JaxRsFilterFeature;
+import io.helidon.jaxrs.filters.test.util.FilterOrderTracker;
+import io.helidon.webclient.api.WebClient;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Integration tests for reader and writer interceptors without JAX-RS resources.
+ */
+@ServerTest
+class JaxRsInterceptorIntegrationTest {
+
+    private final WebClient client;
+
+    JaxRsInterceptorIntegrationTest(WebClient client) {
+        this.client = client;
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder routing) {
+        routing.addFeature(JaxRsFilterFeature::new);
+        routing.get("/plain", (req, res) -> res.send("plain"));
+        routing.post("/echo", (req, res) -> res.send(req.content().as(String.class)));
+        routing.get("/filter/abort", (req, res) -> res.send("should-not-reach"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        FilterOrderTracker.clear();
+    }
+
+    @Test
+    @DisplayName("Writer interceptors run in priority order and wrap the response stream")
+    void testWriterInterceptors() {
+        var response = client.get("/plain")
+                .header(HeaderNames.create("X-Interceptor-Mode"), "write")
+                .request();
+
+        assertThat(response.status().code(), is(200));
+        assertThat(response.headers().first(HeaderNames.create("X-Interceptor")).orElse(null), is("write"));
+        assertThat(response.entity().as(String.class), is("PLAIN"));
+        assertThat(FilterOrderTracker.getWriterInterceptorOrder(), contains(
+                "Priority100Interceptor",
+                "StreamWrappingInterceptor"));
+        assertThat(FilterOrderTracker.getReaderInterceptorOrder(), is(List.of()));
+    }
+
+    @Test
+    @DisplayName("Reader interceptors run in priority order and wrap the request stream")
+    void testReaderInterceptors() {
+        String echoed = client.post("/echo")
+                .header(HeaderNames.create("X-Interceptor-Mode"), "read")
+                .submit("Hello", String.class)
+                .entity();
+
+        assertThat(echoed, is("hELLO"));
+        assertThat(FilterOrderTracker.getReaderInterceptorOrder(), contains(
+                "Priority100Interceptor",
+                "StreamWrappingInterceptor"));
+    }
+
+    @Test
+    @DisplayName("Interceptors pass the entity through unchanged by default")
+    void testPassThrough() {
+        String echoed = client.post("/echo")
+                .submit("Hello", String.class)
+                .entity();
+
+        assertThat(echoed, is("Hello"));
+    }
+
+    @Test
+    @DisplayName("Aborted requests skip writer interceptors")
+    void testAbortSkipsInterceptors() {
+        var response = client.get("/filter/abort").request();
+
+        assertThat(response.status().code(), is(403));
+        assertThat(FilterOrderTracker.getWriterInterceptorOrder(), is(List.of()));
+    }
+}
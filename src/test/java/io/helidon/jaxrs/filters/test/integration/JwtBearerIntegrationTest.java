@@ -0,0 +1,177 @@
+package io.helidon.jaxrs.filters.test.integration;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.jaxrs.filters.JaxRsFilterOptions;
+import io.helidon.jaxrs.filters.JaxRsFilterSupport;
+import io.helidon.jaxrs.filters.JwkSet;
+import io.helidon.jaxrs.filters.test.util.CoverageTracker;
+import io.helidon.webclient.api.WebClient;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.SecurityContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Integration tests for JWT bearer token validation against a local JWK set.
+ */
+@ServerTest
+class JwtBearerIntegrationTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+    private static final String HEADER = "{\"alg\":\"HS256\",\"kid\":\"test\"}";
+
+    private final WebClient client;
+
+    JwtBearerIntegrationTest(WebClient client) {
+        this.client = client;
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder routing) {
+        String jwks = "{\"keys\": [{\"kty\": \"oct\", \"kid\": \"test\", \"k\": \""
+                + BASE64URL.encodeToString(SECRET) + "\"}]}";
+        JaxRsFilterSupport.register(routing,
+                List.of(new SecurityRecordingFilter()),
+                JaxRsFilterOptions.builder()
+                        .jwkSet(JwkSet.create(jwks))
+                        .jwtIssuer("https://issuer.example")
+                        .build());
+        routing.get("/secure", (req, res) -> res.send("ok"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        CoverageTracker.clear();
+    }
+
+    @Test
+    @DisplayName("A valid token sets the principal and roles from its claims")
+    void testValidToken() throws GeneralSecurityException {
+        String token = token("https://issuer.example", epochSeconds() + 300);
+
+        // The second request is answered from the token cache
+        get(token);
+        get(token);
+
+        assertThat(CoverageTracker.value("jwt.user"), is("alice"));
+        assertThat(CoverageTracker.value("jwt.scheme"), is("BEARER"));
+        assertThat(CoverageTracker.value("jwt.admin"), is("true"));
+        assertThat(CoverageTracker.value("jwt.forged"), is("false"));
+    }
+
+    @Test
+    @DisplayName("Expired tokens and tokens from another issuer are rejected")
+    void testRejectedTokens() throws GeneralSecurityException {
+        get(token("https://issuer.example", epochSeconds() - 60));
+        assertThat(CoverageTracker.value("jwt.user"), is("null"));
+
+        get(token("https://other.example", epochSeconds() + 300));
+        assertThat(CoverageTracker.value("jwt.user"), is("null"));
+        assertThat(CoverageTracker.value("jwt.admin"), is("false"));
+    }
+
+    @Test
+    @DisplayName("A token with a forged signature is rejected")
+    void testForgedSignature() throws GeneralSecurityException {
+        String token = token("https://issuer.example", epochSeconds() + 300);
+
+        get(token.substring(0, token.lastIndexOf('.') + 1) + BASE64URL.encodeToString(new byte[32]));
+
+        assertThat(CoverageTracker.value("jwt.user"), is("null"));
+    }
+
+    @Test
+    @DisplayName("Signed tokens with a critical header, deep nesting or excessive length are rejected")
+    void testMalformedSignedTokens() throws GeneralSecurityException {
+        String claims = claims("https://issuer.example", epochSeconds() + 300, "");
+
+        get(token("{\"alg\":\"HS256\",\"kid\":\"test\",\"crit\":[\"exp\"]}", claims));
+        assertThat(CoverageTracker.value("jwt.user"), is("null"));
+
+        String nested = "[".repeat(1_000) + "]".repeat(1_000);
+        get(token(HEADER, claims("https://issuer.example", epochSeconds() + 300, ",\"x\":" + nested)));
+        assertThat(CoverageTracker.value("jwt.user"), is("null"));
+
+        String padding = "\"" + "x".repeat(7_000) + "\"";
+        get(token(HEADER, claims("https://issuer.example", epochSeconds() + 300, ",\"x\":" + padding)));
+        assertThat(CoverageTracker.value("jwt.user"), is("null"));
+    }
+
+    @Test
+    @DisplayName("Requests without a token cannot claim roles through X-User-Roles")
+    void testAnonymousRolesHeaderIgnored() {
+        var response = client.get("/secure")
+                .header(HeaderNames.create("X-User-Roles"), "admin")
+                .request();
+        assertThat(response.status().code(), is(200));
+        response.close();
+
+        assertThat(CoverageTracker.value("jwt.user"), is("null"));
+        assertThat(CoverageTracker.value("jwt.admin"), is("false"));
+    }
+
+    private void get(String token) {
+        var response = client.get("/secure")
+                .header(HeaderNames.AUTHORIZATION, "Bearer " + token)
+                .header(HeaderNames.create("X-User-Roles"), "forged")
+                .request();
+        assertThat(response.status().code(), is(200));
+        response.close();
+    }
+
+    private static String token(String issuer, long exp) throws GeneralSecurityException {
+        return token(HEADER, claims(issuer, exp, ""));
+    }
+
+    private static String claims(String issuer, long exp, String extra) {
+        return "{\"iss\":\"" + issuer + "\",\"upn\":\"alice\",\"groups\":[\"admin\"],\"exp\":" + exp + extra + "}";
+    }
+
+    private static String token(String header, String claims) throws GeneralSecurityException {
+        String signingInput = encode(header) + "." + encode(claims);
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET, "HmacSHA256"));
+        byte[] signature = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + "." + BASE64URL.encodeToString(signature);
+    }
+
+    private static String encode(String json) {
+        return BASE64URL.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long epochSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    static class SecurityRecordingFilter implements ContainerRequestFilter {
+
+        @Context
+        private SecurityContext security;
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            CoverageTracker.record("jwt.user",
+                    security.getUserPrincipal() == null ? null : security.getUserPrincipal().getName());
+            CoverageTracker.record("jwt.scheme", security.getAuthenticationScheme());
+            CoverageTracker.record("jwt.admin", String.valueOf(security.isUserInRole("admin")));
+            CoverageTracker.record("jwt.forged", String.valueOf(security.isUserInRole("forged")));
+        }
+    }
+}
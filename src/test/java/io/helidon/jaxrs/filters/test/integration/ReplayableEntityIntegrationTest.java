@@ -0,0 +1,143 @@
+package io.helidon.jaxrs.filters.test.integration;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.jaxrs.filters.DecompressionFilter;
+import io.helidon.jaxrs.filters.JaxRsFilterOptions;
+import io.helidon.jaxrs.filters.JaxRsFilterSupport;
+import io.helidon.jaxrs.filters.RequestScope;
+import io.helidon.jaxrs.filters.test.util.CoverageTracker;
+import io.helidon.webclient.api.WebClient;
+import io.helidon.webserver.WebServerConfig;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import io.helidon.webserver.testing.junit5.SetUpServer;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.PreMatching;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Integration tests for the replayable request entity buffer.
+ */
+@ServerTest
+class ReplayableEntityIntegrationTest {
+
+    private final WebClient client;
+
+    ReplayableEntityIntegrationTest(WebClient client) {
+        this.client = client;
+    }
+
+    @SetUpServer
+    static void server(WebServerConfig.Builder server) {
+        server.contentEncoding(encoding -> encoding
+                .contentEncodingsDiscoverServices(false)
+                .addContentEncoding(DecompressionFilter.contentEncoding()));
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder routing) {
+        JaxRsFilterSupport.register(routing,
+                List.of(new PreMatchingEntityFilter(), new DecompressionFilter(), new EntityFilter()),
+                JaxRsFilterOptions.builder()
+                        .replayableEntity(true)
+                        .entityMemoryLimit(16 * 1024)
+                        .maxEntitySize(200_000)
+                        .build());
+        routing.post("/echo", (req, res) -> {
+            String body;
+            try (InputStream in = RequestScope.of(req).entityStream()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            res.header(HeaderNames.create("X-Pre-Length"),
+                    req.headers().first(HeaderNames.create("X-Pre-Length")).orElse("none"));
+            res.send(body);
+        });
+    }
+
+    @BeforeEach
+    void setUp() {
+        CoverageTracker.clear();
+    }
+
+    @Test
+    @DisplayName("Filters and the route each read the whole entity")
+    void testReplayInMemory() {
+        assertReplayed("signed payload");
+    }
+
+    @Test
+    @DisplayName("Entities above the memory limit are replayed from a temporary file")
+    void testReplaySpilled() {
+        assertReplayed("0123456789".repeat(10_000));
+    }
+
+    @Test
+    @DisplayName("The route and post-matching filters read the replay through the decompression wrapper")
+    void testReplayDecompressed() throws IOException {
+        String body = "0123456789".repeat(1_000);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        var response = client.post("/echo")
+                .header(HeaderNames.CONTENT_ENCODING, "gzip")
+                .submit(compressed.toByteArray());
+
+        assertThat(response.status().code(), is(200));
+        assertThat(response.headers().first(HeaderNames.create("X-Pre-Length")).orElse(null),
+                is(String.valueOf(compressed.size())));
+        assertThat(CoverageTracker.value("replay.post.length"), is(String.valueOf(body.length())));
+        assertThat(response.entity().as(String.class), is(body));
+    }
+
+    @Test
+    @DisplayName("Entities above the size limit are rejected")
+    void testTooLarge() {
+        var response = client.post("/echo").submit("0123456789".repeat(30_000));
+
+        assertThat(response.status().code(), is(413));
+    }
+
+    private void assertReplayed(String body) {
+        var response = client.post("/echo").submit(body);
+
+        String length = String.valueOf(body.length());
+        assertThat(response.status().code(), is(200));
+        assertThat(response.headers().first(HeaderNames.create("X-Pre-Length")).orElse(null), is(length));
+        assertThat(CoverageTracker.value("replay.post.length"), is(length));
+        assertThat(response.entity().as(String.class), is(body));
+    }
+
+    @PreMatching
+    static class PreMatchingEntityFilter implements ContainerRequestFilter {
+        @Override
+        public void filter(ContainerRequestContext requestContext) throws IOException {
+            int length = requestContext.getEntityStream().readAllBytes().length;
+            requestContext.getHeaders().putSingle("X-Pre-Length", String.valueOf(length));
+        }
+    }
+
+    static class EntityFilter implements ContainerRequestFilter {
+        @Override
+        public void filter(ContainerRequestContext requestContext) throws IOException {
+            int length = requestContext.getEntityStream().readAllBytes().length;
+            CoverageTracker.record("replay.post.length", String.valueOf(length));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.helidon.jaxrs.filters.test.integration;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.jaxrs.filters.JaxRsFilterSupport;
+import io.helidon.webclient.api.WebClient;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Integration tests for response filters that replace the entity stream.
+ */
+@ServerTest
+class ResponseEntityStreamIntegrationTest {
+
+    private final WebClient client;
+
+    ResponseEntityStreamIntegrationTest(WebClient client) {
+        this.client = client;
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder routing) {
+        JaxRsFilterSupport.register(routing, List.of(new SuffixFilter()));
+        routing.get("/body", (req, res) -> res.send("body"));
+    }
+
+    @Test
+    @DisplayName("Content-Length of the handler's entity is dropped when a filter replaces the stream")
+    void testLengthChangingStream() {
+        var response = client.get("/body").request();
+
+        assertThat(response.status().code(), is(200));
+        assertThat(response.entity().as(String.class), is("body-wrapped"));
+        assertThat(response.headers().first(HeaderNames.CONTENT_LENGTH).map(Integer::parseInt).orElse(12), is(12));
+    }
+
+    static class SuffixFilter implements ContainerResponseFilter {
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+            responseContext.setEntityStream(new FilterOutputStream(responseContext.getEntityStream()) {
+                @Override
+                public void close() throws IOException {
+                    out.write("-wrapped".getBytes(StandardCharsets.US_ASCII));
+                    super.close();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.helidon.jaxrs.filters.test.integration;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.jaxrs.filters.JaxRsFilterOptions;
+import io.helidon.jaxrs.filters.JaxRsFilterSupport;
+import io.helidon.jaxrs.filters.test.util.CoverageTracker;
+import io.helidon.webclient.api.WebClient;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.UriInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Integration tests for requests served with {@link JaxRsFilterOptions.ContextPropagation#SCOPED_VALUE}.
+ * Without a usable {@code ScopedValue}, the registration falls back to {@code CONTEXTS} and the
+ * same requests must still work.
+ */
+@ServerTest
+class ScopedValuePropagationIntegrationTest {
+
+    private final WebClient client;
+
+    ScopedValuePropagationIntegrationTest(WebClient client) {
+        this.client = client;
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder routing) {
+        JaxRsFilterSupport.register(routing,
+                List.of(new PreMatchingProxyFilter(), new ProxyFilter(), new ProxyResponseFilter()),
+                JaxRsFilterOptions.builder()
+                        .contextPropagation(JaxRsFilterOptions.ContextPropagation.SCOPED_VALUE)
+                        .build());
+        routing.get("/scoped", (req, res) -> res.send("ok"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        CoverageTracker.clear();
+    }
+
+    @Test
+    @DisplayName("@Context proxies resolve in every filter stage")
+    void testProxies() {
+        var response = client.get("/scoped")
+                .header(HeaderNames.create("X-Trace"), "t-1")
+                .request();
+
+        assertThat(response.status().code(), is(200));
+        assertThat(response.entity().as(String.class), is("ok"));
+        assertThat(response.headers().first(HeaderNames.create("X-Scoped-Path")).orElse(null), is("/scoped"));
+        assertThat(CoverageTracker.value("scoped.prematching.trace"), is("t-1"));
+        assertThat(CoverageTracker.value("scoped.request.path"), is("/scoped"));
+        assertThat(CoverageTracker.value("scoped.request.trace"), is("t-1"));
+        assertThat(CoverageTracker.value("scoped.request.secure"), is("false"));
+    }
+
+    @Test
+    @DisplayName("Each request sees its own scope")
+    void testRequestsIsolated() {
+        for (int i = 0; i < 5; i++) {
+            var response = client.get("/scoped")
+                    .header(HeaderNames.create("X-Trace"), "t-" + i)
+                    .request();
+            assertThat(response.status().code(), is(200));
+            response.close();
+            assertThat(CoverageTracker.value("scoped.request.trace"), is("t-" + i));
+        }
+    }
+
+    @PreMatching
+    static class PreMatchingProxyFilter implements ContainerRequestFilter {
+
+        @Context
+        private HttpHeaders headers;
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            CoverageTracker.record("scoped.prematching.trace", headers.getHeaderString("X-Trace"));
+        }
+    }
+
+    static class ProxyFilter implements ContainerRequestFilter {
+
+        @Context
+        private UriInfo uriInfo;
+        @Context
+        private HttpHeaders headers;
+        @Context
+        private SecurityContext security;
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            CoverageTracker.record("scoped.request.path", uriInfo.getRequestUri().getPath());
+            CoverageTracker.record("scoped.request.trace", headers.getHeaderString("X-Trace"));
+            CoverageTracker.record("scoped.request.secure", String.valueOf(security.isSecure()));
+        }
+    }
+
+    static class ProxyResponseFilter implements ContainerResponseFilter {
+
+        @Context
+        private UriInfo uriInfo;
+
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+            responseContext.getHeaders().putSingle("X-Scoped-Path", uriInfo.getRequestUri().getPath());
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package io.helidon.jaxrs.filters.test.integration;
+
+import io.helidon.common.context.Contexts;
+import io.helidon.http.HeaderNames;
+import io.helidon.jaxrs.filters.Identity;
+import io.helidon.jaxrs.filters.JaxRsFilterOptions;
+import io.helidon.jaxrs.filters.JaxRsFilterSupport;
+import io.helidon.jaxrs.filters.test.util.CoverageTracker;
+import io.helidon.webclient.api.WebClient;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.SecurityContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Integration tests for a pluggable {@link io.helidon.jaxrs.filters.SecurityContextProvider}.
+ */
+@ServerTest
+class SecurityContextProviderIntegrationTest {
+
+    private static final AtomicInteger PROVIDED = new AtomicInteger();
+
+    private final WebClient client;
+
+    SecurityContextProviderIntegrationTest(WebClient client) {
+        this.client = client;
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder routing) {
+        JaxRsFilterSupport.register(routing,
+                List.of(new LateLoginFilter(), new SecurityRecordingFilter()),
+                JaxRsFilterOptions.builder()
+                        .securityContextProvider(request -> {
+                            PROVIDED.incrementAndGet();
+                            Optional<SecurityContext> late = request.context()
+                                    .get(LateLogin.class)
+                                    .map(login -> new GatewaySecurityContext(login.user()));
+                            return late.isPresent()
+                                    ? late
+                                    : request.headers()
+                                            .first(HeaderNames.create("X-Gateway-User"))
+                                            .map(GatewaySecurityContext::new);
+                        })
+                        .build());
+        routing.get("/secure", (req, res) -> res.send("ok"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        CoverageTracker.clear();
+    }
+
+    @Test
+    @DisplayName("The provider is called once and its context is used by @Context and getSecurityContext()")
+    void testProvidedContext() {
+        int before = PROVIDED.get();
+
+        var response = client.get("/secure")
+                .header(HeaderNames.create("X-Gateway-User"), "carol")
+                .header(HeaderNames.create("X-Check-Security"), "true")
+                .request();
+        assertThat(response.status().code(), is(200));
+        response.close();
+
+        assertThat(PROVIDED.get() - before, is(1));
+        assertThat(CoverageTracker.value("provider.user"), is("carol"));
+        assertThat(CoverageTracker.value("provider.scheme"), is("GATEWAY"));
+        assertThat(CoverageTracker.value("provider.request.scheme"), is("GATEWAY"));
+    }
+
+    @Test
+    @DisplayName("Requests whose filters do not use the security context do not call the provider")
+    void testNotUsed() {
+        int before = PROVIDED.get();
+
+        var response = client.get("/secure")
+                .header(HeaderNames.create("X-Gateway-User"), "carol")
+                .request();
+        assertThat(response.status().code(), is(200));
+        response.close();
+
+        assertThat(PROVIDED.get() - before, is(0));
+    }
+
+    @Test
+    @DisplayName("An empty result does not trust unverified Basic user names")
+    void testFallback() {
+        String credentials = Base64.getEncoder().encodeToString("bob:secret".getBytes(StandardCharsets.UTF_8));
+        var response = client.get("/secure")
+                .header(HeaderNames.AUTHORIZATION, "Basic " + credentials)
+                .header(HeaderNames.create("X-Check-Security"), "true")
+                .request();
+        assertThat(response.status().code(), is(200));
+        response.close();
+
+        assertThat(CoverageTracker.value("provider.user"), is("null"));
+        assertThat(CoverageTracker.value("provider.scheme"), is("null"));
+    }
+
+    @Test
+    @DisplayName("An empty result does not trust the X-User-Roles header")
+    void testRolesHeaderIgnored() {
+        var response = client.get("/secure")
+                .header(HeaderNames.create("X-User-Roles"), "admin")
+                .header(HeaderNames.create("X-User-Name"), "mallory")
+                .header(HeaderNames.AUTHORIZATION, "Bearer token")
+                .header(HeaderNames.create("X-Check-Security"), "true")
+                .request();
+        assertThat(response.status().code(), is(200));
+        response.close();
+
+        assertThat(CoverageTracker.value("provider.admin"), is("false"));
+        assertThat(CoverageTracker.value("provider.user"), is("null"));
+    }
+
+    @Test
+    @DisplayName("A context registered after an empty result is used by later filters")
+    void testLateProvidedContext() {
+        var response = client.get("/secure")
+                .header(HeaderNames.create("X-Late-User"), "dave")
+                .header(HeaderNames.create("X-Check-Security"), "true")
+                .request();
+        assertThat(response.status().code(), is(200));
+        response.close();
+
+        assertThat(CoverageTracker.value("provider.before.user"), is("null"));
+        assertThat(CoverageTracker.value("provider.user"), is("dave"));
+        assertThat(CoverageTracker.value("provider.request.scheme"), is("GATEWAY"));
+    }
+
+    /**
+     * Asks for the security context before a login registered in the request context, as a
+     * pre-matching filter does before Helidon Security runs.
+     */
+    @PreMatching
+    static class LateLoginFilter implements ContainerRequestFilter {
+
+        @Context
+        private SecurityContext security;
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            String user = requestContext.getHeaderString("X-Late-User");
+            if (user == null) {
+                return;
+            }
+            CoverageTracker.record("provider.before.user",
+                    security.getUserPrincipal() == null ? null : security.getUserPrincipal().getName());
+            Contexts.context().orElseThrow().register(new LateLogin(user));
+        }
+    }
+
+    static class SecurityRecordingFilter implements ContainerRequestFilter {
+
+        @Context
+        private SecurityContext security;
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            if (requestContext.getHeaderString("X-Check-Security") == null) {
+                return;
+            }
+            CoverageTracker.record("provider.user",
+                    security.getUserPrincipal() == null ? null : security.getUserPrincipal().getName());
+            CoverageTracker.record("provider.scheme", security.getAuthenticationScheme());
+            CoverageTracker.record("provider.admin", String.valueOf(security.isUserInRole("admin")));
+            CoverageTracker.record("provider.request.scheme",
+                    requestContext.getSecurityContext().getAuthenticationScheme());
+        }
+    }
+
+    private record LateLogin(String user) {
+    }
+
+    private record GatewaySecurityContext(String user) implements SecurityContext {
+
+        @Override
+        public Principal getUserPrincipal() {
+            return Identity.of(user);
+        }
+
+        @Override
+        public boolean isUserInRole(String role) {
+            return false;
+        }
+
+        @Override
+        public boolean isSecure() {
+            return false;
+        }
+
+        @Override
+        public String getAuthenticationScheme() {
+            return "GATEWAY";
+        }
+    }
+}
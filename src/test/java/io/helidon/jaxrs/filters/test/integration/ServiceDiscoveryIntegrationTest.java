@@ -0,0 +1,99 @@
+package io.helidon.jaxrs.filters.test.integration;
+
+import io.helidon.jaxrs.filters.JaxRsFilterOptions;
+import io.helidon.jaxrs.filters.JaxRsFilterSupport;
+import io.helidon.jaxrs.filters.test.util.FilterOrderTracker;
+import io.helidon.webclient.api.WebClient;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+/**
+ * Integration tests for providers that the generated registry does not cover, as contributed by
+ * another jar compiled without the registry processor.
+ */
+@ServerTest
+class ServiceDiscoveryIntegrationTest {
+
+    private final WebClient client;
+
+    ServiceDiscoveryIntegrationTest(WebClient client) {
+        this.client = client;
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder routing) {
+        JaxRsFilterSupport.register(routing, otherJar(), JaxRsFilterOptions.create());
+        routing.get("/plain", (req, res) -> res.send("plain"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        FilterOrderTracker.clear();
+    }
+
+    @Test
+    @DisplayName("Discovered providers are merged into the generated chains by priority")
+    void testUncoveredProviderMerged() {
+        client.get("/plain").requestEntity(String.class);
+
+        assertThat(FilterOrderTracker.getRequestFilterOrder(), contains(
+                "PreMatchingTestFilter",
+                "PreMatchingContextFilter:OK",
+                "Priority100Filter",
+                "OtherJarFilter",
+                "OrderTrackingFilter",
+                "Priority300Filter"));
+    }
+
+    /**
+     * Class loader that adds a service file for {@link OtherJarFilter} to the test class path.
+     */
+    static ClassLoader otherJar() {
+        try {
+            Path root = Files.createTempDirectory("other-jar");
+            Path services = Files.createDirectories(root.resolve("META-INF/services"));
+            Files.writeString(services.resolve(ContainerRequestFilter.class.getName()),
+                    OtherJarFilter.class.getName() + "\n");
+            root.toFile().deleteOnExit();
+            return new URLClassLoader(new URL[] {root.toUri().toURL()},
+                    ServiceDiscoveryIntegrationTest.class.getClassLoader());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Filter that is only registered in the service file of {@link #otherJar()}.
+     */
+    @Priority(150)
+    public static class OtherJarFilter implements ContainerRequestFilter {
+
+        /**
+         * Create the filter.
+         */
+        public OtherJarFilter() {
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            FilterOrderTracker.recordRequestFilter("OtherJarFilter");
+        }
+    }
+}
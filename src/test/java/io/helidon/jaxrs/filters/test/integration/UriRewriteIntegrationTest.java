@@ -0,0 +1,91 @@
+package io.helidon.jaxrs.filters.test.integration;
+
+import io.helidon.jaxrs.filters.JaxRsFilterSupport;
+import io.helidon.jaxrs.filters.test.util.CoverageTracker;
+import io.helidon.webclient.api.WebClient;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.UriInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Integration tests for {@code @Context UriInfo} after a pre-matching filter rewrote the request URI.
+ */
+@ServerTest
+class UriRewriteIntegrationTest {
+
+    private final WebClient client;
+
+    UriRewriteIntegrationTest(WebClient client) {
+        this.client = client;
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder routing) {
+        JaxRsFilterSupport.register(routing, List.of(new RewriteFilter(), new UriRecordingFilter()));
+        routing.get("/rewritten", (req, res) -> res.send("ok"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        CoverageTracker.clear();
+    }
+
+    @Test
+    @DisplayName("Values read before a URI rewrite are not served after it")
+    void testRewriteAfterRead() {
+        var response = client.get().uri(URI.create("/original/path?x=1")).request();
+
+        assertThat(response.status().code(), is(200));
+        assertThat(CoverageTracker.value("rewrite.before.path"), is("/original/path"));
+        assertThat(CoverageTracker.value("rewrite.before.x"), is("1"));
+        assertThat(CoverageTracker.value("rewrite.after.path"), is("/rewritten"));
+        assertThat(CoverageTracker.value("rewrite.after.absolutePath"), is("/rewritten"));
+        assertThat(CoverageTracker.value("rewrite.after.segments"), is("1"));
+        assertThat(CoverageTracker.value("rewrite.after.x"), is("2"));
+    }
+
+    @PreMatching
+    @Priority(100)
+    static class RewriteFilter implements ContainerRequestFilter {
+        @Context
+        UriInfo uriInfo;
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            // Computed and kept by the request's UriInfo before the rewrite
+            CoverageTracker.record("rewrite.before.path", uriInfo.getRequestUri().getPath());
+            CoverageTracker.record("rewrite.before.x", uriInfo.getQueryParameters().getFirst("x"));
+            uriInfo.getAbsolutePath();
+            uriInfo.getPathSegments();
+            requestContext.setRequestUri(URI.create("http://localhost/rewritten?x=2"));
+        }
+    }
+
+    static class UriRecordingFilter implements ContainerRequestFilter {
+        @Context
+        UriInfo uriInfo;
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            CoverageTracker.record("rewrite.after.path", uriInfo.getRequestUri().getPath());
+            CoverageTracker.record("rewrite.after.absolutePath", uriInfo.getAbsolutePath().getPath());
+            CoverageTracker.record("rewrite.after.segments", String.valueOf(uriInfo.getPathSegments().size()));
+            CoverageTracker.record("rewrite.after.x", uriInfo.getQueryParameters().getFirst("x"));
+        }
+    }
+}
@@ -3,6 +3,7 @@ package io.helidon.jaxrs.filters.test.unit;
 import io.helidon.common.context.Context;
 import io.helidon.common.context.Contexts;
 import io.helidon.jaxrs.filters.HttpHeadersProxy;
+import io.helidon.jaxrs.filters.RequestScope;
 import io.helidon.jaxrs.filters.ResourceInfoProxy;
 import io.helidon.jaxrs.filters.SecurityContextProxy;
 import io.helidon.jaxrs.filters.SimpleRuntimeDelegate;
@@ -115,6 +116,22 @@ class ContextProxyTest {
         });
     }
 
+    @Test
+    void testProxyResolvesFromRequestScope() {
+        Context ctx = Context.create();
+        // Views are created lazily, so a scope without a request works as long as each used view is set
+        RequestScope scope = new RequestScope(null);
+        scope.uriInfo(new TestUriInfo());
+        ctx.register(RequestScope.class, scope);
+        ctx.register(ResourceInfo.class, new TestResourceInfo());
+
+        Contexts.runInContext(ctx, () -> {
+            assertThat(UriInfoProxy.INSTANCE.getPath(), is("path"));
+            // No resource info in the scope yet, falls back to the directly registered one
+            assertThat(ResourceInfoProxy.INSTANCE.getResourceClass().getName(), is(ContextProxyTest.class.getName()));
+        });
+    }
+
     @Test
     void testProxyWithoutContextThrows() {
         assertThrows(IllegalStateException.class, () -> UriInfoProxy.INSTANCE.getPath());
@@ -1,5 +1,8 @@
 package io.helidon.jaxrs.filters.test.unit;
 
+import io.helidon.jaxrs.filters.CompiledFilterChain;
+import io.helidon.jaxrs.filters.ContextInjector;
+import io.helidon.jaxrs.filters.ContextInjectorRegistry;
 import io.helidon.jaxrs.filters.FilterContext;
 import io.helidon.jaxrs.filters.HttpHeadersProxy;
 import io.helidon.jaxrs.filters.ResourceInfoProxy;
@@ -15,9 +18,19 @@ import jakarta.ws.rs.core.UriInfo;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 
@@ -35,6 +48,36 @@ class FilterContextTest {
         assertThat(bound.matches(Set.of("other")), is(false));
     }
 
+    @Test
+    void testCompileDropsUnmatchedFilters() {
+        NoOpFilter first = new NoOpFilter();
+        NoOpFilter bound = new NoOpFilter();
+        NoOpFilter last = new NoOpFilter();
+        FilterContext filterContext = new FilterContext();
+        filterContext.addRequestFilter(first);
+        filterContext.addRequestFilter(bound, Set.of("binding"));
+        filterContext.addRequestFilter(last);
+
+        CompiledFilterChain chain = filterContext.compile(Set.of());
+        assertThat(chain.requestFilters(), contains(first, last));
+        assertThat(chain.responseFilters(), empty());
+        assertThat(chain.isEmpty(), is(false));
+
+        assertThat(filterContext.compile(Set.of("binding")).requestFilters(), contains(first, bound, last));
+
+        // Later registrations do not change a compiled chain
+        filterContext.addRequestFilter(new NoOpFilter());
+        assertThat(chain.requestFilters(), contains(first, last));
+    }
+
+    @Test
+    void testCompileOnlyBoundFilters() {
+        FilterContext filterContext = new FilterContext();
+        filterContext.addRequestFilter(new NoOpFilter(), Set.of("binding"));
+
+        assertThat(filterContext.compile(Set.of()).isEmpty(), is(true));
+    }
+
     @Test
     void testContextInjection() {
         FilterContext.clearFieldCache();
@@ -48,6 +91,47 @@ class FilterContextTest {
         assertThat(filter.resourceInfo, is(ResourceInfoProxy.INSTANCE));
     }
 
+    @Test
+    void testGeneratedContextInjection() {
+        FilterContext.clearFieldCache();
+
+        GeneratedContextFilter filter = new GeneratedContextFilter();
+        FilterContext.injectContextProxies(filter);
+
+        assertThat(filter.uriInfo, is(UriInfoProxy.INSTANCE));
+        assertThat(filter.httpHeaders, is(HttpHeadersProxy.INSTANCE));
+        assertThat(filter.securityContext, is(SecurityContextProxy.INSTANCE));
+        assertThat(filter.resourceInfo, is(ResourceInfoProxy.INSTANCE));
+    }
+
+    @Test
+    void testInjectorRegistry() {
+        Map<Class<?>, ContextInjector<?>> injectors = new HashMap<>();
+        for (ContextInjectorRegistry registry : ServiceLoader.load(ContextInjectorRegistry.class)) {
+            injectors.putAll(registry.injectors());
+        }
+
+        assertThat(injectors.get(GeneratedContextFilter.class).getClass().getName(),
+                is(GeneratedContextFilter.class.getName().replace('$', '_') + ContextInjector.CLASS_SUFFIX));
+        // No-op injector for a filter without @Context fields
+        assertThat(injectors.get(PlainFilter.class), notNullValue());
+        // Private classes cannot be named by generated code
+        assertThat(injectors.containsKey(ContextFieldFilter.class), is(false));
+    }
+
+    @Test
+    void testInjectorRegistriesScannedOncePerLoader() throws Exception {
+        ScanCountingLoader loader = new ScanCountingLoader(Set.of(NoOpFilter.class.getName(),
+                                                                  NoContextFilter.class.getName()));
+
+        // Neither class has a generated injector, so each is a cache miss
+        FilterContext.injectContextProxies(loader.newInstance(NoOpFilter.class));
+        FilterContext.injectContextProxies(loader.newInstance(NoContextFilter.class));
+        FilterContext.injectContextProxies(loader.newInstance(NoOpFilter.class));
+
+        assertThat(loader.scans(), is(1));
+    }
+
     @Test
     void testContextInjectionNoField() {
         FilterContext.clearFieldCache();
@@ -59,6 +143,54 @@ class FilterContextTest {
         assertThat(filter.marker, notNullValue());
     }
 
+    // Defines the named classes itself and counts the lookups of generated injector registries
+    private static final class ScanCountingLoader extends ClassLoader {
+        private final Set<String> names;
+        private final AtomicInteger scans = new AtomicInteger();
+
+        ScanCountingLoader(Set<String> names) {
+            super(FilterContextTest.class.getClassLoader());
+            this.names = names;
+        }
+
+        Object newInstance(Class<?> type) throws ReflectiveOperationException {
+            Constructor<?> constructor = loadClass(type.getName()).getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        }
+
+        int scans() {
+            return scans.get();
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            if (name.equals("META-INF/services/" + ContextInjectorRegistry.class.getName())) {
+                scans.incrementAndGet();
+            }
+            return super.getResources(name);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!names.contains(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    byte[] bytes = in.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
+
     private static final class NoOpFilter implements ContainerRequestFilter {
         @Override
         public void filter(ContainerRequestContext requestContext) throws IOException {
@@ -87,6 +219,29 @@ class FilterContextTest {
         public void filter(ContainerRequestContext requestContext) throws IOException {
         }
     }
+
+    // No @Context fields, registered with a no-op injector at test compile time
+    static final class PlainFilter implements ContainerRequestFilter {
+        @Override
+        public void filter(ContainerRequestContext requestContext) throws IOException {
+        }
+    }
+
+    // Package-private fields, assigned by an injector generated at test compile time
+    static final class GeneratedContextFilter implements ContainerRequestFilter {
+        @Context
+        UriInfo uriInfo;
+        @Context
+        HttpHeaders httpHeaders;
+        @Context
+        SecurityContext securityContext;
+        @Context
+        ResourceInfo resourceInfo;
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) throws IOException {
+        }
+    }
 }
 
 
@@ -0,0 +1,105 @@
+package io.helidon.jaxrs.filters.test.unit;
+
+import io.helidon.jaxrs.filters.FilterRegistry;
+import io.helidon.jaxrs.filters.test.filter.AuditBinding;
+import io.helidon.jaxrs.filters.test.filter.AuditFilter;
+import io.helidon.jaxrs.filters.test.filter.Priority100Filter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Verifies the registry generated from the test service files at build time.
+ */
+class FilterRegistryTest {
+
+    @Test
+    void testGeneratedChainsAreSorted() throws Exception {
+        FilterRegistry.Chains chains = generatedRegistry().chains();
+
+        assertThat(names(chains.preMatching()), contains(
+                "PreMatchingTestFilter",
+                "PreMatchingCoverageFilter",
+                "PreMatchingContextFilter"));
+        assertThat(names(chains.request()), contains(
+                "Priority100Filter",
+                "RequestCoverageFilter",
+                "AbortFilter",
+                "OrderTrackingFilter",
+                "AuditFilter",
+                "Priority300Filter"));
+        assertThat(names(chains.response()), contains(
+                "Priority300Filter",
+                "AuditFilter",
+                "OrderTrackingFilter",
+                "ResponseCoverageFilter",
+                "Priority100Filter"));
+    }
+
+    @Test
+    void testGeneratedInterceptorChainsAreSorted() throws Exception {
+        FilterRegistry.Chains chains = generatedRegistry().chains();
+
+        assertThat(names(chains.reader()), contains(
+                "Priority100Interceptor",
+                "StreamWrappingInterceptor"));
+        assertThat(names(chains.writer()), contains(
+                "Priority100Interceptor",
+                "StreamWrappingInterceptor"));
+        assertThat(chains.reader().getFirst().provider(), sameInstance(chains.writer().getFirst().provider()));
+    }
+
+    @Test
+    void testGeneratedPrioritiesAndBindings() throws Exception {
+        FilterRegistry.Chains chains = generatedRegistry().chains();
+
+        FilterRegistry.Entry<?> audit = chains.request().stream()
+                .filter(entry -> entry.provider() instanceof AuditFilter)
+                .findFirst()
+                .orElseThrow();
+        assertThat(audit.priority(), is(250));
+        assertThat(audit.bindings(), is(Set.of(AuditBinding.class.getName())));
+
+        FilterRegistry.Entry<?> first = chains.request().getFirst();
+        assertThat(first.priority(), is(100));
+        assertThat(first.bindings(), is(Set.of()));
+    }
+
+    @Test
+    void testProviderSharedAcrossChains() throws Exception {
+        FilterRegistry.Chains chains = generatedRegistry().chains();
+
+        Object requestSide = chains.request().getFirst().provider();
+        Object responseSide = chains.response().getLast().provider();
+        assertThat(requestSide instanceof Priority100Filter, is(true));
+        assertThat(responseSide, sameInstance(requestSide));
+    }
+
+    @Test
+    void testRegistryNamedAfterModulePackage() {
+        // Named after the package of the first provider, AbortFilter, so modules do not clash
+        assertThat(generatedRegistry().getClass().getName(),
+                is(AuditFilter.class.getPackageName() + ".JaxRsFilterRegistry"));
+    }
+
+    private static FilterRegistry generatedRegistry() {
+        List<FilterRegistry> registries = ServiceLoader.load(FilterRegistry.class).stream()
+                .map(ServiceLoader.Provider::get)
+                .toList();
+        assertThat(registries.size(), is(1));
+        return registries.getFirst();
+    }
+
+    private static List<String> names(List<? extends FilterRegistry.Entry<?>> entries) {
+        return entries.stream()
+                .map(entry -> entry.provider().getClass().getSimpleName())
+                .toList();
+    }
+}
@@ -0,0 +1,48 @@
+package io.helidon.jaxrs.filters.test.unit;
+
+import io.helidon.jaxrs.filters.SimpleRuntimeDelegate;
+import jakarta.ws.rs.ext.RuntimeDelegate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Date;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class HttpDateTest {
+
+    private static final Date EXPECTED = new Date(784111777000L);
+
+    private RuntimeDelegate.HeaderDelegate<Date> delegate;
+
+    @BeforeEach
+    void setUp() {
+        SimpleRuntimeDelegate.init();
+        delegate = RuntimeDelegate.getInstance().createHeaderDelegate(Date.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "Sun, 06 Nov 1994 08:49:37 GMT",
+            "Sunday, 06-Nov-94 08:49:37 GMT",
+            "Sun Nov  6 08:49:37 1994"
+    })
+    void testParsesAllFormats(String value) {
+        assertThat(delegate.fromString(value), is(EXPECTED));
+    }
+
+    @Test
+    void testInvalidDate() {
+        assertThat(delegate.fromString("yesterday"), is(nullValue()));
+    }
+
+    @Test
+    void testFormatsImfFixdate() {
+        assertThat(delegate.toString(new Date(784111777999L)), is("Sun, 06 Nov 1994 08:49:37 GMT"));
+        assertThat(delegate.toString(new Date(3000L)), is("Thu, 01 Jan 1970 00:00:03 GMT"));
+    }
+}
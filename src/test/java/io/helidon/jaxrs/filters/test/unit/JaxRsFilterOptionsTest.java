@@ -0,0 +1,88 @@
+package io.helidon.jaxrs.filters.test.unit;
+
+import io.helidon.jaxrs.filters.JaxRsFilterOptions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JaxRsFilterOptionsTest {
+
+    @Test
+    void testDefaults() {
+        JaxRsFilterOptions options = JaxRsFilterOptions.create();
+
+        assertThat(options.fused(), is(false));
+        assertThat(options.contextPropagation(), is(JaxRsFilterOptions.ContextPropagation.CONTEXTS));
+        assertThat(options.replayableEntity(), is(false));
+        assertThat(options.entityMemoryLimit(), is(64 * 1024));
+        assertThat(options.maxEntitySize(), is(10L * 1024 * 1024));
+        assertThat(options.credentialVerifier(), is(nullValue()));
+        assertThat(options.credentialCacheSize(), is(1024));
+        assertThat(options.credentialCacheTtl(), is(Duration.ofMinutes(5)));
+        assertThat(options.jwkSet(), is(nullValue()));
+        assertThat(options.jwtCacheSize(), is(1024));
+        assertThat(options.securityContextProvider(), is(nullValue()));
+        assertThat(options.clientCertificateAuth(), is(false));
+        assertThat(options.generatedRegistriesOnly(), is(false));
+    }
+
+    @Test
+    void testBuilder() {
+        JaxRsFilterOptions options = JaxRsFilterOptions.builder()
+                .fused(true)
+                .contextPropagation(JaxRsFilterOptions.ContextPropagation.SCOPED_VALUE)
+                .replayableEntity(true)
+                .entityMemoryLimit(1024)
+                .maxEntitySize(4096)
+                .credentialCacheSize(16)
+                .credentialCacheTtl(Duration.ofSeconds(30))
+                .jwtIssuer("https://issuer")
+                .jwtAudience("orders")
+                .jwtCacheSize(8)
+                .clientCertificateAuth(true)
+                .generatedRegistriesOnly(true)
+                .build();
+
+        assertThat(options.fused(), is(true));
+        assertThat(options.contextPropagation(), is(JaxRsFilterOptions.ContextPropagation.SCOPED_VALUE));
+        assertThat(options.replayableEntity(), is(true));
+        assertThat(options.entityMemoryLimit(), is(1024));
+        assertThat(options.maxEntitySize(), is(4096L));
+        assertThat(options.credentialCacheSize(), is(16));
+        assertThat(options.credentialCacheTtl(), is(Duration.ofSeconds(30)));
+        assertThat(options.jwtIssuer(), is("https://issuer"));
+        assertThat(options.jwtAudience(), is("orders"));
+        assertThat(options.jwtCacheSize(), is(8));
+        assertThat(options.clientCertificateAuth(), is(true));
+        assertThat(options.generatedRegistriesOnly(), is(true));
+    }
+
+    @Test
+    void testNullPropagationRejected() {
+        assertThrows(NullPointerException.class,
+                () -> JaxRsFilterOptions.builder().contextPropagation(null));
+    }
+
+    @Test
+    void testNegativeEntityMemoryLimitRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> JaxRsFilterOptions.builder().entityMemoryLimit(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> JaxRsFilterOptions.builder().maxEntitySize(-1));
+    }
+
+    @Test
+    void testInvalidCredentialCacheRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> JaxRsFilterOptions.builder().credentialCacheSize(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> JaxRsFilterOptions.builder().credentialCacheTtl(Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> JaxRsFilterOptions.builder().jwtCacheSize(-1));
+    }
+}
@@ -0,0 +1,73 @@
+package io.helidon.jaxrs.filters.test.unit;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.http.WritableHeaders;
+import io.helidon.jaxrs.filters.HelidonContainerResponseContext;
+import jakarta.ws.rs.core.MultivaluedMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class ResponseHeadersTest {
+
+    @Test
+    void testChangesWriteThrough() {
+        WritableHeaders<?> helidon = WritableHeaders.create();
+        helidon.add(HeaderNames.create("X-Existing"), "from-handler");
+        HelidonContainerResponseContext context = new HelidonContainerResponseContext(200, null, helidon);
+
+        context.getHeaders().add("x-existing", "from-filter");
+        context.getStringHeaders().add("X-String", "value");
+        context.getHeaders().putSingle("X-Number", 42);
+
+        assertThat(helidon.all(HeaderNames.create("X-Existing"), List::of), is(List.of("from-handler", "from-filter")));
+        assertThat(helidon.first(HeaderNames.create("X-String")).orElse(null), is("value"));
+        assertThat(helidon.first(HeaderNames.create("X-Number")).orElse(null), is("42"));
+        assertThat(context.getHeaderString("X-EXISTING"), is("from-handler,from-filter"));
+    }
+
+    @Test
+    void testValueObjectsKept() {
+        WritableHeaders<?> helidon = WritableHeaders.create();
+        HelidonContainerResponseContext context = new HelidonContainerResponseContext(200, null, helidon);
+
+        context.getHeaders().add("X-Number", 1);
+        context.getHeaders().get("X-Number").add(2);
+
+        assertThat(context.getHeaders().get("x-number"), is(List.of(1, 2)));
+        assertThat(context.getStringHeaders().get("x-number"), is(List.of("1", "2")));
+    }
+
+    @Test
+    void testRemoveAndClear() {
+        WritableHeaders<?> helidon = WritableHeaders.create();
+        helidon.add(HeaderNames.create("X-One"), "1");
+        helidon.add(HeaderNames.create("X-Two"), "2");
+        HelidonContainerResponseContext context = new HelidonContainerResponseContext(200, null, helidon);
+        MultivaluedMap<String, Object> headers = context.getHeaders();
+
+        headers.remove("x-one");
+        assertThat(helidon.contains(HeaderNames.create("X-One")), is(false));
+        assertThat(headers.size(), is(1));
+
+        headers.clear();
+        assertThat(helidon.size(), is(0));
+        assertThat(context.getHeaderString("X-Two"), is(nullValue()));
+    }
+
+    @Test
+    void testDatesWrittenAsHttpDates() {
+        WritableHeaders<?> helidon = WritableHeaders.create();
+        HelidonContainerResponseContext context = new HelidonContainerResponseContext(200, null, helidon);
+
+        context.getHeaders().putSingle("Last-Modified", new Date(784111777123L));
+
+        assertThat(helidon.first(HeaderNames.create("Last-Modified")).orElse(null), is("Sun, 06 Nov 1994 08:49:37 GMT"));
+        assertThat(context.getLastModified(), is(new Date(784111777000L)));
+    }
+}